@@ -0,0 +1,38 @@
+package com.toy.payment.app.admission.controller;
+
+import com.toy.payment.app.admission.dto.AdmissionStatusResponse;
+import com.toy.payment.app.admission.service.AdmissionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class AdmissionController {
+
+    private final AdmissionService admissionService;
+
+    /**
+     * 대기열 등록 → 토큰과 현재 순위
+     */
+    @PostMapping("/api/admission/{productId}")
+    public ResponseEntity<AdmissionStatusResponse> enqueue(@PathVariable Long productId) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(admissionService.enqueue(productId));
+    }
+
+    /**
+     * 대기 순위 조회 (폴링, pollAfterMs 간격 권장)
+     */
+    @GetMapping("/api/admission/{productId}/{token}")
+    public ResponseEntity<AdmissionStatusResponse> status(@PathVariable Long productId, @PathVariable String token) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(admissionService.status(productId, token));
+    }
+}
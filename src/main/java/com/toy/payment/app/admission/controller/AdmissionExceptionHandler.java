@@ -0,0 +1,25 @@
+package com.toy.payment.app.admission.controller;
+
+import com.toy.payment.app.admission.service.AdmissionService.AdmissionRequiredException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 대기열 예외 응답 변환
+ */
+@Slf4j
+@RestControllerAdvice
+public class AdmissionExceptionHandler {
+
+    /**
+     * 입장 허가 없음/만료/이미 사용 → 403 (대기열 등록부터 다시)
+     */
+    @ExceptionHandler(AdmissionRequiredException.class)
+    public ResponseEntity<String> handleAdmissionRequired(AdmissionRequiredException e) {
+        log.info("Admission required: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body("ADMISSION_REQUIRED");
+    }
+}
@@ -0,0 +1,36 @@
+package com.toy.payment.app.admission.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 대기열 상태 응답
+ *
+ * position은 1부터 시작 (WAITING일 때만), pollAfterMs는 다음 조회까지 권장 대기 시간
+ */
+@Getter
+@AllArgsConstructor
+public class AdmissionStatusResponse {
+
+    private String token;
+    private Status status;
+    private Long position;
+    private Long estimatedWaitSeconds;
+    private Long pollAfterMs;
+
+    public enum Status {
+        WAITING,
+        ADMITTED,
+        SOLD_OUT,
+        NOT_FOUND
+    }
+
+    public static AdmissionStatusResponse waiting(String token, long position, long estimatedWaitSeconds,
+            long pollAfterMs) {
+        return new AdmissionStatusResponse(token, Status.WAITING, position, estimatedWaitSeconds, pollAfterMs);
+    }
+
+    public static AdmissionStatusResponse of(String token, Status status) {
+        return new AdmissionStatusResponse(token, status, null, null, null);
+    }
+}
@@ -0,0 +1,214 @@
+package com.toy.payment.app.admission.service;
+
+import com.toy.payment.app.admission.dto.AdmissionStatusResponse;
+import com.toy.payment.app.stock.service.SoldOutRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 한정 판매 대기열 (Admission Queue)
+ *
+ * <h2>동작 흐름</h2>
+ *
+ * <pre>
+ * 1. 입장 요청 → 발급 순번(INCR)을 점수로 ZSET에 토큰 등록, 현재 순위 반환
+ * 2. AdmissionWorker가 tick마다 rate-per-second 비율로 앞에서부터 꺼내 입장 허가 키(TTL) 생성
+ *    - 여러 노드가 떠 있어도 tick 락으로 한 노드만 꺼냄 (클러스터 전체 입장 속도 = rate-per-second)
+ * 3. 클라이언트는 상태 API(ZRANK/EXISTS 1~2회)로 순위를 폴링하다가 ADMITTED가 되면 X-Admission-Token으로 주문
+ * 4. 주문 시 입장 허가 키를 원자적으로 삭제(1회용), 주문 생성이 실패하면 되돌림
+ * </pre>
+ *
+ * admission.product-ids에 지정한 상품만 대기열을 거친다. 키는 상품 단위 해시 태그({productId})로 묶는다.
+ */
+@Slf4j
+@Service
+public class AdmissionService {
+
+    public static final String TOKEN_HEADER = "X-Admission-Token";
+
+    // 발급 순번 증가 + 대기열 등록 + 키 만료 갱신을 한 번에 (왕복 1회)
+    private static final RedisScript<Long> ENQUEUE_SCRIPT = new DefaultRedisScript<>("""
+            local seq = redis.call('INCR', KEYS[1])
+            redis.call('ZADD', KEYS[2], seq, ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[2])
+            return redis.call('ZRANK', KEYS[2], ARGV[1])
+            """, Long.class);
+
+    // 앞에서 count명을 꺼내 입장 허가 키 생성 (꺼내기와 허가가 원자적이라 중간에 노드가 죽어도 유실 없음)
+    private static final RedisScript<Long> ADMIT_SCRIPT = new DefaultRedisScript<>("""
+            local popped = redis.call('ZPOPMIN', KEYS[1], ARGV[1])
+            for i = 1, #popped, 2 do
+                redis.call('SET', ARGV[2] .. popped[i], '1', 'EX', ARGV[3])
+            end
+            return #popped / 2
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SoldOutRegistry soldOutRegistry;
+    private final boolean enabled;
+    private final Set<Long> gatedProductIds;
+    private final int ratePerSecond;
+    private final long tickMillis;
+    private final Duration admittedTtl;
+    private final Duration queueTtl;
+
+    public AdmissionService(
+            RedisTemplate<String, String> redisTemplate,
+            SoldOutRegistry soldOutRegistry,
+            @Value("${admission.enabled:false}") boolean enabled,
+            @Value("${admission.product-ids:}") Set<Long> gatedProductIds,
+            @Value("${admission.rate-per-second:50}") int ratePerSecond,
+            @Value("${admission.tick-ms:1000}") long tickMillis,
+            @Value("${admission.admitted-ttl-seconds:300}") long admittedTtlSeconds,
+            @Value("${admission.queue-ttl-seconds:3600}") long queueTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.soldOutRegistry = soldOutRegistry;
+        this.enabled = enabled;
+        this.gatedProductIds = Set.copyOf(gatedProductIds);
+        this.ratePerSecond = ratePerSecond;
+        this.tickMillis = tickMillis;
+        this.admittedTtl = Duration.ofSeconds(admittedTtlSeconds);
+        this.queueTtl = Duration.ofSeconds(queueTtlSeconds);
+        log.info("[Admission] enabled: {}, products: {}, rate: {}/s", enabled, this.gatedProductIds, ratePerSecond);
+    }
+
+    /**
+     * 대기열 대상 상품 여부
+     */
+    public boolean isGated(Long productId) {
+        return enabled && productId != null && gatedProductIds.contains(productId);
+    }
+
+    public Set<Long> getGatedProductIds() {
+        return enabled ? gatedProductIds : Set.of();
+    }
+
+    /**
+     * 대기열 등록 (대상 상품이 아니면 바로 입장 가능, 품절이면 등록하지 않음)
+     */
+    public AdmissionStatusResponse enqueue(Long productId) {
+        if (!isGated(productId)) {
+            return AdmissionStatusResponse.of(null, AdmissionStatusResponse.Status.ADMITTED);
+        }
+        if (soldOutRegistry.isSoldOut(productId)) {
+            return AdmissionStatusResponse.of(null, AdmissionStatusResponse.Status.SOLD_OUT);
+        }
+
+        String token = UUID.randomUUID().toString();
+        Long rank = redisTemplate.execute(ENQUEUE_SCRIPT, List.of(seqKey(productId), queueKey(productId)),
+                token, String.valueOf(queueTtl.toSeconds()));
+        return waiting(token, rank != null ? rank : 0L);
+    }
+
+    /**
+     * 대기 순위 조회 (폴링용, Redis 명령 1~2회)
+     */
+    public AdmissionStatusResponse status(Long productId, String token) {
+        if (!isGated(productId)) {
+            return AdmissionStatusResponse.of(token, AdmissionStatusResponse.Status.ADMITTED);
+        }
+        if (soldOutRegistry.isSoldOut(productId)) {
+            return AdmissionStatusResponse.of(token, AdmissionStatusResponse.Status.SOLD_OUT);
+        }
+
+        Long rank = redisTemplate.opsForZSet().rank(queueKey(productId), token);
+        if (rank != null) {
+            return waiting(token, rank);
+        }
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(admittedKey(productId, token)))) {
+            return AdmissionStatusResponse.of(token, AdmissionStatusResponse.Status.ADMITTED);
+        }
+        return AdmissionStatusResponse.of(token, AdmissionStatusResponse.Status.NOT_FOUND);
+    }
+
+    /**
+     * 입장 허가 사용 (1회용, 원자적 삭제)
+     *
+     * @throws AdmissionRequiredException 토큰 없음/미입장/만료/이미 사용
+     */
+    public void consume(Long productId, String token) {
+        if (token == null || token.isBlank()
+                || !Boolean.TRUE.equals(redisTemplate.delete(admittedKey(productId, token)))) {
+            throw new AdmissionRequiredException("Admission required for product: " + productId);
+        }
+    }
+
+    /**
+     * 주문 생성 실패 시 입장 허가 되돌리기 (같은 토큰으로 재시도 가능)
+     */
+    public void restore(Long productId, String token) {
+        try {
+            redisTemplate.opsForValue().set(admittedKey(productId, token), "1", admittedTtl);
+        } catch (Exception e) {
+            log.warn("[Admission] 입장 허가 복구 실패 - productId: {}, error: {}", productId, e.getMessage());
+        }
+    }
+
+    /**
+     * 대기열 앞에서 이번 tick 몫만큼 입장 허가 (클러스터에서 tick당 한 노드만 수행)
+     *
+     * @return 입장 허가한 인원
+     */
+    public long admitNext(Long productId) {
+        if (soldOutRegistry.isSoldOut(productId)) {
+            return 0;
+        }
+        Boolean leader = redisTemplate.opsForValue()
+                .setIfAbsent(tickKey(productId), "1", Duration.ofMillis(tickMillis));
+        if (!Boolean.TRUE.equals(leader)) {
+            return 0;
+        }
+
+        long batch = Math.max(1L, ratePerSecond * tickMillis / 1000);
+        Long admitted = redisTemplate.execute(ADMIT_SCRIPT, List.of(queueKey(productId)),
+                String.valueOf(batch), admittedKeyPrefix(productId), String.valueOf(admittedTtl.toSeconds()));
+        return admitted != null ? admitted : 0L;
+    }
+
+    private AdmissionStatusResponse waiting(String token, long rank) {
+        long position = rank + 1;
+        long waitSeconds = (position + ratePerSecond - 1) / ratePerSecond;
+        // 순번이 멀수록 덜 자주 폴링 (1~5초)
+        long pollAfterMs = Math.min(5_000L, Math.max(1_000L, waitSeconds * 1000 / 2));
+        return AdmissionStatusResponse.waiting(token, position, waitSeconds, pollAfterMs);
+    }
+
+    private static String queueKey(Long productId) {
+        return "admission:{" + productId + "}:queue";
+    }
+
+    private static String seqKey(Long productId) {
+        return "admission:{" + productId + "}:seq";
+    }
+
+    private static String tickKey(Long productId) {
+        return "admission:{" + productId + "}:tick";
+    }
+
+    private static String admittedKeyPrefix(Long productId) {
+        return "admission:{" + productId + "}:admitted:";
+    }
+
+    private static String admittedKey(Long productId, String token) {
+        return admittedKeyPrefix(productId) + token;
+    }
+
+    /**
+     * 입장 허가 없이 대기열 대상 상품을 주문한 경우
+     */
+    public static class AdmissionRequiredException extends RuntimeException {
+        public AdmissionRequiredException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.toy.payment.app.admission.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기열 입장 워커
+ *
+ * tick마다 대기열 대상 상품별로 rate-per-second 비율만큼 입장을 허가한다.
+ * 모든 노드에서 돌지만 tick 락으로 tick당 한 노드만 실제로 꺼낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "admission.enabled", havingValue = "true")
+public class AdmissionWorker {
+
+    private final AdmissionService admissionService;
+
+    @Scheduled(fixedDelayString = "${admission.tick-ms:1000}")
+    public void tick() {
+        for (Long productId : admissionService.getGatedProductIds()) {
+            try {
+                long admitted = admissionService.admitNext(productId);
+                if (admitted > 0) {
+                    log.debug("[Admission] 입장 허가 - productId: {}, admitted: {}", productId, admitted);
+                }
+            } catch (Exception e) {
+                log.warn("[Admission] 입장 처리 실패. 다음 tick에 재시도 - productId: {}, error: {}",
+                        productId, e.getMessage());
+            }
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.util.Optional;
  * <ul>
  * <li>idempotency_lock:{key} - 분산 락 (20초 TTL)</li>
  * <li>idempotency_result:{key} - 처리 결과 캐시 (24시간 TTL)</li>
+ * <li>idempotency_failure:{key} - 처리 실패 사유 (10분 TTL, 비동기 검증 상태 조회용)</li>
  * </ul>
  */
 @Service
@@ -34,8 +35,10 @@ public class IdempotencyService {
 
     private static final String LOCK_PREFIX = "idempotency_lock:";
     private static final String RESULT_PREFIX = "idempotency_result:";
+    private static final String FAILURE_PREFIX = "idempotency_failure:";
     private static final Duration LOCK_TTL = Duration.ofSeconds(20);
     private static final Duration RESULT_TTL = Duration.ofHours(24);
+    private static final Duration FAILURE_TTL = Duration.ofMinutes(10);
     private static final int MAX_RETRY = 10;
     private static final long RETRY_INTERVAL_MS = 500;
 
@@ -46,10 +49,25 @@ public class IdempotencyService {
      * @return 락 획득 성공 여부
      */
     public boolean tryAcquireLock(String idempotencyKey) {
+        return tryAcquireLock(idempotencyKey, LOCK_TTL);
+    }
+
+    /**
+     * 락 획득 시도 (TTL 지정)
+     * 
+     * <p>
+     * 비동기 검증처럼 큐 대기 시간이 포함되는 경우 기본 TTL보다 길게 잡는다.
+     * </p>
+     * 
+     * @param idempotencyKey 클라이언트가 전달한 고유 키
+     * @param lockTtl        락 TTL
+     * @return 락 획득 성공 여부
+     */
+    public boolean tryAcquireLock(String idempotencyKey, Duration lockTtl) {
         String lockKey = LOCK_PREFIX + idempotencyKey;
         // SET NX EX: 키가 없을 때만 설정 + TTL
         Boolean success = redisTemplate.opsForValue()
-                .setIfAbsent(lockKey, "locked", LOCK_TTL);
+                .setIfAbsent(lockKey, "locked", lockTtl);
 
         if (Boolean.TRUE.equals(success)) {
             log.info("Lock acquired for idempotency key: {}", idempotencyKey);
@@ -98,6 +116,51 @@ public class IdempotencyService {
         log.info("Result cached for idempotency key: {} with result: {}", idempotencyKey, result);
     }
 
+    /**
+     * 처리 실패 사유 기록 (비동기 검증 상태 조회용)
+     * 
+     * <p>
+     * 실패한 요청은 락이 해제되므로 같은 키로 재시도할 수 있다.
+     * </p>
+     * 
+     * @param idempotencyKey 클라이언트가 전달한 고유 키
+     * @param reason         실패 사유
+     */
+    public void cacheFailure(String idempotencyKey, String reason) {
+        String failureKey = FAILURE_PREFIX + idempotencyKey;
+        redisTemplate.opsForValue().set(failureKey, reason != null ? reason : "UNKNOWN", FAILURE_TTL);
+        log.info("Failure cached for idempotency key: {} with reason: {}", idempotencyKey, reason);
+    }
+
+    /**
+     * 기록된 실패 사유 확인
+     * 
+     * @param idempotencyKey 클라이언트가 전달한 고유 키
+     * @return 실패한 경우 사유, 아니면 empty
+     */
+    public Optional<String> getCachedFailure(String idempotencyKey) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(FAILURE_PREFIX + idempotencyKey));
+    }
+
+    /**
+     * 실패 사유 삭제 (재시도 시작 시)
+     * 
+     * @param idempotencyKey 클라이언트가 전달한 고유 키
+     */
+    public void clearFailure(String idempotencyKey) {
+        redisTemplate.delete(FAILURE_PREFIX + idempotencyKey);
+    }
+
+    /**
+     * 처리 중(락 보유) 여부
+     * 
+     * @param idempotencyKey 클라이언트가 전달한 고유 키
+     * @return 어떤 노드든 락을 잡고 처리 중이면 true
+     */
+    public boolean isProcessing(String idempotencyKey) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(LOCK_PREFIX + idempotencyKey));
+    }
+
     /**
      * 락 획득 대기 후 캐시된 결과 반환 (블로그 방식 핵심!)
      * 
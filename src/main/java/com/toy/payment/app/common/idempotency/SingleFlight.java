@@ -0,0 +1,103 @@
+package com.toy.payment.app.common.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 노드 내 중복 요청 병합 (Single-Flight)
+ *
+ * <h2>동작 흐름</h2>
+ *
+ * <pre>
+ * 1. 같은 키로 진행 중인 요청이 없으면 → 내가 leader, 실제 로직 실행
+ * 2. 진행 중인 요청이 있으면 → follower, 진행 중인 Future에 합류하여 같은 결과 수신
+ * 3. leader 완료 시 키 제거 (이후 요청은 Redis 캐시로 처리)
+ * </pre>
+ *
+ * 같은 노드로 들어온 더블클릭은 Redis까지 가지 않고 여기서 병합된다.
+ * Redis 분산 락은 노드 간 조정에만 사용된다.
+ */
+@Slf4j
+@Component
+public class SingleFlight {
+
+    // leader의 최대 처리 시간 (PG Read Timeout 30초 + 여유)
+    private static final Duration FOLLOWER_TIMEOUT = Duration.ofSeconds(40);
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 키 단위로 작업을 병합하여 실행
+     *
+     * @param key  병합 기준 키 (Idempotency-Key 등)
+     * @param task 실제 로직
+     * @return leader가 실행한 결과 (follower도 동일한 결과를 받음)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> task) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+
+        if (existing != null) {
+            log.info("Joined in-flight request for key: {}", key);
+            return (T) await(key, existing);
+        }
+
+        try {
+            T result = task.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 현재 처리 중인 키 여부
+     */
+    public boolean isInFlight(String key) {
+        return inFlight.containsKey(key);
+    }
+
+    private Object await(String key, CompletableFuture<Object> future) {
+        try {
+            return future.get(FOLLOWER_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // leader의 예외를 그대로 전파
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (TimeoutException e) {
+            log.warn("Timeout waiting for in-flight request: {}", key);
+            throw new InFlightTimeoutException("In-flight request timed out: " + key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InFlightTimeoutException("Interrupted while waiting for in-flight request: " + key);
+        }
+    }
+
+    /**
+     * 진행 중인 요청 대기 타임아웃 예외
+     */
+    public static class InFlightTimeoutException extends RuntimeException {
+        public InFlightTimeoutException(String message) {
+            super(message);
+        }
+    }
+}
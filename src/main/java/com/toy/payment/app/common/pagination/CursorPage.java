@@ -0,0 +1,57 @@
+package com.toy.payment.app.common.pagination;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(커서) 페이지 응답
+ *
+ * nextCursor는 마지막 항목의 ID를 문자열로 내려준다.
+ * Snowflake ID는 2^53을 넘으므로 JSON 숫자로 내려주면 JavaScript에서 정밀도가 깨진다.
+ */
+@Getter
+public class CursorPage<T> {
+
+    private final List<T> items;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    private CursorPage(List<T> items, boolean hasNext, String nextCursor) {
+        this.items = items;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * size + 1건을 조회한 결과로 페이지를 만든다. (초과분이 있으면 다음 페이지 존재)
+     *
+     * @param rows   최대 size + 1건의 조회 결과 (커서 정렬 순)
+     * @param size   페이지 크기
+     * @param idOf   행의 커서 값 (ID)
+     * @param mapper 응답 항목 변환
+     */
+    public static <R, T> CursorPage<T> of(List<R> rows, int size, Function<R, Long> idOf, Function<R, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<R> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? String.valueOf(idOf.apply(page.get(page.size() - 1))) : null;
+        return new CursorPage<>(page.stream().map(mapper).toList(), hasNext, nextCursor);
+    }
+
+    /**
+     * 커서 문자열 해석 (없으면 첫 페이지 = Long.MAX_VALUE 미만 전체)
+     *
+     * @throws IllegalArgumentException 숫자가 아닌 커서
+     */
+    public static long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
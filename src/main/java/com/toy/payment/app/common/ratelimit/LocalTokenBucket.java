@@ -0,0 +1,50 @@
+package com.toy.payment.app.common.ratelimit;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 노드 로컬 토큰 버킷
+ *
+ * capacity만큼 몰아서 허용하고, 이후에는 초당 refillPerSecond개씩 채워진다.
+ * 요청이 들어올 때 경과 시간만큼 한 번에 채우므로 별도 타이머가 없다.
+ */
+public class LocalTokenBucket {
+
+    private final long capacity;
+    private final double refillPerMillis;
+    private final LongSupplier clock;
+    private double tokens;
+    private long lastRefillAt;
+
+    public LocalTokenBucket(long capacity, double refillPerSecond) {
+        this(capacity, refillPerSecond, System::currentTimeMillis);
+    }
+
+    LocalTokenBucket(long capacity, double refillPerSecond, LongSupplier clock) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity and refillPerSecond must be positive");
+        }
+        this.capacity = capacity;
+        this.refillPerMillis = refillPerSecond / 1000.0;
+        this.clock = clock;
+        this.tokens = capacity;
+        this.lastRefillAt = clock.getAsLong();
+    }
+
+    /**
+     * 토큰 1개 사용
+     *
+     * @return 0이면 허용, 양수면 거절 (다음 토큰까지 남은 ms)
+     */
+    public synchronized long tryAcquire() {
+        long now = clock.getAsLong();
+        tokens = Math.min(capacity, tokens + Math.max(0L, now - lastRefillAt) * refillPerMillis);
+        lastRefillAt = now;
+
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0L;
+        }
+        return Math.max(1L, (long) Math.ceil((1 - tokens) / refillPerMillis));
+    }
+}
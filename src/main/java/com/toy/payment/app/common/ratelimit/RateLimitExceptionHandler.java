@@ -0,0 +1,29 @@
+package com.toy.payment.app.common.ratelimit;
+
+import com.toy.payment.app.common.ratelimit.RateLimiter.RateLimitExceededException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 요청 한도 초과 응답 변환
+ */
+@Slf4j
+@RestControllerAdvice
+public class RateLimitExceptionHandler {
+
+    /**
+     * 한도 초과 → 429 + Retry-After(초, 올림)
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<String> handleRateLimitExceeded(RateLimitExceededException e) {
+        long retryAfterSeconds = Math.max(1L, (e.getRetryAfterMillis() + 999) / 1000);
+        log.info("Rate limit exceeded - scope: {}, retryAfter: {}s", e.getScope(), retryAfterSeconds);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body("TOO_MANY_REQUESTS");
+    }
+}
@@ -0,0 +1,47 @@
+package com.toy.payment.app.common.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * 비싼 API 앞단 요청 제한 (IP 단위, 경로 변수나 파라미터에 productId가 있으면 상품 단위도)
+ *
+ * 회원 단위는 요청 본문을 읽어야 하므로 컨트롤러에서 확인한다.
+ * IP는 프록시 헤더(X-Forwarded-For)를 믿지 않고 접속 주소를 쓴다 (헤더 위조로 버킷을 바꿔 가며 우회하지 못하도록).
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimiter rateLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        rateLimiter.acquire(RateLimitScope.IP, request.getRemoteAddr());
+
+        String productId = productId(request);
+        if (productId != null && !productId.isBlank()) {
+            rateLimiter.acquire(RateLimitScope.PRODUCT, productId);
+        }
+        return true;
+    }
+
+    /**
+     * 경로 변수(/api/admission/{productId}) 우선, 없으면 쿼리 파라미터(?productId=)
+     */
+    @SuppressWarnings("unchecked")
+    private static String productId(HttpServletRequest request) {
+        Map<String, String> pathVariables = (Map<String, String>) request
+                .getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (pathVariables != null && pathVariables.containsKey("productId")) {
+            return pathVariables.get("productId");
+        }
+        return request.getParameter("productId");
+    }
+}
@@ -0,0 +1,10 @@
+package com.toy.payment.app.common.ratelimit;
+
+/**
+ * 요청 제한 단위 (버킷은 단위 + 식별자별로 하나)
+ */
+public enum RateLimitScope {
+    IP,
+    MEMBER,
+    PRODUCT
+}
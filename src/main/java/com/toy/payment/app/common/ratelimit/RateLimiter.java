@@ -0,0 +1,156 @@
+package com.toy.payment.app.common.ratelimit;
+
+import com.toy.payment.app.common.cache.LocalCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 토큰 버킷 요청 제한 (회원/IP/상품 단위)
+ *
+ * <h2>동작</h2>
+ *
+ * <pre>
+ * 1. 로컬 선행 버킷 확인 → 비어 있으면 Redis 없이 즉시 거절
+ * 2. Lua 스크립트 1회로 Redis 버킷 보충 + 차감 (왕복 1회, 클러스터 전체 한도)
+ * 3. 거절 시 다음 토큰까지 남은 시간을 담아 RateLimitExceededException → 429 + Retry-After
+ * </pre>
+ *
+ * 로컬 버킷은 Redis 버킷과 같은 용량/속도라서, 한 노드에서만 봐도 한도를 넘은 호출자(명백한 남용)만 걸러낸다.
+ * 로컬 버킷이 비었으면 같은 호출자의 Redis 버킷도 이미 비어 있으므로 결과는 같고 왕복만 줄어든다.
+ * Redis 장애 시에는 요청을 허용한다 (보호 장치가 주문/결제를 막지 않도록, 로컬 버킷은 계속 동작).
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    // 경과 시간만큼 보충 후 1개 차감, 시각은 Redis 서버 시간 사용 (노드 간 시계 차이 무관)
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1]) or capacity
+            local ts = tonumber(state[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000)
+            local retry = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+            else
+                retry = math.ceil((1 - tokens) * 1000 / rate)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity * 1000 / rate) + 1000)
+            return retry
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean enabled;
+    private final boolean localEnabled;
+    private final Map<RateLimitScope, Limit> limits = new EnumMap<>(RateLimitScope.class);
+    private final LocalCache<String, LocalTokenBucket> localBuckets;
+
+    public RateLimiter(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${rate-limit.enabled:false}") boolean enabled,
+            @Value("${rate-limit.local.enabled:true}") boolean localEnabled,
+            @Value("${rate-limit.local.max-keys:10000}") int localMaxKeys,
+            @Value("${rate-limit.ip.capacity:20}") long ipCapacity,
+            @Value("${rate-limit.ip.refill-per-second:10}") double ipRefillPerSecond,
+            @Value("${rate-limit.member.capacity:10}") long memberCapacity,
+            @Value("${rate-limit.member.refill-per-second:5}") double memberRefillPerSecond,
+            @Value("${rate-limit.product.capacity:500}") long productCapacity,
+            @Value("${rate-limit.product.refill-per-second:200}") double productRefillPerSecond) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.localEnabled = localEnabled;
+        limits.put(RateLimitScope.IP, new Limit(ipCapacity, ipRefillPerSecond));
+        limits.put(RateLimitScope.MEMBER, new Limit(memberCapacity, memberRefillPerSecond));
+        limits.put(RateLimitScope.PRODUCT, new Limit(productCapacity, productRefillPerSecond));
+        // 오래 요청이 없던 호출자의 버킷은 가득 찬 상태와 같으므로 버려도 된다
+        this.localBuckets = new LocalCache<>(localMaxKeys, 60_000L);
+        log.info("[RateLimit] enabled: {}, local: {}, limits: {}", enabled, localEnabled, limits);
+    }
+
+    /**
+     * 토큰 1개 사용
+     *
+     * @throws RateLimitExceededException 한도 초과
+     */
+    public void acquire(RateLimitScope scope, Object id) {
+        if (!enabled || id == null) {
+            return;
+        }
+        Limit limit = limits.get(scope);
+        String key = KEY_PREFIX + scope.name().toLowerCase() + ":" + id;
+
+        if (localEnabled) {
+            long retryAfterMillis = localBucket(key, limit).tryAcquire();
+            if (retryAfterMillis > 0) {
+                log.debug("[RateLimit] 로컬 버킷 거절 - key: {}", key);
+                throw new RateLimitExceededException(scope, retryAfterMillis);
+            }
+        }
+
+        long retryAfterMillis = acquireRemote(key, limit);
+        if (retryAfterMillis > 0) {
+            log.debug("[RateLimit] Redis 버킷 거절 - key: {}, retryAfterMs: {}", key, retryAfterMillis);
+            throw new RateLimitExceededException(scope, retryAfterMillis);
+        }
+    }
+
+    private long acquireRemote(String key, Limit limit) {
+        try {
+            Long retryAfterMillis = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(key),
+                    String.valueOf(limit.capacity()), String.valueOf(limit.refillPerSecond()));
+            return retryAfterMillis != null ? retryAfterMillis : 0L;
+        } catch (Exception e) {
+            log.warn("[RateLimit] Redis 확인 실패, 허용 - key: {}, error: {}", key, e.getMessage());
+            return 0L;
+        }
+    }
+
+    private LocalTokenBucket localBucket(String key, Limit limit) {
+        // 동시에 처음 들어온 요청이 버킷을 각자 만들 수 있지만, 하나만 남고 잠깐 느슨해질 뿐이다
+        LocalTokenBucket bucket = localBuckets.get(key)
+                .orElseGet(() -> new LocalTokenBucket(limit.capacity(), limit.refillPerSecond()));
+        // 사용할 때마다 TTL 연장 (계속 요청하는 호출자의 버킷이 만료되어 가득 찬 새 버킷으로 바뀌지 않도록)
+        localBuckets.put(key, bucket);
+        return bucket;
+    }
+
+    private record Limit(long capacity, double refillPerSecond) {
+    }
+
+    /**
+     * 요청 한도 초과
+     */
+    public static class RateLimitExceededException extends RuntimeException {
+        private final RateLimitScope scope;
+        private final long retryAfterMillis;
+
+        public RateLimitExceededException(RateLimitScope scope, long retryAfterMillis) {
+            super("Rate limit exceeded: " + scope + " (retry after " + retryAfterMillis + "ms)");
+            this.scope = scope;
+            this.retryAfterMillis = retryAfterMillis;
+        }
+
+        public RateLimitScope getScope() {
+            return scope;
+        }
+
+        public long getRetryAfterMillis() {
+            return retryAfterMillis;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.toy.payment.app.common.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 벌크헤드 (동시 호출 수 제한)
+ * 
+ * 외부 호출의 동시 실행 수를 maxConcurrentCalls로 제한한다.
+ * 슬롯이 없으면 maxWait만큼만 기다리고 거절하여,
+ * 외부 시스템이 느려져도 요청 스레드/DB 커넥션 전체가 묶이지 않도록 격리한다.
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrentCalls;
+    private final long maxWaitMillis;
+    private final Semaphore semaphore;
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public Bulkhead(String name, int maxConcurrentCalls, Duration maxWait) {
+        this.name = name;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitMillis = maxWait.toMillis();
+        this.semaphore = new Semaphore(maxConcurrentCalls, true);
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            rejectedCount.incrementAndGet();
+            throw new BulkheadFullException("Bulkhead '" + name + "' is full (max: " + maxConcurrentCalls + ")");
+        }
+
+        try {
+            return call.get();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    public int getAvailablePermits() {
+        return semaphore.availablePermits();
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /**
+     * 동시 호출 한도 초과로 거절된 경우
+     */
+    public static class BulkheadFullException extends RuntimeException {
+        public BulkheadFullException(String message) {
+            super(message);
+        }
+    }
+}
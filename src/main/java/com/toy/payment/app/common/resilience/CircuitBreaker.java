@@ -0,0 +1,206 @@
+package com.toy.payment.app.common.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 서킷 브레이커 (최근 N회 호출 기준)
+ * 
+ * <h2>상태 전이</h2>
+ * 
+ * <pre>
+ * CLOSED    → 최근 windowSize 호출 중 실패율 또는 지연 호출 비율이 임계치 이상 → OPEN
+ * OPEN      → openDuration 동안 모든 호출 즉시 거절 (외부 호출 없음)
+ * OPEN      → openDuration 경과 후 → HALF_OPEN
+ * HALF_OPEN → halfOpenCalls 만큼만 시험 호출 허용, 결과가 임계치 미만 → CLOSED, 이상 → OPEN
+ * </pre>
+ * 
+ * 외부 시스템 장애 시 스레드가 타임아웃까지 묶이지 않고 즉시 실패하도록 한다.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private final String name;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenCalls;
+
+    // 최근 호출 결과 (링 버퍼)
+    private final boolean[] failures;
+    private final boolean[] slows;
+    private int position;
+    private int recorded;
+    private int failureCount;
+    private int slowCount;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermitted;
+    private int halfOpenCompleted;
+    private int halfOpenFailures;
+    private long notPermittedCount;
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+            double slowCallRateThreshold, Duration slowCallDuration, Duration openDuration, int halfOpenCalls) {
+        this.name = name;
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallNanos = slowCallDuration.toNanos();
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.failures = new boolean[windowSize];
+        this.slows = new boolean[windowSize];
+    }
+
+    /**
+     * 서킷 브레이커를 거쳐 호출
+     * 
+     * @param call      외부 호출
+     * @param isFailure 실패로 집계할 예외 판별 (4xx 같은 정상 응답성 예외는 제외)
+     */
+    public <T> T execute(Supplier<T> call, Predicate<Throwable> isFailure) {
+        acquirePermission();
+
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            onComplete(System.nanoTime() - start, false);
+            return result;
+        } catch (RuntimeException | Error e) {
+            onComplete(System.nanoTime() - start, e instanceof Error || isFailure.test(e));
+            throw e;
+        }
+    }
+
+    private synchronized void acquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                notPermittedCount++;
+                throw new CircuitOpenException("Circuit '" + name + "' is OPEN");
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermitted >= halfOpenCalls) {
+                notPermittedCount++;
+                throw new CircuitOpenException("Circuit '" + name + "' is HALF_OPEN (trial calls in progress)");
+            }
+            halfOpenPermitted++;
+        }
+    }
+
+    private synchronized void onComplete(long elapsedNanos, boolean failed) {
+        boolean slow = elapsedNanos >= slowCallNanos;
+
+        if (state == State.HALF_OPEN) {
+            halfOpenCompleted++;
+            if (failed || slow) {
+                halfOpenFailures++;
+            }
+            if (halfOpenCompleted >= halfOpenCalls) {
+                double rate = (double) halfOpenFailures / halfOpenCompleted * 100;
+                transitionTo(rate >= Math.min(failureRateThreshold, slowCallRateThreshold) ? State.OPEN : State.CLOSED);
+            }
+            return;
+        }
+
+        if (state == State.OPEN) {
+            // OPEN 전환 이전에 시작된 호출의 결과는 무시
+            return;
+        }
+
+        record(failed, slow);
+        if (recorded >= minimumCalls
+                && (getFailureRate() >= failureRateThreshold || getSlowCallRate() >= slowCallRateThreshold)) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void record(boolean failed, boolean slow) {
+        if (recorded == windowSize) {
+            // 가장 오래된 결과를 밀어냄
+            if (failures[position]) {
+                failureCount--;
+            }
+            if (slows[position]) {
+                slowCount--;
+            }
+        } else {
+            recorded++;
+        }
+        failures[position] = failed;
+        slows[position] = slow;
+        if (failed) {
+            failureCount++;
+        }
+        if (slow) {
+            slowCount++;
+        }
+        position = (position + 1) % windowSize;
+    }
+
+    private void transitionTo(State newState) {
+        if (state == newState) {
+            return;
+        }
+        log.warn("[CircuitBreaker] '{}' {} → {} (failureRate: {}%, slowCallRate: {}%)",
+                name, state, newState, getFailureRate(), getSlowCallRate());
+        state = newState;
+
+        if (newState == State.OPEN) {
+            openedAt = System.nanoTime();
+        }
+        if (newState == State.HALF_OPEN) {
+            halfOpenPermitted = 0;
+            halfOpenCompleted = 0;
+            halfOpenFailures = 0;
+        }
+        if (newState == State.CLOSED) {
+            position = 0;
+            recorded = 0;
+            failureCount = 0;
+            slowCount = 0;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized double getFailureRate() {
+        return recorded == 0 ? 0 : (double) failureCount / recorded * 100;
+    }
+
+    public synchronized double getSlowCallRate() {
+        return recorded == 0 ? 0 : (double) slowCount / recorded * 100;
+    }
+
+    public synchronized long getNotPermittedCount() {
+        return notPermittedCount;
+    }
+
+    /**
+     * 서킷이 열려 호출이 거절된 경우
+     */
+    public static class CircuitOpenException extends RuntimeException {
+        public CircuitOpenException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.toy.payment.app.common.resilience;
+
+import java.util.Arrays;
+
+/**
+ * 최근 N개 응답 시간 기반 백분위 추적
+ * 
+ * 링 버퍼에 최근 windowSize개의 응답 시간을 보관하고, 백분위 값은 일정 기록 수마다 다시 계산하여 캐싱한다.
+ * 표본이 minimumSamples 미만이면 기본값을 반환한다.
+ */
+public class LatencyTracker {
+
+    private static final int RECOMPUTE_EVERY = 20;
+
+    private final long[] samples;
+    private final int minimumSamples;
+    private final double percentile;
+    private final long defaultMillis;
+
+    private int position;
+    private int recorded;
+    private int sinceRecompute;
+    private long cachedMillis;
+
+    public LatencyTracker(int windowSize, int minimumSamples, double percentile, long defaultMillis) {
+        this.samples = new long[windowSize];
+        this.minimumSamples = minimumSamples;
+        this.percentile = percentile;
+        this.defaultMillis = defaultMillis;
+        this.cachedMillis = defaultMillis;
+    }
+
+    public synchronized void record(long elapsedMillis) {
+        samples[position] = elapsedMillis;
+        position = (position + 1) % samples.length;
+        if (recorded < samples.length) {
+            recorded++;
+        }
+        if (++sinceRecompute >= RECOMPUTE_EVERY) {
+            sinceRecompute = 0;
+            cachedMillis = compute();
+        }
+    }
+
+    /**
+     * 현재 백분위 응답 시간 (ms)
+     */
+    public synchronized long getPercentileMillis() {
+        return cachedMillis;
+    }
+
+    private long compute() {
+        if (recorded < minimumSamples) {
+            return defaultMillis;
+        }
+        long[] sorted = Arrays.copyOf(samples, recorded);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100 * recorded) - 1;
+        return sorted[Math.max(0, Math.min(index, recorded - 1))];
+    }
+}
@@ -1,27 +1,130 @@
 package com.toy.payment.app.order.controller;
 
+import com.toy.payment.app.admission.service.AdmissionService;
+import com.toy.payment.app.admission.service.AdmissionService.AdmissionRequiredException;
+import com.toy.payment.app.common.pagination.CursorPage;
+import com.toy.payment.app.common.ratelimit.RateLimitScope;
+import com.toy.payment.app.common.ratelimit.RateLimiter;
+import com.toy.payment.app.order.dto.BulkOrderCreateRequest;
+import com.toy.payment.app.order.dto.BulkOrderMode;
+import com.toy.payment.app.order.dto.BulkOrderResponse;
 import com.toy.payment.app.order.dto.OrderCreateRequest;
+import com.toy.payment.app.order.dto.OrderHistoryResponse;
 import com.toy.payment.app.order.dto.OrderResponse;
 import com.toy.payment.app.order.service.OrderService;
 import com.toy.payment.domain.order.entity.Order;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+import java.util.Objects;
+
 @RestController
 @RequiredArgsConstructor
 public class OrderApiController {
 
     private final OrderService orderService;
+    private final AdmissionService admissionService;
+    private final RateLimiter rateLimiter;
+
+    /**
+     * 회원 주문 내역 (최신순, 키셋 페이지네이션)
+     *
+     * 다음 페이지는 응답의 nextCursor를 cursor로 넘겨 조회한다. 잘못된 커서는 400.
+     */
+    @GetMapping("/api/members/{memberId}/orders")
+    public ResponseEntity<CursorPage<OrderHistoryResponse>> getOrderHistory(
+            @PathVariable Long memberId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(orderService.getOrderHistory(memberId, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 
+    /**
+     * 주문 생성
+     *
+     * 대기열 대상 상품은 X-Admission-Token(입장 허가, 1회용)이 필요하다. 없거나 만료되면 403.
+     * 주문 생성이 실패하면 입장 허가를 되돌려 같은 토큰으로 다시 시도할 수 있다.
+     * 회원/상품 단위 요청 한도는 입장 허가를 쓰기 전에 확인한다 (429로 토큰이 소모되지 않도록).
+     */
     @PostMapping("/api/orders")
-    public ResponseEntity<OrderResponse> createOrder(@RequestBody OrderCreateRequest request) {
-        Order order = orderService.createOrder(
-                request.getMemberId(),
-                request.getProductId(),
-                request.getCount());
-        return ResponseEntity.ok(new OrderResponse(order));
+    public ResponseEntity<OrderResponse> createOrder(
+            @RequestHeader(value = AdmissionService.TOKEN_HEADER, required = false) String admissionToken,
+            @RequestBody OrderCreateRequest request) {
+        rateLimiter.acquire(RateLimitScope.MEMBER, request.getMemberId());
+        rateLimiter.acquire(RateLimitScope.PRODUCT, request.getProductId());
+
+        boolean gated = admissionService.isGated(request.getProductId());
+        if (gated) {
+            admissionService.consume(request.getProductId(), admissionToken);
+        }
+
+        try {
+            Order order = orderService.createOrder(
+                    request.getMemberId(),
+                    request.getProductId(),
+                    request.getCount());
+            return ResponseEntity.ok(new OrderResponse(order));
+        } catch (RuntimeException e) {
+            if (gated) {
+                admissionService.restore(request.getProductId(), admissionToken);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 일괄 주문 생성
+     *
+     * - ALL_OR_NOTHING: 실패 항목이 있으면 400 + 항목별 사유 (생성된 주문 없음)
+     * - PARTIAL: 200 + 항목별 결과 (성공 항목만 생성)
+     *
+     * 대기열 대상 상품은 포함할 수 없다 (403, 입장 허가 1개당 주문 1건이므로 단건 주문 API로만 생성).
+     * 회원/상품 단위 요청 한도는 단건 주문과 같이 적용한다.
+     */
+    @PostMapping("/api/orders/bulk")
+    public ResponseEntity<BulkOrderResponse> createOrders(@RequestBody BulkOrderCreateRequest request) {
+        List<OrderCreateRequest> items = request.getItems() == null ? List.of() : request.getItems();
+        // null 항목은 서비스 검증에서 항목별 오류로 처리
+        items.stream()
+                .filter(Objects::nonNull)
+                .map(OrderCreateRequest::getMemberId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(memberId -> rateLimiter.acquire(RateLimitScope.MEMBER, memberId));
+        List<Long> productIds = items.stream()
+                .filter(Objects::nonNull)
+                .map(OrderCreateRequest::getProductId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        productIds.forEach(productId -> rateLimiter.acquire(RateLimitScope.PRODUCT, productId));
+
+        productIds.stream()
+                .filter(admissionService::isGated)
+                .findFirst()
+                .ifPresent(productId -> {
+                    throw new AdmissionRequiredException(
+                            "Queued product cannot be ordered in bulk. Use /api/orders with an admission token: "
+                                    + productId);
+                });
+
+        BulkOrderResponse response = orderService.createOrders(request.getItems(), request.getMode());
+        if (response.getMode() == BulkOrderMode.ALL_OR_NOTHING && response.getFailed() > 0) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+        return ResponseEntity.ok(response);
     }
 }
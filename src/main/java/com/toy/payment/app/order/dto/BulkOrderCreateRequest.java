@@ -0,0 +1,11 @@
+package com.toy.payment.app.order.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkOrderCreateRequest {
+    private BulkOrderMode mode = BulkOrderMode.ALL_OR_NOTHING;
+    private List<OrderCreateRequest> items;
+}
@@ -0,0 +1,9 @@
+package com.toy.payment.app.order.dto;
+
+/**
+ * 일괄 주문 처리 방식
+ */
+public enum BulkOrderMode {
+    ALL_OR_NOTHING, // 한 건이라도 실패하면 전체 미생성
+    PARTIAL // 검증을 통과한 항목만 생성, 항목별 결과 반환
+}
@@ -0,0 +1,56 @@
+package com.toy.payment.app.order.dto;
+
+import com.toy.payment.domain.order.entity.Order;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkOrderResponse {
+    private BulkOrderMode mode;
+    private int requested;
+    private int created;
+    private int failed;
+    private List<ItemResult> results;
+
+    public BulkOrderResponse(BulkOrderMode mode, List<ItemResult> results) {
+        this.mode = mode;
+        this.requested = results.size();
+        this.created = (int) results.stream().filter(ItemResult::isSuccess).count();
+        this.failed = this.requested - this.created;
+        this.results = results;
+    }
+
+    /**
+     * 요청 항목 순서(index)대로의 처리 결과
+     */
+    @Data
+    public static class ItemResult {
+        private int index;
+        private boolean success;
+        private OrderResponse order;
+        private String error;
+
+        public static ItemResult created(int index, Order order) {
+            ItemResult result = new ItemResult();
+            result.index = index;
+            result.success = true;
+            result.order = new OrderResponse(order);
+            return result;
+        }
+
+        public static ItemResult failed(int index, String error) {
+            ItemResult result = new ItemResult();
+            result.index = index;
+            result.error = error;
+            return result;
+        }
+
+        /**
+         * 검증은 통과했지만 전체 롤백(ALL_OR_NOTHING)으로 생성되지 않은 항목
+         */
+        public static ItemResult skipped(int index) {
+            return failed(index, "다른 항목의 실패로 생성되지 않았습니다.");
+        }
+    }
+}
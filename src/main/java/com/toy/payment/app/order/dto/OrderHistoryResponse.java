@@ -0,0 +1,26 @@
+package com.toy.payment.app.order.dto;
+
+import com.toy.payment.domain.order.entity.OrderStatus;
+import com.toy.payment.domain.order.repository.OrderHistoryRow;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class OrderHistoryResponse {
+    private String orderUid;
+    private String itemName;
+    private Long count;
+    private Long paymentPrice;
+    private OrderStatus status;
+    private LocalDateTime createdAt;
+
+    public OrderHistoryResponse(OrderHistoryRow row) {
+        this.orderUid = row.orderUid().toString();
+        this.itemName = row.productName();
+        this.count = row.count();
+        this.paymentPrice = row.price();
+        this.status = row.status();
+        this.createdAt = row.createdAt();
+    }
+}
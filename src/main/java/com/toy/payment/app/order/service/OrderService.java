@@ -1,28 +1,83 @@
 package com.toy.payment.app.order.service;
 
+import com.toy.payment.app.common.pagination.CursorPage;
+import com.toy.payment.app.order.dto.BulkOrderMode;
+import com.toy.payment.app.order.dto.BulkOrderResponse;
+import com.toy.payment.app.order.dto.BulkOrderResponse.ItemResult;
+import com.toy.payment.app.order.dto.OrderCreateRequest;
+import com.toy.payment.app.order.dto.OrderHistoryResponse;
+import com.toy.payment.app.stock.service.SoldOutRegistry;
+import com.toy.payment.app.stock.service.StockReservationService;
 import com.toy.payment.domain.member.entity.Member;
 import com.toy.payment.domain.member.repository.MemberRepository;
 import com.toy.payment.domain.order.entity.Order;
+import com.toy.payment.domain.order.repository.OrderHistoryRow;
 import com.toy.payment.domain.order.repository.OrderRepository;
 import com.toy.payment.domain.product.entity.Product;
 import com.toy.payment.domain.product.repository.ProductRepository;
+import com.toy.payment.domain.stock.entity.StockHold;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class OrderService {
 
+    // 일괄 주문 1회 최대 항목 수 (한 트랜잭션/IN 절 크기 제한)
+    static final int MAX_BULK_ITEMS = 500;
+
+    // 주문 내역 페이지 최대 크기
+    static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
     private final MemberRepository memberRepository;
+    private final StockReservationService stockReservationService;
+    private final SoldOutRegistry soldOutRegistry;
+
+    /**
+     * 회원 주문 내역 (키셋 페이지네이션, 최신순)
+     *
+     * @param cursor 이전 페이지의 nextCursor (없으면 첫 페이지)
+     * @param size   페이지 크기 (1 ~ MAX_HISTORY_PAGE_SIZE로 보정)
+     * @throws IllegalArgumentException 잘못된 커서
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<OrderHistoryResponse> getOrderHistory(Long memberId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE);
+        List<OrderHistoryRow> rows = orderRepository.findHistoryByMember(
+                memberId, CursorPage.parseCursor(cursor), PageRequest.of(0, pageSize + 1));
+        return CursorPage.of(rows, pageSize, OrderHistoryRow::id, OrderHistoryResponse::new);
+    }
 
     @Transactional
     public Order createOrder(Long memberId, Long productId, Long count) {
+        // 품절 상품은 DB 조회 없이 즉시 거절
+        if (soldOutRegistry.isSoldOut(productId)) {
+            throw new IllegalArgumentException("재고가 부족합니다. 현재 재고: 0");
+        }
+
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new IllegalArgumentException("Member not found"));
 
+        if (stockReservationService.isEnabled()) {
+            return createOrderWithHold(member, productId, count);
+        }
+
         // Pessimistic Write Lock is applied in Repository
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new IllegalArgumentException("Product not found"));
@@ -35,4 +90,159 @@ public class OrderService {
         Order order = new Order(member, product, count);
         return orderRepository.save(order);
     }
+
+    /**
+     * 주문 시점 재고 선점 (stock.reservation.enabled=true)
+     *
+     * 상품 엔티티를 읽기 전에 선점한다. DB 기반 전략이 락과 함께 읽은 최신 재고가 영속성 컨텍스트에 올라가도록 하기 위함.
+     */
+    private Order createOrderWithHold(Member member, Long productId, Long count) {
+        if (count == null || count <= 0) {
+            throw new IllegalArgumentException("주문 수량은 1 이상이어야 합니다.");
+        }
+        StockHold hold = stockReservationService.hold(productId, count)
+                .orElseThrow(() -> new IllegalArgumentException("재고가 부족합니다."));
+
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new IllegalArgumentException("Product not found"));
+        Order order = orderRepository.save(new Order(member, product, count));
+        hold.attach(order.getId());
+        return order;
+    }
+
+    /**
+     * 일괄 주문 생성 (한 트랜잭션)
+     *
+     * <pre>
+     * 1. 회원/상품을 IN 쿼리로 한 번에 조회
+     * 2. 한 번의 순회로 항목 검증 (같은 상품은 요청 수량을 누적해 재고와 비교)
+     *    재고 선점 모드에서는 재고 비교 대신 항목별로 선점
+     * 3. 통과한 주문을 saveAll → Snowflake ID라 JDBC 배치 INSERT로 기록
+     * </pre>
+     *
+     * ALL_OR_NOTHING은 실패 항목이 있으면 아무것도 생성하지 않고(선점도 롤백), PARTIAL은 통과한 항목만 생성한다.
+     */
+    @Transactional
+    public BulkOrderResponse createOrders(List<OrderCreateRequest> items, BulkOrderMode mode) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("주문 항목이 비어 있습니다.");
+        }
+        if (items.size() > MAX_BULK_ITEMS) {
+            throw new IllegalArgumentException("일괄 주문은 최대 " + MAX_BULK_ITEMS + "건까지 가능합니다.");
+        }
+        BulkOrderMode resolvedMode = mode == null ? BulkOrderMode.ALL_OR_NOTHING : mode;
+        boolean holdStock = stockReservationService.isEnabled();
+
+        Map<Long, Member> members = loadById(items, OrderCreateRequest::getMemberId,
+                memberRepository::findAllById, Member::getId);
+        // 선점 모드: 상품 엔티티는 선점 이후에 읽음 (createOrderWithHold 참고), 여기서는 존재 여부만 확인
+        Map<Long, Product> products = holdStock ? Map.of()
+                : loadById(items, OrderCreateRequest::getProductId, productRepository::findAllById, Product::getId);
+        Set<Long> productIds = holdStock
+                ? loadById(items, OrderCreateRequest::getProductId, productRepository::findIdsByIdIn,
+                        Function.identity()).keySet()
+                : products.keySet();
+
+        // 검증 (단일 순회)
+        Map<Long, Long> reserved = new HashMap<>();
+        List<ItemResult> results = new ArrayList<>(items.size());
+        List<Integer> acceptedIndexes = new ArrayList<>(items.size());
+        List<StockHold> holds = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            OrderCreateRequest item = items.get(i);
+            String error = validate(item, members, productIds, products, reserved);
+
+            // ALL_OR_NOTHING은 이미 실패가 있으면 더 선점하지 않음 (어차피 롤백)
+            boolean failedSoFar = acceptedIndexes.size() < i;
+            if (error == null && holdStock && !(resolvedMode == BulkOrderMode.ALL_OR_NOTHING && failedSoFar)) {
+                Optional<StockHold> hold = stockReservationService.hold(item.getProductId(), item.getCount());
+                if (hold.isPresent()) {
+                    holds.add(hold.get());
+                } else {
+                    error = "재고가 부족합니다.";
+                }
+            }
+
+            if (error != null) {
+                results.add(ItemResult.failed(i, error));
+                continue;
+            }
+            results.add(null);
+            acceptedIndexes.add(i);
+        }
+
+        boolean rejected = resolvedMode == BulkOrderMode.ALL_OR_NOTHING && acceptedIndexes.size() < items.size();
+        if (rejected) {
+            if (!holds.isEmpty()) {
+                // 이미 선점한 재고 원복
+                TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            }
+            for (int index : acceptedIndexes) {
+                results.set(index, ItemResult.skipped(index));
+            }
+            return new BulkOrderResponse(resolvedMode, results);
+        }
+
+        List<OrderCreateRequest> accepted = acceptedIndexes.stream().map(items::get).toList();
+        if (holdStock) {
+            products = loadById(accepted, OrderCreateRequest::getProductId, productRepository::findAllById,
+                    Product::getId);
+        }
+        List<Order> orders = new ArrayList<>(accepted.size());
+        for (OrderCreateRequest item : accepted) {
+            orders.add(new Order(members.get(item.getMemberId()), products.get(item.getProductId()), item.getCount()));
+        }
+
+        List<Order> saved = orderRepository.saveAll(orders);
+        for (int i = 0; i < saved.size(); i++) {
+            int index = acceptedIndexes.get(i);
+            results.set(index, ItemResult.created(index, saved.get(i)));
+            if (holdStock) {
+                holds.get(i).attach(saved.get(i).getId());
+            }
+        }
+        return new BulkOrderResponse(resolvedMode, results);
+    }
+
+    /**
+     * 항목 검증, 통과하면 상품별 누적 수량에 반영
+     *
+     * @param products 재고 비교 대상 (선점 모드에서는 비어 있음 → 재고는 선점으로 확인)
+     * @return 실패 사유 (통과 시 null)
+     */
+    private String validate(OrderCreateRequest item, Map<Long, Member> members, Set<Long> productIds,
+            Map<Long, Product> products, Map<Long, Long> reserved) {
+        if (item == null || item.getCount() == null || item.getCount() <= 0) {
+            return "주문 수량은 1 이상이어야 합니다.";
+        }
+        if (item.getMemberId() == null || !members.containsKey(item.getMemberId())) {
+            return "Member not found";
+        }
+        if (item.getProductId() == null || !productIds.contains(item.getProductId())) {
+            return "Product not found";
+        }
+        Product product = products.get(item.getProductId());
+        if (product == null) {
+            return null;
+        }
+        long requested = reserved.getOrDefault(product.getId(), 0L) + item.getCount();
+        if (product.getStock() < requested) {
+            return "재고가 부족합니다. 현재 재고: " + product.getStock() + ", 누적 요청: " + requested;
+        }
+        reserved.put(product.getId(), requested);
+        return null;
+    }
+
+    private static <T> Map<Long, T> loadById(List<OrderCreateRequest> items, Function<OrderCreateRequest, Long> idOf,
+            Function<Set<Long>, List<T>> finder, Function<T, Long> entityId) {
+        Set<Long> ids = items.stream()
+                .filter(Objects::nonNull)
+                .map(idOf)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(HashSet::new));
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return finder.apply(ids).stream().collect(Collectors.toMap(entityId, Function.identity()));
+    }
 }
@@ -0,0 +1,127 @@
+package com.toy.payment.app.payment.controller;
+
+import com.toy.payment.app.payment.dto.PaymentVerificationStatusResponse;
+import com.toy.payment.app.payment.dto.PaymentVerificationStatusResponse.Status;
+import com.toy.payment.app.payment.dto.PaymentVerifyRequest;
+import com.toy.payment.app.payment.service.AsyncPaymentVerificationService;
+import com.toy.payment.app.payment.service.AsyncPaymentVerificationService.Submission;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기 결제 검증 API
+ * 
+ * <pre>
+ * POST /api/payment/verify/async           → 202 Accepted + Location(상태 URL)
+ * GET  /api/payment/verify/status/{key}    → 현재 상태 (waitMs 지정 시 롱폴링)
+ * </pre>
+ * 
+ * 동기 API(/api/payment/verify)와 같은 Idempotency-Key 저장소를 공유한다.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class AsyncPaymentApiController {
+
+    private static final String STATUS_PATH = "/api/payment/verify/status/{idempotencyKey}";
+    private static final long MAX_WAIT_MS = 30_000;
+
+    private final AsyncPaymentVerificationService asyncVerificationService;
+
+    @PostMapping("/api/payment/verify/async")
+    public ResponseEntity<PaymentVerificationStatusResponse> verifyPaymentAsync(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody PaymentVerifyRequest request) {
+
+        // 1. 비동기 모드는 멱등키가 곧 상태 리소스 ID이므로 필수
+        if (idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > 300) {
+            log.warn("Invalid idempotency key for async verification: {}", idempotencyKey);
+            return ResponseEntity.badRequest()
+                    .body(response(idempotencyKey, Status.NOT_FOUND, "INVALID_IDEMPOTENCY_KEY"));
+        }
+
+        // 2. 워커 큐에 등록
+        Submission submission = asyncVerificationService.submit(
+                idempotencyKey, request.getImp_uid(), request.getMerchant_uid());
+
+        return switch (submission) {
+            case COMPLETED -> ResponseEntity.ok(response(idempotencyKey, Status.SUCCEEDED,
+                    asyncVerificationService.getMessage(idempotencyKey, Status.SUCCEEDED).orElse(null)));
+            case ACCEPTED, ALREADY_PROCESSING -> ResponseEntity.accepted()
+                    .location(statusUri(idempotencyKey))
+                    .body(response(idempotencyKey, Status.PROCESSING, null));
+            case REJECTED -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(response(idempotencyKey, Status.NOT_FOUND, "VERIFICATION_QUEUE_FULL"));
+        };
+    }
+
+    /**
+     * 검증 상태 조회
+     * 
+     * @param waitMs 0보다 크면 이 노드에서 처리 중인 검증이 끝날 때까지 최대 waitMs 대기 (스레드 점유 없음)
+     */
+    @GetMapping(STATUS_PATH)
+    public DeferredResult<ResponseEntity<PaymentVerificationStatusResponse>> getVerificationStatus(
+            @PathVariable String idempotencyKey,
+            @RequestParam(defaultValue = "0") long waitMs) {
+
+        long timeout = Math.min(Math.max(waitMs, 0), MAX_WAIT_MS);
+        DeferredResult<ResponseEntity<PaymentVerificationStatusResponse>> deferred = new DeferredResult<>(
+                timeout > 0 ? timeout : null);
+
+        Status current = asyncVerificationService.getStatus(idempotencyKey);
+        Optional<CompletableFuture<Status>> completion = asyncVerificationService.getLocalCompletion(idempotencyKey);
+
+        if (current != Status.PROCESSING || timeout == 0 || completion.isEmpty()) {
+            deferred.setResult(toResponseEntity(idempotencyKey, current));
+            return deferred;
+        }
+
+        // 롱폴링: 완료 통지 또는 타임아웃 시 응답
+        deferred.onTimeout(() -> deferred.setResult(toResponseEntity(idempotencyKey, Status.PROCESSING)));
+        completion.get().whenComplete((status, ex) -> deferred.setResult(
+                toResponseEntity(idempotencyKey, asyncVerificationService.getStatus(idempotencyKey))));
+        return deferred;
+    }
+
+    private ResponseEntity<PaymentVerificationStatusResponse> toResponseEntity(String idempotencyKey, Status status) {
+        PaymentVerificationStatusResponse body = response(idempotencyKey, status,
+                asyncVerificationService.getMessage(idempotencyKey, status).orElse(null));
+        return switch (status) {
+            case SUCCEEDED, FAILED -> ResponseEntity.ok(body);
+            case PROCESSING -> ResponseEntity.accepted()
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(body);
+            case NOT_FOUND -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
+        };
+    }
+
+    private PaymentVerificationStatusResponse response(String idempotencyKey, Status status, String message) {
+        String statusUrl = idempotencyKey != null ? statusUri(idempotencyKey).toString() : null;
+        return new PaymentVerificationStatusResponse(idempotencyKey, status, message, statusUrl);
+    }
+
+    private URI statusUri(String idempotencyKey) {
+        return UriComponentsBuilder.fromPath(STATUS_PATH)
+                .buildAndExpand(idempotencyKey)
+                .encode()
+                .toUri();
+    }
+}
@@ -1,8 +1,9 @@
 package com.toy.payment.app.payment.controller;
 
 import com.toy.payment.app.common.idempotency.IdempotencyService;
+import com.toy.payment.app.common.idempotency.SingleFlight;
 import com.toy.payment.app.payment.dto.PaymentVerifyRequest;
-import com.toy.payment.app.payment.service.PaymentService;
+import com.toy.payment.app.payment.service.PaymentVerificationCoordinator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -19,8 +20,9 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class PaymentApiController {
 
-    private final PaymentService paymentService;
+    private final PaymentVerificationCoordinator verificationCoordinator;
     private final IdempotencyService idempotencyService;
+    private final SingleFlight singleFlight;
 
     @PostMapping("/api/payment/verify")
     public ResponseEntity<String> verifyPayment(
@@ -30,7 +32,7 @@ public class PaymentApiController {
         // 1. Idempotency Key가 없으면 일반 처리 (하위 호환성)
         if (idempotencyKey == null || idempotencyKey.isBlank()) {
             log.warn("No Idempotency-Key provided. Processing without idempotency check.");
-            paymentService.verifyPayment(request.getImp_uid(), request.getMerchant_uid());
+            verificationCoordinator.verify(request.getImp_uid(), request.getMerchant_uid());
             return ResponseEntity.ok("Payment Verified Successfully");
         }
 
@@ -41,19 +43,33 @@ public class PaymentApiController {
                     .body("INVALID_IDEMPOTENCY_KEY");
         }
 
-        // 3. 캐시된 결과가 있으면 즉시 반환 (COMPLETED 상태)
+        // 3. 같은 노드의 중복 요청은 진행 중인 요청에 합류 (Redis까지 가지 않음)
+        try {
+            return singleFlight.execute(idempotencyKey, () -> verifyWithIdempotency(idempotencyKey, request));
+        } catch (SingleFlight.InFlightTimeoutException e) {
+            log.info("In-flight request timed out. Returning 409 Conflict: {}", idempotencyKey);
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body("IDEMPOTENT_REQUEST_PROCESSING");
+        }
+    }
+
+    /**
+     * Redis 기반 멱등성 처리 (노드 간 조정)
+     */
+    private ResponseEntity<String> verifyWithIdempotency(String idempotencyKey, PaymentVerifyRequest request) {
+        // 4. 캐시된 결과가 있으면 즉시 반환 (COMPLETED 상태)
         Optional<String> cachedResult = idempotencyService.getCachedResult(idempotencyKey);
         if (cachedResult.isPresent()) {
             log.info("Returning cached result for idempotency key: {}", idempotencyKey);
             return ResponseEntity.ok(cachedResult.get());
         }
 
-        // 4. 락 획득 시도
+        // 5. 락 획득 시도
         if (idempotencyService.tryAcquireLock(idempotencyKey)) {
             // 락 획득 성공 → 비즈니스 로직 실행
             return processPaymentWithLock(idempotencyKey, request);
         } else {
-            // 락 획득 실패 → 409 Conflict 반환 (PROCESSING 상태, 토스 방식!)
+            // 락 획득 실패 (다른 노드에서 처리 중) → 409 Conflict 반환 (PROCESSING 상태, 토스 방식!)
             log.info("Lock acquisition failed. Returning 409 Conflict: {}", idempotencyKey);
             return ResponseEntity.status(HttpStatus.CONFLICT)
                     .body("IDEMPOTENT_REQUEST_PROCESSING");
@@ -66,32 +82,19 @@ public class PaymentApiController {
     private ResponseEntity<String> processPaymentWithLock(
             String idempotencyKey, PaymentVerifyRequest request) {
         try {
-            // 5. 한번 더 캐시 확인 (락 대기 중 다른 요청이 완료했을 수 있음)
+            // 6. 한번 더 캐시 확인 (락 대기 중 다른 요청이 완료했을 수 있음)
             Optional<String> cachedResult = idempotencyService.getCachedResult(idempotencyKey);
             if (cachedResult.isPresent()) {
                 idempotencyService.releaseLock(idempotencyKey);
                 return ResponseEntity.ok(cachedResult.get());
             }
 
-            // 6. 결제 검증 비즈니스 로직 실행
-            // TODO: 테스트 완료 후 삭제 - 동시 요청 테스트용 5초 지연
-            try {
-                log.info("[TEST] 5초 지연 시작 - idempotencyKey: {}", idempotencyKey);
-                Thread.sleep(5000);
-                log.info("[TEST] 5초 지연 완료 - idempotencyKey: {}", idempotencyKey);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-
-            // TODO: 테스트 완료 후 삭제 - Mock 모드 (imp_uid가 mock_으로 시작하면 검증 스킵)
-            if (request.getImp_uid().startsWith("mock_")) {
-                log.info("[MOCK] 결제 검증 스킵 - idempotencyKey: {}", idempotencyKey);
-            } else {
-                paymentService.verifyPayment(request.getImp_uid(), request.getMerchant_uid());
-            }
+            // 7. 결제 검증 비즈니스 로직 실행
+            // (오프라인 테스트는 PortOne 대역 서버 + portone.api.base-url 설정으로 수행)
+            verificationCoordinator.verify(request.getImp_uid(), request.getMerchant_uid());
             String result = "Payment Verified Successfully";
 
-            // 7. 결과 캐싱 (24시간 TTL)
+            // 8. 결과 캐싱 (24시간 TTL)
             idempotencyService.cacheResult(idempotencyKey, result);
 
             return ResponseEntity.ok(result);
@@ -100,7 +103,7 @@ public class PaymentApiController {
             log.error("Payment verification failed for idempotency key: {}", idempotencyKey, e);
             throw e;
         } finally {
-            // 8. 락 해제 (성공/실패 모두)
+            // 9. 락 해제 (성공/실패 모두)
             idempotencyService.releaseLock(idempotencyKey);
         }
     }
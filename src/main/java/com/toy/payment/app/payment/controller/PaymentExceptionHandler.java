@@ -0,0 +1,30 @@
+package com.toy.payment.app.payment.controller;
+
+import com.toy.payment.app.payment.service.PortOneService.PortOneUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 결제 API 예외 응답 변환
+ */
+@Slf4j
+@RestControllerAdvice
+public class PaymentExceptionHandler {
+
+    /**
+     * PG 호출 제한(서킷 OPEN, 벌크헤드/커넥션 풀 포화) → 503 + Retry-After
+     * 
+     * PG로 요청이 나가지 않았으므로 클라이언트는 같은 멱등키로 재시도할 수 있다.
+     */
+    @ExceptionHandler(PortOneUnavailableException.class)
+    public ResponseEntity<String> handlePortOneUnavailable(PortOneUnavailableException e) {
+        log.warn("PG unavailable: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body("PG_UNAVAILABLE");
+    }
+}
@@ -0,0 +1,35 @@
+package com.toy.payment.app.payment.controller;
+
+import com.toy.payment.app.common.pagination.CursorPage;
+import com.toy.payment.app.payment.dto.PaymentHistoryResponse;
+import com.toy.payment.app.payment.service.PaymentHistoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class PaymentHistoryController {
+
+    private final PaymentHistoryService paymentHistoryService;
+
+    /**
+     * 회원 결제 내역 (주문 최신순, 키셋 페이지네이션)
+     *
+     * 다음 페이지는 응답의 nextCursor를 cursor로 넘겨 조회한다. 잘못된 커서는 400.
+     */
+    @GetMapping("/api/members/{memberId}/payments")
+    public ResponseEntity<CursorPage<PaymentHistoryResponse>> getPaymentHistory(
+            @PathVariable Long memberId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(paymentHistoryService.getPaymentHistory(memberId, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -1,22 +1,29 @@
 package com.toy.payment.app.payment.controller;
 
 import com.toy.payment.app.payment.dto.PaymentWebhookRequest;
-import com.toy.payment.app.payment.service.PaymentService;
+import com.toy.payment.app.payment.service.PaymentWebhookInbox;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+/**
+ * PG 웹훅 수신
+ * 
+ * 결제 검증(PG 조회 + DB 반영)은 PaymentWebhookWorker가 비동기로 처리하고, 여기서는 저장 후 즉시 응답한다.
+ * 응답이 늦어 PG가 재전송하면서 부하가 다시 늘어나는 상황을 막는다.
+ */
 @Slf4j
 @RestController
 @RequiredArgsConstructor
 public class PaymentWebhookController {
 
-    private final PaymentService paymentService;
+    private final PaymentWebhookInbox webhookInbox;
 
     @PostMapping("/api/payment/webhook")
-    public void handleWebhook(@RequestBody PaymentWebhookRequest request) {
+    public ResponseEntity<Void> handleWebhook(@RequestBody PaymentWebhookRequest request) {
         log.info("Webhook received: {}", request);
 
         String paymentId = request.getPaymentId();
@@ -24,6 +31,19 @@ public class PaymentWebhookController {
             paymentId = request.getImp_uid();
         }
 
-        paymentService.verifyPayment(paymentId, request.getMerchant_uid());
+        if (request.getMerchant_uid() == null || request.getMerchant_uid().isEmpty()) {
+            log.warn("Webhook without merchant_uid ignored: {}", request);
+            return ResponseEntity.badRequest().build();
+        }
+
+        // (merchant_uid, imp_uid, status) 유니크 키로 중복을 거르므로 셋 다 있어야 한다 (NULL은 유니크 키에서 중복 허용)
+        if (paymentId == null || paymentId.isEmpty() || request.getStatus() == null || request.getStatus().isEmpty()) {
+            log.warn("Webhook without imp_uid or status ignored: {}", request);
+            return ResponseEntity.badRequest().build();
+        }
+
+        // 저장 실패 시 예외 → 5xx 응답 → PG 재전송
+        webhookInbox.receive(paymentId, request.getMerchant_uid(), request.getStatus());
+        return ResponseEntity.ok().build();
     }
 }
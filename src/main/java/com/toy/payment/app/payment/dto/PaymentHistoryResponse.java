@@ -0,0 +1,24 @@
+package com.toy.payment.app.payment.dto;
+
+import com.toy.payment.domain.payment.entity.PaymentStatus;
+import com.toy.payment.domain.payment.repository.PaymentHistoryRow;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class PaymentHistoryResponse {
+    private String merchantUid;
+    private String impUid;
+    private Long amount;
+    private PaymentStatus status;
+    private LocalDateTime orderedAt;
+
+    public PaymentHistoryResponse(PaymentHistoryRow row) {
+        this.merchantUid = row.orderUid().toString();
+        this.impUid = row.paymentUid();
+        this.amount = row.price();
+        this.status = row.status();
+        this.orderedAt = row.orderedAt();
+    }
+}
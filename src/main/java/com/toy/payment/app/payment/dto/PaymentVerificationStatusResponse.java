@@ -0,0 +1,24 @@
+package com.toy.payment.app.payment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 비동기 결제 검증 상태 응답
+ */
+@Getter
+@AllArgsConstructor
+public class PaymentVerificationStatusResponse {
+
+    private String idempotencyKey;
+    private Status status;
+    private String message;
+    private String statusUrl;
+
+    public enum Status {
+        PROCESSING,
+        SUCCEEDED,
+        FAILED,
+        NOT_FOUND
+    }
+}
@@ -0,0 +1,18 @@
+package com.toy.payment.app.payment.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * PortOne V1 공통 응답 포맷 ({"code": 0, "message": null, "response": {...}})
+ *
+ * @param code     0이면 성공
+ * @param message  실패 사유
+ * @param response 응답 데이터
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record PortOneApiResponse<T>(int code, String message, T response) {
+
+    public boolean isSuccess() {
+        return code == 0 && response != null;
+    }
+}
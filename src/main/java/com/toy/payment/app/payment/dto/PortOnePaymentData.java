@@ -0,0 +1,17 @@
+package com.toy.payment.app.payment.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * PortOne V1 결제 정보 (검증에 필요한 필드만 매핑, 나머지는 파싱 시 건너뜀)
+ *
+ * amount는 누락/null을 0으로 바꾸지 않도록 래퍼 타입으로 받고, 사용하는 쪽에서 null을 거절한다.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record PortOnePaymentData(
+        @JsonProperty("imp_uid") String impUid,
+        @JsonProperty("merchant_uid") String merchantUid,
+        @JsonProperty("amount") Long amount,
+        @JsonProperty("status") String status) {
+}
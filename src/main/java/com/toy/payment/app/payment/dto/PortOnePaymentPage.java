@@ -0,0 +1,21 @@
+package com.toy.payment.app.payment.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * PortOne V1 결제 목록 페이지 (GET /payments/status/{status})
+ *
+ * @param total    전체 건수
+ * @param previous 이전 페이지 번호 (없으면 0)
+ * @param next     다음 페이지 번호 (없으면 0)
+ * @param list     결제 목록
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record PortOnePaymentPage(int total, int previous, int next, List<PortOnePaymentData> list) {
+
+    public boolean hasNext() {
+        return next > 0;
+    }
+}
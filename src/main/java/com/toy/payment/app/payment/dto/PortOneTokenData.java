@@ -0,0 +1,17 @@
+package com.toy.payment.app.payment.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * PortOne V1 Access Token 발급 응답
+ *
+ * @param accessToken 발급된 토큰
+ * @param expiredAt   만료 시각 (unix timestamp, 초)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record PortOneTokenData(
+        @JsonProperty("access_token") String accessToken,
+        @JsonProperty("now") long now,
+        @JsonProperty("expired_at") long expiredAt) {
+}
@@ -0,0 +1,176 @@
+package com.toy.payment.app.payment.service;
+
+import com.toy.payment.app.common.idempotency.IdempotencyService;
+import com.toy.payment.app.payment.dto.PaymentVerificationStatusResponse.Status;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 결제 검증 서비스
+ * 
+ * <h2>동작 흐름</h2>
+ * 
+ * <pre>
+ * 1. 멱등키 락 획득 → 제한된 워커 풀 큐에 검증 작업 등록 → 요청 스레드는 즉시 반환 (202)
+ * 2. 워커가 PaymentVerificationCoordinator.verify 실행 (같은 주문의 웹훅/동기 검증과 중복 제거)
+ * 3. 성공 → 결과 캐싱 (idempotency_result), 실패 → 실패 사유 기록 (idempotency_failure)
+ * 4. 락 해제 + 같은 노드에서 롱폴링 중인 요청에 완료 통지
+ * </pre>
+ * 
+ * 요청 스레드 점유 시간이 PG 응답 지연과 무관해진다.
+ * 큐가 가득 차면 대기하지 않고 즉시 거절한다 (Fail-Fast).
+ */
+@Slf4j
+@Service
+public class AsyncPaymentVerificationService {
+
+    public static final String RESULT_SUCCESS = "Payment Verified Successfully";
+
+    // 큐 대기 + PG Read Timeout(30초) + 망취소까지 포함한 락 TTL
+    private static final Duration ASYNC_LOCK_TTL = Duration.ofSeconds(90);
+
+    private final PaymentVerificationCoordinator verificationCoordinator;
+    private final IdempotencyService idempotencyService;
+    private final ThreadPoolExecutor executor;
+
+    // 이 노드에서 처리 중인 검증 (롱폴링 통지용)
+    private final ConcurrentHashMap<String, CompletableFuture<Status>> localTasks = new ConcurrentHashMap<>();
+
+    public AsyncPaymentVerificationService(
+            PaymentVerificationCoordinator verificationCoordinator,
+            IdempotencyService idempotencyService,
+            @Value("${payment.verify.async.pool-size:16}") int poolSize,
+            @Value("${payment.verify.async.queue-capacity:500}") int queueCapacity) {
+        this.verificationCoordinator = verificationCoordinator;
+        this.idempotencyService = idempotencyService;
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                namedThreadFactory("payment-verify-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 검증 작업 등록
+     * 
+     * @return 등록 결과
+     */
+    public Submission submit(String idempotencyKey, String impUid, String merchantUid) {
+        // 1. 이미 완료된 요청
+        if (idempotencyService.getCachedResult(idempotencyKey).isPresent()) {
+            return Submission.COMPLETED;
+        }
+
+        // 2. 다른 요청(노드)이 처리 중
+        if (!idempotencyService.tryAcquireLock(idempotencyKey, ASYNC_LOCK_TTL)) {
+            return Submission.ALREADY_PROCESSING;
+        }
+
+        // 3. 이전 실패 기록 제거 후 큐에 등록
+        idempotencyService.clearFailure(idempotencyKey);
+        CompletableFuture<Status> completion = new CompletableFuture<>();
+        localTasks.put(idempotencyKey, completion);
+
+        try {
+            executor.execute(() -> verify(idempotencyKey, impUid, merchantUid, completion));
+            log.info("Async verification queued - idempotencyKey: {}, queueSize: {}",
+                    idempotencyKey, executor.getQueue().size());
+            return Submission.ACCEPTED;
+        } catch (RejectedExecutionException e) {
+            // 큐 포화 → 즉시 거절, 락 해제하여 재시도 가능하게
+            log.warn("Async verification queue is full - idempotencyKey: {}", idempotencyKey);
+            localTasks.remove(idempotencyKey, completion);
+            idempotencyService.releaseLock(idempotencyKey);
+            return Submission.REJECTED;
+        }
+    }
+
+    /**
+     * 현재 검증 상태 조회 (Redis 기준, 모든 노드에서 동일)
+     */
+    public Status getStatus(String idempotencyKey) {
+        if (idempotencyService.getCachedResult(idempotencyKey).isPresent()) {
+            return Status.SUCCEEDED;
+        }
+        if (idempotencyService.getCachedFailure(idempotencyKey).isPresent()) {
+            return Status.FAILED;
+        }
+        if (idempotencyService.isProcessing(idempotencyKey)) {
+            return Status.PROCESSING;
+        }
+        return Status.NOT_FOUND;
+    }
+
+    /**
+     * 상태별 메시지 (성공 결과 또는 실패 사유)
+     */
+    public Optional<String> getMessage(String idempotencyKey, Status status) {
+        return switch (status) {
+            case SUCCEEDED -> idempotencyService.getCachedResult(idempotencyKey);
+            case FAILED -> idempotencyService.getCachedFailure(idempotencyKey);
+            default -> Optional.empty();
+        };
+    }
+
+    /**
+     * 이 노드에서 처리 중인 검증의 완료 Future (롱폴링용)
+     */
+    public Optional<CompletableFuture<Status>> getLocalCompletion(String idempotencyKey) {
+        return Optional.ofNullable(localTasks.get(idempotencyKey));
+    }
+
+    private void verify(String idempotencyKey, String impUid, String merchantUid,
+            CompletableFuture<Status> completion) {
+        Status status;
+        try {
+            verificationCoordinator.verify(impUid, merchantUid);
+            idempotencyService.cacheResult(idempotencyKey, RESULT_SUCCESS);
+            status = Status.SUCCEEDED;
+        } catch (Exception e) {
+            log.error("Async payment verification failed for idempotency key: {}", idempotencyKey, e);
+            idempotencyService.cacheFailure(idempotencyKey, e.getMessage());
+            status = Status.FAILED;
+        } finally {
+            idempotencyService.releaseLock(idempotencyKey);
+            localTasks.remove(idempotencyKey, completion);
+        }
+        completion.complete(status);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(35, TimeUnit.SECONDS)) {
+            log.warn("Async verification workers did not terminate in time. Pending: {}", executor.getQueue().size());
+        }
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public enum Submission {
+        ACCEPTED,
+        ALREADY_PROCESSING,
+        COMPLETED,
+        REJECTED
+    }
+}
@@ -0,0 +1,39 @@
+package com.toy.payment.app.payment.service;
+
+import com.toy.payment.domain.common.id.Snowflake;
+import com.toy.payment.domain.payment.repository.PaymentCancelRequestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 취소 요청 기록 (Outbox)
+ * 
+ * 호출자의 트랜잭션에 참여하여 취소 요청을 저장한다.
+ * 검증 타임아웃과 보상 처리가 같은 imp_uid를 동시에 등록해도 INSERT IGNORE로 한 건만 남는다.
+ * 실제 PG 취소는 PaymentCancelWorker가 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentCancelOutbox {
+
+    private final PaymentCancelRequestRepository cancelRequestRepository;
+
+    /**
+     * 취소 요청 등록 (같은 imp_uid는 한 번만 등록)
+     */
+    @Transactional
+    public void enqueue(String impUid, String merchantUid, String reason) {
+        int inserted = cancelRequestRepository.insertIgnore(Snowflake.getInstance().nextId(), impUid, merchantUid,
+                reason, LocalDateTime.now());
+        if (inserted == 0) {
+            log.info("이미 등록된 취소 요청 - impUid: {}", impUid);
+            return;
+        }
+        log.info("결제 취소 요청 등록 - impUid: {}, merchantUid: {}, reason: {}", impUid, merchantUid, reason);
+    }
+}
@@ -0,0 +1,231 @@
+package com.toy.payment.app.payment.service;
+
+import com.toy.payment.domain.payment.entity.PaymentCancelRequest;
+import com.toy.payment.domain.payment.entity.PaymentCancelStatus;
+import com.toy.payment.domain.payment.repository.PaymentCancelRequestRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 결제 취소 Outbox 워커
+ * 
+ * <h2>동작 흐름</h2>
+ * 
+ * <pre>
+ * 1. 처리 시각이 된 취소 요청을 batchSize만큼 선점 (FOR UPDATE SKIP LOCKED → PROCESSING + 임대 시간)
+ * 2. 제한된 워커 풀에서 PG 취소 API 병렬 호출 (초당 호출 수 제한)
+ * 3. 결과를 한 트랜잭션으로 일괄 반영
+ *    - 성공 → DONE
+ *    - 실패 → 지수 백오프로 재시도 예약, 최대 횟수 초과 시 FAILED (수동 처리 필요)
+ * </pre>
+ * 
+ * 워커가 처리 도중 죽어도 임대 시간이 지나면 다른 워커가 다시 선점하므로 취소 요청이 유실되지 않는다.
+ * 
+ * 메트릭: payment.cancel.failed (최종 실패 건수, 증가 시 알람 → 수동 환불 처리)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "payment.cancel.worker.enabled", havingValue = "true", matchIfMissing = true)
+public class PaymentCancelWorker implements MeterBinder {
+
+    private final PaymentCancelRequestRepository cancelRequestRepository;
+    private final PortOneService portOneService;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long dispatchIntervalNanos;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public PaymentCancelWorker(
+            PaymentCancelRequestRepository cancelRequestRepository,
+            PortOneService portOneService,
+            PlatformTransactionManager transactionManager,
+            @Value("${payment.cancel.worker.pool-size:4}") int poolSize,
+            @Value("${payment.cancel.worker.batch-size:20}") int batchSize,
+            @Value("${payment.cancel.worker.max-attempts:8}") int maxAttempts,
+            @Value("${payment.cancel.worker.max-per-second:10}") int maxPerSecond,
+            @Value("${payment.cancel.worker.lease-seconds:120}") long leaseSeconds,
+            @Value("${payment.cancel.worker.initial-backoff-seconds:5}") long initialBackoffSeconds,
+            @Value("${payment.cancel.worker.max-backoff-seconds:1800}") long maxBackoffSeconds) {
+        this.cancelRequestRepository = cancelRequestRepository;
+        this.portOneService = portOneService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.dispatchIntervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(maxPerSecond, 1);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.initialBackoff = Duration.ofSeconds(initialBackoffSeconds);
+        this.maxBackoff = Duration.ofSeconds(maxBackoffSeconds);
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "payment-cancel-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${payment.cancel.worker.poll-interval-ms:1000}")
+    public void poll() {
+        List<PaymentCancelRequest> claimed = claim();
+        if (claimed.isEmpty()) {
+            return;
+        }
+        log.info("[CancelWorker] 취소 요청 {}건 처리 시작", claimed.size());
+
+        // 2. 초당 호출 수를 넘지 않도록 간격을 두고 워커 풀에 분배
+        Map<Long, String> errors = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[claimed.size()];
+        long nextDispatch = System.nanoTime();
+        for (int i = 0; i < claimed.size(); i++) {
+            long wait = nextDispatch - System.nanoTime();
+            if (wait > 0) {
+                sleepNanos(wait);
+            }
+            nextDispatch = Math.max(nextDispatch, System.nanoTime()) + dispatchIntervalNanos;
+
+            PaymentCancelRequest request = claimed.get(i);
+            futures[i] = CompletableFuture.runAsync(() -> {
+                String error = cancel(request);
+                if (error != null) {
+                    errors.put(request.getId(), error);
+                }
+            }, executor);
+        }
+
+        try {
+            // 임대 시간 안에 끝나지 않은 건은 결과를 반영하지 않음 → 임대 만료 후 재선점
+            CompletableFuture.allOf(futures).get(lease.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("[CancelWorker] 배치 처리 시간 초과. 미완료 건은 임대 만료 후 재처리");
+        } catch (Exception e) {
+            log.error("[CancelWorker] 배치 처리 중 오류", e);
+        }
+
+        // 3. 완료된 건만 일괄 반영
+        List<Long> finishedIds = new ArrayList<>();
+        for (int i = 0; i < claimed.size(); i++) {
+            if (futures[i].isDone()) {
+                finishedIds.add(claimed.get(i).getId());
+            }
+        }
+        applyResults(finishedIds, errors);
+    }
+
+    /**
+     * 1. 처리 대상 선점 (짧은 트랜잭션, PG 호출은 트랜잭션 밖에서)
+     */
+    private List<PaymentCancelRequest> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<PaymentCancelRequest> due = cancelRequestRepository.findDueForUpdateSkipLocked(now, batchSize);
+            due.forEach(request -> request.claim(now.plus(lease)));
+            return due;
+        });
+    }
+
+    /**
+     * PG 취소 호출
+     * 
+     * @return 실패 사유 (성공 시 null)
+     */
+    private String cancel(PaymentCancelRequest request) {
+        try {
+            if (portOneService.cancelPayment(request.getImpUid(), request.getReason())) {
+                return null;
+            }
+            return "PG 취소 API 실패 응답";
+        } catch (Exception e) {
+            return e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+    }
+
+    private void applyResults(List<Long> finishedIds, Map<Long, String> errors) {
+        if (finishedIds.isEmpty()) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            for (PaymentCancelRequest request : cancelRequestRepository.findAllById(finishedIds)) {
+                String error = errors.get(request.getId());
+                if (error == null) {
+                    request.complete();
+                    log.info("[CancelWorker] 결제 취소 완료 - impUid: {}", request.getImpUid());
+                    continue;
+                }
+
+                request.fail(error, now.plus(backoff(request.getAttempts())), maxAttempts);
+                if (request.getStatus() == PaymentCancelStatus.FAILED) {
+                    failedCount.incrementAndGet();
+                    log.error("[CancelWorker] 결제 취소 최종 실패! 수동 처리 필요 - impUid: {}, merchantUid: {}, "
+                            + "attempts: {}, error: {}",
+                            request.getImpUid(), request.getMerchantUid(), request.getAttempts(), error);
+                } else {
+                    log.warn("[CancelWorker] 결제 취소 실패. 재시도 예약 - impUid: {}, attempts: {}, nextAttemptAt: {}",
+                            request.getImpUid(), request.getAttempts(), request.getNextAttemptAt());
+                }
+            }
+        });
+    }
+
+    /**
+     * 지수 백오프 (initialBackoff * 2^attempts, 최대 maxBackoff)
+     */
+    private Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static void sleepNanos(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("payment.cancel.failed", failedCount, AtomicLong::get)
+                .description("최대 재시도 횟수를 넘겨 수동 처리가 필요한 결제 취소 건수")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,38 @@
+package com.toy.payment.app.payment.service;
+
+import com.toy.payment.app.common.pagination.CursorPage;
+import com.toy.payment.app.payment.dto.PaymentHistoryResponse;
+import com.toy.payment.domain.payment.repository.PaymentHistoryRow;
+import com.toy.payment.domain.payment.repository.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 회원 결제 내역 조회 (키셋 페이지네이션, DTO 프로젝션)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PaymentHistoryService {
+
+    // 결제 내역 페이지 최대 크기
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final PaymentRepository paymentRepository;
+
+    /**
+     * @param cursor 이전 페이지의 nextCursor (주문 ID, 없으면 첫 페이지)
+     * @param size   페이지 크기 (1 ~ MAX_PAGE_SIZE로 보정)
+     * @throws IllegalArgumentException 잘못된 커서
+     */
+    public CursorPage<PaymentHistoryResponse> getPaymentHistory(Long memberId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<PaymentHistoryRow> rows = paymentRepository.findHistoryByMember(
+                memberId, CursorPage.parseCursor(cursor), PageRequest.of(0, pageSize + 1));
+        return CursorPage.of(rows, pageSize, PaymentHistoryRow::orderId, PaymentHistoryResponse::new);
+    }
+}
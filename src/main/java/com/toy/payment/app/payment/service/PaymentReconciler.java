@@ -0,0 +1,296 @@
+package com.toy.payment.app.payment.service;
+
+import com.toy.payment.app.payment.dto.PortOnePaymentData;
+import com.toy.payment.app.payment.dto.PortOnePaymentPage;
+import com.toy.payment.app.payment.service.PaymentService.OrderCancelledException;
+import com.toy.payment.app.payment.service.PaymentService.StockExhaustedException;
+import com.toy.payment.app.payment.service.PortOneService.PortOnePaymentResponse;
+import com.toy.payment.domain.order.entity.OrderStatus;
+import com.toy.payment.domain.order.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PENDING 주문 대사 (Reconciliation)
+ * 
+ * 검증 요청/웹훅을 받지 못해 PENDING으로 남은 주문을 주기적으로 정리한다.
+ * 
+ * <h2>동작 흐름</h2>
+ * 
+ * <pre>
+ * 1. 결제 완료 반영: PortOne 결제 목록(status=paid)을 시간 구간 + 페이지 단위로 조회
+ *    → 페이지의 merchant_uid 중 PENDING/CANCELLED인 주문만 IN 쿼리로 골라 반영 (PG 재조회 없음)
+ *       - PENDING → PAID 반영 (재고 소진/금액 불일치면 주문 취소 + 환불 등록)
+ *       - CANCELLED → 결제된 금액 환불 등록 (만료/보상으로 먼저 취소된 주문)
+ *    → 처리 위치(구간, 페이지)는 Redis 체크포인트에 저장하여 다음 실행에서 이어서 조회
+ *    → 일시 오류(DB 등)로 반영하지 못한 건이 있으면 체크포인트를 그 페이지에 멈추고 다음 실행에서 재시도
+ * 2. 만료 처리: 체크포인트 이전에 결제가 확인되지 않은 오래된 PENDING 주문
+ *    → 키셋 페이지네이션으로 ID 청크를 읽어 UPDATE ... WHERE id IN (...) AND status = 'PENDING' 으로 일괄 CANCELLED
+ *    → 1단계가 멈춘 실행에서는 만료 처리하지 않음 (결제 완료 목록에 있던 주문을 만료시키지 않도록)
+ * </pre>
+ * 
+ * 주문 건별 getPaymentInfo(+ 토큰 발급) 대신 페이지당 1회 호출로 최대 page-size건을 확인한다.
+ * 메모리 사용은 페이지/청크 크기로, PG 호출 속도는 request-interval-ms와 max-pages-per-run으로 제한된다.
+ * 여러 노드에서 실행되어도 Redis 락으로 한 노드만 수행한다. 기본값은 꺼져 있다 (payment.reconcile.enabled=true).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "payment.reconcile.enabled", havingValue = "true")
+public class PaymentReconciler {
+
+    private static final String CHECKPOINT_KEY = "reconcile:portone:paid:checkpoint";
+    private static final String LOCK_KEY = "reconcile:portone:lock";
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final PortOneService portOneService;
+    private final PaymentService paymentService;
+    private final OrderRepository orderRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int pageSize;
+    private final int maxPagesPerRun;
+    private final long requestIntervalMillis;
+    private final long lagSeconds;
+    private final long maxWindowSeconds;
+    private final Duration initialLookback;
+    private final Duration expireAfter;
+    private final int expireChunkSize;
+    private final int expireMaxChunksPerRun;
+
+    public PaymentReconciler(
+            PortOneService portOneService,
+            PaymentService paymentService,
+            OrderRepository orderRepository,
+            RedisTemplate<String, String> redisTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${payment.reconcile.page-size:100}") int pageSize,
+            @Value("${payment.reconcile.max-pages-per-run:50}") int maxPagesPerRun,
+            @Value("${payment.reconcile.request-interval-ms:200}") long requestIntervalMillis,
+            @Value("${payment.reconcile.lag-seconds:60}") long lagSeconds,
+            @Value("${payment.reconcile.max-window-seconds:3600}") long maxWindowSeconds,
+            @Value("${payment.reconcile.initial-lookback-hours:24}") long initialLookbackHours,
+            @Value("${payment.reconcile.expire-after-minutes:60}") long expireAfterMinutes,
+            @Value("${payment.reconcile.expire-chunk-size:1000}") int expireChunkSize,
+            @Value("${payment.reconcile.expire-max-chunks-per-run:100}") int expireMaxChunksPerRun) {
+        this.portOneService = portOneService;
+        this.paymentService = paymentService;
+        this.orderRepository = orderRepository;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.pageSize = Math.min(pageSize, 100);
+        this.maxPagesPerRun = maxPagesPerRun;
+        this.requestIntervalMillis = requestIntervalMillis;
+        this.lagSeconds = lagSeconds;
+        this.maxWindowSeconds = maxWindowSeconds;
+        this.initialLookback = Duration.ofHours(initialLookbackHours);
+        this.expireAfter = Duration.ofMinutes(expireAfterMinutes);
+        this.expireChunkSize = expireChunkSize;
+        this.expireMaxChunksPerRun = expireMaxChunksPerRun;
+    }
+
+    @Scheduled(fixedDelayString = "${payment.reconcile.interval-ms:60000}",
+            initialDelayString = "${payment.reconcile.initial-delay-ms:30000}")
+    public void reconcile() {
+        String lockValue = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, lockValue, Duration.ofMinutes(10));
+        if (!Boolean.TRUE.equals(acquired)) {
+            return;
+        }
+
+        try {
+            reconcilePaid().ifPresent(this::expireStale);
+        } catch (Exception e) {
+            log.error("[Reconciler] 대사 작업 실패", e);
+        } finally {
+            if (lockValue.equals(redisTemplate.opsForValue().get(LOCK_KEY))) {
+                redisTemplate.delete(LOCK_KEY);
+            }
+        }
+    }
+
+    /**
+     * 1. 결제 완료 건 반영
+     * 
+     * @return 갱신된 체크포인트 (from 이전에 시작된 결제는 모두 반영됨), 일시 오류로 멈췄으면 empty
+     */
+    private Optional<Checkpoint> reconcilePaid() {
+        Checkpoint checkpoint = loadCheckpoint();
+        int pages = 0;
+        int applied = 0;
+
+        while (pages < maxPagesPerRun) {
+            long horizon = Instant.now().getEpochSecond() - lagSeconds;
+            if (checkpoint.from() >= horizon) {
+                break;
+            }
+            if (checkpoint.from() >= checkpoint.to()) {
+                // 현재 구간 완료 → 다음 구간
+                checkpoint = new Checkpoint(checkpoint.to(), Math.min(checkpoint.to() + maxWindowSeconds, horizon), 1);
+                continue;
+            }
+
+            PortOnePaymentPage page = portOneService.getPaymentsByStatus(
+                    "paid", checkpoint.from(), checkpoint.to(), checkpoint.page(), pageSize);
+            pages++;
+            PageResult result = applyPaid(page.list());
+            applied += result.applied();
+            if (result.retryNeeded()) {
+                // 체크포인트를 넘기지 않음 → 다음 실행에서 같은 페이지부터 (이미 반영된 주문은 PENDING이 아니라 건너뜀)
+                log.warn("[Reconciler] 반영 실패 건이 있어 체크포인트 유지 - checkpoint: {}", checkpoint);
+                return Optional.empty();
+            }
+
+            checkpoint = page.hasNext()
+                    ? new Checkpoint(checkpoint.from(), checkpoint.to(), page.next())
+                    : new Checkpoint(checkpoint.to(), checkpoint.to(), 1);
+            saveCheckpoint(checkpoint);
+
+            sleep(requestIntervalMillis);
+        }
+
+        if (pages > 0) {
+            log.info("[Reconciler] 결제 목록 {}페이지 조회, PAID 반영 {}건 - checkpoint: {}", pages, applied, checkpoint);
+        }
+        return Optional.of(checkpoint);
+    }
+
+    private PageResult applyPaid(List<PortOnePaymentData> payments) {
+        if (payments == null || payments.isEmpty()) {
+            return new PageResult(0, false);
+        }
+
+        Map<String, PortOnePaymentData> byMerchantUid = new LinkedHashMap<>();
+        for (PortOnePaymentData payment : payments) {
+            if (payment.merchantUid() != null) {
+                byMerchantUid.put(payment.merchantUid(), payment);
+            }
+        }
+
+        // 페이지 단위 IN 쿼리로 반영 대상(PENDING, 결제됐는데 취소된 CANCELLED) 주문만 선별
+        List<String> targetOrderUids = new ArrayList<>(orderRepository.findOrderUidStringsByStatus(
+                byMerchantUid.keySet(), OrderStatus.PENDING));
+        targetOrderUids.addAll(orderRepository.findOrderUidStringsByStatus(byMerchantUid.keySet(),
+                OrderStatus.CANCELLED));
+
+        int applied = 0;
+        boolean retryNeeded = false;
+        for (String orderUid : targetOrderUids) {
+            PortOnePaymentData payment = byMerchantUid.get(orderUid);
+            try {
+                paymentService.applyPaymentResult(payment.impUid(), orderUid, toResponse(payment));
+                applied++;
+                log.info("[Reconciler] 누락된 결제 반영 - impUid: {}, merchantUid: {}", payment.impUid(), orderUid);
+            } catch (StockExhaustedException | OrderCancelledException e) {
+                // 주문 취소 + 환불 등록 완료
+                log.warn("[Reconciler] 결제 환불 등록 - impUid: {}, merchantUid: {}, reason: {}",
+                        payment.impUid(), orderUid, e.getMessage());
+            } catch (IllegalArgumentException e) {
+                // 금액 불일치 등 재시도해도 반영할 수 없는 결제 → PENDING으로 남아 만료되지 않도록 취소 + 환불
+                log.error("[Reconciler] 결제 반영 불가. 주문 취소 + 환불 - impUid: {}, merchantUid: {}",
+                        payment.impUid(), orderUid, e);
+                paymentService.rejectPayment(payment.impUid(), orderUid, "결제 금액/상태 불일치로 인한 자동 취소");
+            } catch (Exception e) {
+                // 일시 오류 → 페이지 재시도
+                log.error("[Reconciler] 결제 반영 실패 - impUid: {}, merchantUid: {}", payment.impUid(), orderUid, e);
+                retryNeeded = true;
+            }
+        }
+        return new PageResult(applied, retryNeeded);
+    }
+
+    /**
+     * 2. 결제가 확인되지 않은 오래된 PENDING 주문 만료
+     * 
+     * 결제 목록을 체크포인트까지 확인했으므로, 체크포인트보다 expireAfter 이상 앞서 생성된 주문은
+     * 결제 세션이 끝났는데도 결제가 없는 주문이다.
+     */
+    private void expireStale(Checkpoint checkpoint) {
+        long safeEpoch = Math.min(checkpoint.from(), Instant.now().getEpochSecond());
+        LocalDateTime before = LocalDateTime.ofInstant(Instant.ofEpochSecond(safeEpoch), ZONE).minus(expireAfter);
+
+        long afterId = 0L;
+        int expired = 0;
+        for (int chunk = 0; chunk < expireMaxChunksPerRun; chunk++) {
+            List<Long> ids = orderRepository.findIdsByStatusCreatedBefore(
+                    OrderStatus.PENDING, afterId, before, PageRequest.of(0, expireChunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            Integer updated = transactionTemplate.execute(
+                    status -> orderRepository.updateStatus(ids, OrderStatus.PENDING, OrderStatus.CANCELLED));
+            expired += updated != null ? updated : 0;
+            afterId = ids.get(ids.size() - 1);
+        }
+
+        if (expired > 0) {
+            log.info("[Reconciler] 미결제 PENDING 주문 {}건 만료 처리 (생성 시각 < {})", expired, before);
+        }
+    }
+
+    private Checkpoint loadCheckpoint() {
+        String value = redisTemplate.opsForValue().get(CHECKPOINT_KEY);
+        if (value != null) {
+            String[] parts = value.split(":");
+            if (parts.length == 3) {
+                return new Checkpoint(Long.parseLong(parts[0]), Long.parseLong(parts[1]), Integer.parseInt(parts[2]));
+            }
+        }
+        long from = Instant.now().minus(initialLookback).getEpochSecond();
+        return new Checkpoint(from, from, 1);
+    }
+
+    private void saveCheckpoint(Checkpoint checkpoint) {
+        redisTemplate.opsForValue().set(CHECKPOINT_KEY,
+                checkpoint.from() + ":" + checkpoint.to() + ":" + checkpoint.page());
+    }
+
+    private static PortOnePaymentResponse toResponse(PortOnePaymentData data) {
+        PortOnePaymentResponse response = new PortOnePaymentResponse();
+        response.setImpUid(data.impUid());
+        response.setMerchantUid(data.merchantUid());
+        response.setAmount(data.amount());
+        response.setStatus(data.status());
+        return response;
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record PageResult(int applied, boolean retryNeeded) {
+    }
+
+    /**
+     * 결제 목록 조회 위치 (구간 [from, to)의 page번째 페이지부터)
+     */
+    private record Checkpoint(long from, long to, int page) {
+    }
+}
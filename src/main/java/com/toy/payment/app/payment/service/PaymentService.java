@@ -1,73 +1,214 @@
 package com.toy.payment.app.payment.service;
 
 import com.toy.payment.app.payment.service.PortOneService.PortOnePaymentResponse;
+import com.toy.payment.app.stock.service.SoldOutRegistry;
+import com.toy.payment.app.stock.service.StockChangeNotifier;
+import com.toy.payment.app.stock.service.StockReservationService;
+import com.toy.payment.app.stock.service.StockReservationService.HoldConfirmation;
 import com.toy.payment.domain.order.entity.Order;
+import com.toy.payment.domain.order.entity.OrderStatus;
 import com.toy.payment.domain.order.repository.OrderRepository;
 import com.toy.payment.domain.payment.entity.Payment;
 import com.toy.payment.domain.payment.entity.PaymentStatus;
 import com.toy.payment.domain.payment.repository.PaymentRepository;
+import com.toy.payment.domain.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Optional;
+
+/**
+ * 결제 검증
+ * 
+ * <h2>단계</h2>
+ * 
+ * <pre>
+ * 1. PG 결제 조회 - 트랜잭션 밖 (PG 응답을 기다리는 동안 DB 커넥션을 잡지 않음)
+ * 2. 결제 반영 - 짧은 트랜잭션: 금액/상태 검증 → 주문 상태 CAS 전이(PENDING → PAID, 승자만 계속) → 재고 차감(선점 시 확정) → 결제 기록
+ *    (재고는 조건부 UPDATE로 차감, 낙관적 락 충돌은 재고 부족이 아니므로 짧은 트랜잭션을 재시도)
+ * 3. 보상 - 재고가 실제로 부족할 때만 별도 트랜잭션에서 주문 취소(PENDING → CANCELLED) + 결제 취소 요청(Outbox) 등록
+ *    (실제 PG 취소 API 호출은 PaymentCancelWorker가 트랜잭션 밖에서 처리)
+ * </pre>
+ * 
+ * 취소된 주문(CANCELLED)은 최종 상태다. 늦게 도착한 검증/웹훅/대사는 결제를 반영하지 않고 환불만 등록한다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PaymentService {
 
+    // 결제 반영 트랜잭션의 낙관적 락 충돌 재시도 횟수 (초과 시 보상 없이 예외 전파)
+    private static final int MAX_CONFLICT_ATTEMPTS = 3;
+
     private final PortOneService portOneService;
     private final OrderRepository orderRepository;
+    private final ProductRepository productRepository;
     private final PaymentRepository paymentRepository;
+    private final PaymentCancelOutbox cancelOutbox;
+    private final StockReservationService stockReservationService;
+    private final StockChangeNotifier stockChangeNotifier;
+    private final SoldOutRegistry soldOutRegistry;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
     public void verifyPayment(String impUid, String merchantUid) {
+        // 1. PG 조회 (타임아웃 시 망취소 요청은 PortOneService가 Outbox에 등록)
         PortOnePaymentResponse paymentResponse = portOneService.getPaymentInfo(impUid, merchantUid);
+        applyPaymentResult(impUid, merchantUid, paymentResponse);
+    }
 
-        Order order = orderRepository.findByOrderUidFetch(merchantUid)
-                .orElseThrow(() -> new IllegalArgumentException("Order not found: " + merchantUid));
+    /**
+     * PG 조회 결과를 주문/결제에 반영 (PG 재조회 없음)
+     * 
+     * 결제 검증과 대사(PaymentReconciler)가 같은 반영 로직을 사용한다.
+     */
+    public void applyPaymentResult(String impUid, String merchantUid, PortOnePaymentResponse paymentResponse) {
+        // 2. 결제 반영
+        Outcome outcome = completeWithRetry(impUid, merchantUid, paymentResponse);
 
-        if (order.getPrice().longValue() != paymentResponse.getAmount().longValue()) {
-            throw new IllegalArgumentException(
-                    "Amount mismatch. Order: " + order.getPrice() + ", Paid: " + paymentResponse.getAmount());
+        if (outcome == Outcome.ORDER_CANCELLED) {
+            throw new OrderCancelledException("취소된 주문입니다. 결제는 자동 취소 처리됩니다.");
         }
 
-        String status = paymentResponse.getStatus() != null ? paymentResponse.getStatus().toLowerCase() : "";
-        if ("paid".equals(status)) {
-            Payment payment = paymentRepository.findByOrder(order)
-                    .orElseGet(() -> Payment.builder()
-                            .order(order)
-                            .price(order.getPrice())
-                            .build());
-
-            if (payment.getStatus() == PaymentStatus.PAID) {
-                log.info("Payment already processed for order: {}", order.getId());
-                return;
-            }
+        // 3. 보상: 주문 취소 + 이미 결제된 금액 자동 환불 (Outbox 워커가 처리)
+        if (outcome == Outcome.STOCK_EXHAUSTED && compensate(impUid, merchantUid, "재고 소진으로 인한 자동 취소")) {
+            throw new StockExhaustedException("재고가 소진되어 결제가 자동 취소 처리됩니다.");
+        }
+    }
 
-            // 재고 차감 (결제 검증 성공 후에만 차감 - 낙관적 락으로 동시성 제어)
+    /**
+     * 낙관적 락 충돌(커밋 시점)은 다른 트랜잭션의 동시 수정일 뿐 재고 부족이 아니므로 다시 실행한다.
+     * 재시도 후에도 충돌하면 보상하지 않고 예외를 전파한다 (검증 재시도/웹훅/대사로 다시 반영).
+     */
+    private Outcome completeWithRetry(String impUid, String merchantUid, PortOnePaymentResponse paymentResponse) {
+        for (int attempt = 1;; attempt++) {
             try {
-                order.getProduct().decreaseStock(order.getCount());
-                log.info("Stock decreased for product: {}, count: {}",
-                        order.getProduct().getId(), order.getCount());
-            } catch (org.springframework.dao.OptimisticLockingFailureException e) {
-                // 재고 충돌 발생 → 이미 결제된 금액 자동 환불
-                log.warn("재고 충돌 발생! 결제 취소 진행 - impUid: {}, merchantUid: {}", impUid, merchantUid);
-                boolean cancelSuccess = portOneService.cancelPayment(impUid, "재고 소진으로 인한 자동 취소");
-                if (cancelSuccess) {
-                    throw new StockExhaustedException("재고가 소진되어 결제가 자동 취소되었습니다.");
-                } else {
-                    throw new StockExhaustedException("재고 소진. 결제 취소 처리 중 문제가 발생했습니다. 고객센터에 문의해주세요.");
+                return transactionTemplate.execute(status -> complete(status, impUid, merchantUid, paymentResponse));
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= MAX_CONFLICT_ATTEMPTS) {
+                    log.warn("결제 반영 충돌 재시도 초과 - impUid: {}, merchantUid: {}", impUid, merchantUid);
+                    throw e;
                 }
+                log.info("결제 반영 충돌, 재시도 ({}/{}) - impUid: {}, merchantUid: {}",
+                        attempt, MAX_CONFLICT_ATTEMPTS, impUid, merchantUid);
             }
+        }
+    }
+
+    /**
+     * 주문 상태를 Compare-And-Set(PENDING → PAID)으로 먼저 전이해 승자만 재고/결제를 처리한다.
+     * 재고가 부족하면 트랜잭션을 롤백하여 전이도 함께 되돌린다.
+     * 
+     * 주문 Row를 잠그고 읽으므로 보상/만료 처리와 동시에 실행돼도 커밋된 최신 상태를 본다.
+     */
+    private Outcome complete(TransactionStatus txStatus, String impUid, String merchantUid,
+            PortOnePaymentResponse paymentResponse) {
+        Order order = orderRepository.findByOrderUidForUpdate(merchantUid)
+                .orElseThrow(() -> new IllegalArgumentException("Order not found: " + merchantUid));
+
+        if (order.getStatus() == OrderStatus.PAID) {
+            log.info("Payment already processed for order: {}", order.getId());
+            return Outcome.COMPLETED;
+        }
+
+        if (order.getStatus() == OrderStatus.CANCELLED) {
+            // 취소된 주문은 되살리지 않음 → 재고/결제 반영 없이 결제된 금액만 환불
+            log.warn("취소된 주문의 결제 - impUid: {}, merchantUid: {}", impUid, merchantUid);
+            if ("paid".equalsIgnoreCase(paymentResponse.getStatus())) {
+                cancelOutbox.enqueue(impUid, merchantUid, "취소된 주문의 결제 자동 취소");
+            }
+            return Outcome.ORDER_CANCELLED;
+        }
 
-            payment.changePaymentBySuccess(PaymentStatus.PAID, impUid);
-            paymentRepository.save(payment);
+        if (!order.getPrice().equals(paymentResponse.getAmount())) {
+            throw new IllegalArgumentException(
+                    "Amount mismatch. Order: " + order.getPrice() + ", Paid: " + paymentResponse.getAmount());
+        }
 
-            order.completePayment();
-        } else {
+        String status = paymentResponse.getStatus() != null ? paymentResponse.getStatus().toLowerCase() : "";
+        if (!"paid".equals(status)) {
             throw new IllegalArgumentException("Payment not paid. Status: " + paymentResponse.getStatus());
         }
+
+        // 같은 주문의 동시 반영(검증/웹훅/대사) 중 한 요청만 통과
+        if (orderRepository.compareAndSetStatus(order.getId(), OrderStatus.PENDING, OrderStatus.PAID) == 0) {
+            log.info("Payment already processed for order: {}", order.getId());
+            return Outcome.COMPLETED;
+        }
+
+        // 주문 시점에 선점한 재고가 있으면 판매로 확정
+        HoldConfirmation confirmation = stockReservationService.confirm(order);
+        if (confirmation == HoldConfirmation.EXHAUSTED) {
+            log.warn("선점 만료 후 재고 부족! - impUid: {}, merchantUid: {}", impUid, merchantUid);
+            txStatus.setRollbackOnly();
+            return Outcome.STOCK_EXHAUSTED;
+        }
+
+        if (confirmation == HoldConfirmation.NO_HOLD) {
+            // 재고 차감 (결제 검증 성공 후에만 차감 - 조건부 UPDATE, 재고가 부족하면 0건)
+            Long productId = order.getProduct().getId();
+            if (productRepository.decreaseStockIfAvailable(productId, order.getCount()) == 0) {
+                log.warn("재고 부족! - impUid: {}, merchantUid: {}", impUid, merchantUid);
+                txStatus.setRollbackOnly();
+                return Outcome.STOCK_EXHAUSTED;
+            }
+            stockChangeNotifier.changed(productId);
+            if (productRepository.findStockById(productId).filter(stock -> stock == 0).isPresent()) {
+                soldOutRegistry.markSoldOut(productId);
+            }
+            log.info("Stock decreased for product: {}, count: {}", productId, order.getCount());
+        }
+
+        Payment payment = Payment.builder()
+                .order(order)
+                .price(order.getPrice())
+                .build();
+        payment.changePaymentBySuccess(PaymentStatus.PAID, impUid);
+        paymentRepository.save(payment);
+        return Outcome.COMPLETED;
+    }
+
+    /**
+     * 반영할 수 없는 결제 취소 (대사에서 금액 불일치 등으로 반영에 실패한 결제 완료 건)
+     * 
+     * PENDING으로 남겨 두면 만료 처리로 주문만 취소되고 결제된 금액은 환불되지 않으므로
+     * 주문 취소와 환불을 함께 등록한다.
+     * 
+     * @return 환불을 등록했으면 true (이미 PAID면 false)
+     */
+    public boolean rejectPayment(String impUid, String merchantUid, String reason) {
+        return compensate(impUid, merchantUid, reason);
+    }
+
+    /**
+     * 보상 (주문 Row 락 후 상태 확인)
+     * 
+     * 롤백 이후 경쟁 요청이 먼저 결제를 반영했으면(PAID) 취소/환불하지 않는다.
+     * 
+     * @return 환불을 등록했으면 true
+     */
+    private boolean compensate(String impUid, String merchantUid, String reason) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            Optional<Order> order = orderRepository.findByOrderUidForUpdate(merchantUid);
+            if (order.isPresent() && order.get().getStatus() == OrderStatus.PAID) {
+                log.info("다른 요청이 결제를 반영함. 보상 생략 - impUid: {}, merchantUid: {}", impUid, merchantUid);
+                return false;
+            }
+            order.ifPresent(o -> orderRepository.compareAndSetStatus(o.getId(), OrderStatus.PENDING,
+                    OrderStatus.CANCELLED));
+            log.warn("결제 취소 요청 등록 - impUid: {}, merchantUid: {}", impUid, merchantUid);
+            cancelOutbox.enqueue(impUid, merchantUid, reason);
+            return true;
+        }));
+    }
+
+    private enum Outcome {
+        COMPLETED,
+        STOCK_EXHAUSTED,
+        ORDER_CANCELLED
     }
 
     /**
@@ -78,4 +219,13 @@ public class PaymentService {
             super(message);
         }
     }
+
+    /**
+     * 이미 취소된 주문에 대한 결제 (환불은 Outbox에 등록됨)
+     */
+    public static class OrderCancelledException extends RuntimeException {
+        public OrderCancelledException(String message) {
+            super(message);
+        }
+    }
 }
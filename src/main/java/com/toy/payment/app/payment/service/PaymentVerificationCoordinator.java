@@ -0,0 +1,86 @@
+package com.toy.payment.app.payment.service;
+
+import com.toy.payment.app.common.idempotency.SingleFlight;
+import com.toy.payment.domain.order.entity.OrderStatus;
+import com.toy.payment.domain.order.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 결제 검증 조정 (클라이언트 검증 / 비동기 검증 / 웹훅)
+ * 
+ * <h2>중복 제거</h2>
+ * 
+ * <pre>
+ * 1. 같은 노드: 주문번호(merchant_uid) 기준 Single-Flight → 동시에 들어온 검증은 한 번만 실행
+ * 2. 다른 노드: 클라이언트 검증 중에는 Redis에 진행 표시(payment_verifying:{merchant_uid}) 기록
+ *    → 웹훅 워커는 진행 표시가 있으면 처리를 보류하고, 이후 주문이 PAID면 PG 조회 없이 완료 처리
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentVerificationCoordinator {
+
+    private static final String VERIFYING_PREFIX = "payment_verifying:";
+    // PG Read Timeout(30초) + 망취소 등록까지 포함
+    private static final Duration VERIFYING_TTL = Duration.ofSeconds(60);
+
+    private final PaymentService paymentService;
+    private final OrderRepository orderRepository;
+    private final SingleFlight singleFlight;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 클라이언트 요청에 의한 검증 (동기/비동기 API)
+     */
+    public void verify(String impUid, String merchantUid) {
+        String key = VERIFYING_PREFIX + merchantUid;
+        singleFlight.execute(key, () -> {
+            redisTemplate.opsForValue().set(key, impUid != null ? impUid : "", VERIFYING_TTL);
+            try {
+                paymentService.verifyPayment(impUid, merchantUid);
+                return null;
+            } finally {
+                redisTemplate.delete(key);
+            }
+        });
+    }
+
+    /**
+     * 웹훅에 의한 검증
+     * 
+     * @return 처리 결과
+     */
+    public WebhookOutcome verifyFromWebhook(String impUid, String merchantUid) {
+        // 1. 이미 결제 완료(또는 취소)된 주문 → PG 조회 없이 완료
+        OrderStatus orderStatus = orderRepository.findStatusByOrderUid(merchantUid).orElse(null);
+        if (orderStatus != null && orderStatus != OrderStatus.PENDING) {
+            log.info("Webhook skipped. Order already {} - merchantUid: {}", orderStatus, merchantUid);
+            return WebhookOutcome.ALREADY_DONE;
+        }
+
+        // 2. 클라이언트 검증이 진행 중 → 보류
+        String key = VERIFYING_PREFIX + merchantUid;
+        if (singleFlight.isInFlight(key) || Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            return WebhookOutcome.DEFERRED;
+        }
+
+        // 3. 직접 검증 (같은 노드에서 클라이언트 검증이 막 시작되면 그 결과를 공유)
+        singleFlight.execute(key, () -> {
+            paymentService.verifyPayment(impUid, merchantUid);
+            return null;
+        });
+        return WebhookOutcome.APPLIED;
+    }
+
+    public enum WebhookOutcome {
+        APPLIED,
+        ALREADY_DONE,
+        DEFERRED
+    }
+}
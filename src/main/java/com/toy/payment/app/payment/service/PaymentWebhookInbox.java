@@ -0,0 +1,42 @@
+package com.toy.payment.app.payment.service;
+
+import com.toy.payment.domain.common.id.Snowflake;
+import com.toy.payment.domain.payment.repository.PaymentWebhookEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 웹훅 수신함
+ * 
+ * PG 조회/결제 반영 없이 이벤트 저장만 수행하여 웹훅에 즉시 응답한다.
+ * 같은 (merchant_uid, imp_uid, 결제 상태) 웹훅은 한 번만 저장한다 (PG 재전송 병합, 유니크 키 + INSERT IGNORE).
+ * 같은 주문이라도 다른 결제 시도나 새 상태(취소 등)의 웹훅은 별도 이벤트로 저장된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentWebhookInbox {
+
+    private final PaymentWebhookEventRepository webhookEventRepository;
+
+    /**
+     * 웹훅 저장
+     * 
+     * @return 새로 저장되었으면 true, 중복으로 병합되었으면 false
+     */
+    @Transactional
+    public boolean receive(String impUid, String merchantUid, String paymentStatus) {
+        int inserted = webhookEventRepository.insertIgnore(Snowflake.getInstance().nextId(), impUid, merchantUid,
+                paymentStatus, LocalDateTime.now());
+        if (inserted == 0) {
+            log.info("Webhook merged into existing event - merchantUid: {}, impUid: {}, status: {}",
+                    merchantUid, impUid, paymentStatus);
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,164 @@
+package com.toy.payment.app.payment.service;
+
+import com.toy.payment.app.payment.service.PaymentService.OrderCancelledException;
+import com.toy.payment.app.payment.service.PaymentService.StockExhaustedException;
+import com.toy.payment.app.payment.service.PaymentVerificationCoordinator.WebhookOutcome;
+import com.toy.payment.domain.payment.entity.PaymentWebhookEvent;
+import com.toy.payment.domain.payment.repository.PaymentWebhookEventRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 웹훅 처리 워커
+ * 
+ * <h2>동작 흐름</h2>
+ * 
+ * <pre>
+ * 1. 워커 풀 여유만큼만 처리 시각이 된 이벤트 선점 (FOR UPDATE SKIP LOCKED → PROCESSING + 임대 시간)
+ * 2. 워커 풀에서 PaymentVerificationCoordinator.verifyFromWebhook 실행
+ *    - APPLIED / ALREADY_DONE → DONE
+ *    - DEFERRED (클라이언트 검증 진행 중) → 시도 횟수 증가 없이 defer-ms 후 다시 처리
+ *    - 금액 불일치/미결제 상태 등 재시도해도 같은 결과인 오류 → FAILED
+ *    - PG 장애/타임아웃 등 → 지수 백오프로 재시도, 최대 횟수 초과 시 FAILED
+ * </pre>
+ * 
+ * 선점 수를 풀 여유만큼으로 제한하므로 웹훅이 몰려도 처리 스레드와 DB 커넥션 사용량이 일정하게 유지되고,
+ * 밀린 이벤트는 DB에 대기한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "payment.webhook.worker.enabled", havingValue = "true", matchIfMissing = true)
+public class PaymentWebhookWorker {
+
+    private final PaymentWebhookEventRepository webhookEventRepository;
+    private final PaymentVerificationCoordinator verificationCoordinator;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+
+    private final int poolSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration deferDelay;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public PaymentWebhookWorker(
+            PaymentWebhookEventRepository webhookEventRepository,
+            PaymentVerificationCoordinator verificationCoordinator,
+            PlatformTransactionManager transactionManager,
+            @Value("${payment.webhook.worker.pool-size:8}") int poolSize,
+            @Value("${payment.webhook.worker.max-attempts:10}") int maxAttempts,
+            @Value("${payment.webhook.worker.lease-seconds:120}") long leaseSeconds,
+            @Value("${payment.webhook.worker.defer-ms:3000}") long deferMillis,
+            @Value("${payment.webhook.worker.initial-backoff-seconds:2}") long initialBackoffSeconds,
+            @Value("${payment.webhook.worker.max-backoff-seconds:600}") long maxBackoffSeconds) {
+        this.webhookEventRepository = webhookEventRepository;
+        this.verificationCoordinator = verificationCoordinator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.poolSize = poolSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.deferDelay = Duration.ofMillis(deferMillis);
+        this.initialBackoff = Duration.ofSeconds(initialBackoffSeconds);
+        this.maxBackoff = Duration.ofSeconds(maxBackoffSeconds);
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "payment-webhook-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${payment.webhook.worker.poll-interval-ms:200}")
+    public void poll() {
+        int capacity = poolSize - inFlight.get();
+        if (capacity <= 0) {
+            return;
+        }
+
+        List<PaymentWebhookEvent> claimed = claim(capacity);
+        for (PaymentWebhookEvent event : claimed) {
+            inFlight.incrementAndGet();
+            executor.execute(() -> {
+                try {
+                    process(event);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    private List<PaymentWebhookEvent> claim(int limit) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<PaymentWebhookEvent> due = webhookEventRepository.findDueForUpdateSkipLocked(now, limit);
+            due.forEach(event -> event.claim(now.plus(lease)));
+            return due;
+        });
+    }
+
+    private void process(PaymentWebhookEvent event) {
+        try {
+            WebhookOutcome outcome = verificationCoordinator.verifyFromWebhook(event.getImpUid(),
+                    event.getMerchantUid());
+            if (outcome == WebhookOutcome.DEFERRED) {
+                update(event, e -> e.defer(LocalDateTime.now().plus(deferDelay)));
+                return;
+            }
+            update(event, PaymentWebhookEvent::complete);
+            log.info("[WebhookWorker] 웹훅 처리 완료 - merchantUid: {}, outcome: {}", event.getMerchantUid(), outcome);
+        } catch (Exception e) {
+            boolean retryable = isRetryable(e);
+            String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            update(event, entity -> entity.fail(error, retryable,
+                    LocalDateTime.now().plus(backoff(entity.getAttempts())), maxAttempts));
+            if (retryable) {
+                log.warn("[WebhookWorker] 웹훅 처리 실패. 재시도 예약 - merchantUid: {}, attempts: {}, error: {}",
+                        event.getMerchantUid(), event.getAttempts() + 1, error);
+            } else {
+                log.error("[WebhookWorker] 웹훅 처리 실패 (재시도 불가) - merchantUid: {}", event.getMerchantUid(), e);
+            }
+        }
+    }
+
+    private void update(PaymentWebhookEvent event, Consumer<PaymentWebhookEvent> change) {
+        transactionTemplate.executeWithoutResult(status -> webhookEventRepository.findById(event.getId())
+                .ifPresent(change));
+    }
+
+    /**
+     * 재시도해도 결과가 같은 오류 (주문 없음, 금액 불일치, 미결제 상태, 재고 소진/취소된 주문 → 취소 등록 완료)
+     */
+    private static boolean isRetryable(Exception e) {
+        return !(e instanceof IllegalArgumentException || e instanceof StockExhaustedException
+                || e instanceof OrderCancelledException);
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
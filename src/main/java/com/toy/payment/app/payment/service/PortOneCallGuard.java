@@ -0,0 +1,144 @@
+package com.toy.payment.app.payment.service;
+
+import com.toy.payment.app.common.resilience.Bulkhead;
+import com.toy.payment.app.common.resilience.CircuitBreaker;
+import com.toy.payment.app.payment.service.PortOneService.PortOneUnavailableException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * PortOne 호출 보호 (벌크헤드 + 서킷 브레이커)
+ * 
+ * <h2>구성</h2>
+ * <ul>
+ * <li>조회 벌크헤드: 결제 조회 동시 호출 수 제한 (기본 50)</li>
+ * <li>취소 벌크헤드: 결제 취소 동시 호출 수 제한 (기본 10) - 조회 폭주가 망취소를 막지 않도록 분리</li>
+ * <li>서킷 브레이커: 조회/취소 각각, 실패율/지연 호출 비율 임계치 초과 시 즉시 거절
+ * - 조회 실패로 서킷이 열려도 망취소는 계속 시도할 수 있도록 분리 (설정값은 공유)</li>
+ * </ul>
+ * 
+ * 실패로 집계하는 예외: 타임아웃/연결 실패(ResourceAccessException), PG 5xx.
+ * 거절된 호출은 PG로 요청이 나가지 않았으므로 PortOneUnavailableException으로 변환한다.
+ * 
+ * 메트릭: portone.circuit.state{type}(0=CLOSED, 1=HALF_OPEN, 2=OPEN), portone.circuit.failure.rate{type},
+ * portone.circuit.slow.rate{type}, portone.circuit.not.permitted{type}, portone.bulkhead.available{type},
+ * portone.bulkhead.rejected{type} (type = lookup | cancel)
+ */
+@Slf4j
+@Component
+public class PortOneCallGuard implements MeterBinder {
+
+    private final CircuitBreaker lookupCircuitBreaker;
+    private final CircuitBreaker cancelCircuitBreaker;
+    private final Bulkhead lookupBulkhead;
+    private final Bulkhead cancelBulkhead;
+
+    public PortOneCallGuard(
+            @Value("${portone.bulkhead.lookup.max-concurrent:50}") int lookupMaxConcurrent,
+            @Value("${portone.bulkhead.cancel.max-concurrent:10}") int cancelMaxConcurrent,
+            @Value("${portone.bulkhead.max-wait-ms:100}") long maxWaitMs,
+            @Value("${portone.circuit.window-size:50}") int windowSize,
+            @Value("${portone.circuit.minimum-calls:20}") int minimumCalls,
+            @Value("${portone.circuit.failure-rate-threshold:50}") double failureRateThreshold,
+            @Value("${portone.circuit.slow-call-rate-threshold:80}") double slowCallRateThreshold,
+            @Value("${portone.circuit.slow-call-ms:5000}") long slowCallMs,
+            @Value("${portone.circuit.open-seconds:10}") long openSeconds,
+            @Value("${portone.circuit.half-open-calls:5}") int halfOpenCalls) {
+        this.lookupCircuitBreaker = new CircuitBreaker("portone-lookup", windowSize, minimumCalls,
+                failureRateThreshold, slowCallRateThreshold, Duration.ofMillis(slowCallMs),
+                Duration.ofSeconds(openSeconds), halfOpenCalls);
+        this.cancelCircuitBreaker = new CircuitBreaker("portone-cancel", windowSize, minimumCalls,
+                failureRateThreshold, slowCallRateThreshold, Duration.ofMillis(slowCallMs),
+                Duration.ofSeconds(openSeconds), halfOpenCalls);
+        this.lookupBulkhead = new Bulkhead("portone-lookup", lookupMaxConcurrent, Duration.ofMillis(maxWaitMs));
+        this.cancelBulkhead = new Bulkhead("portone-cancel", cancelMaxConcurrent, Duration.ofMillis(maxWaitMs));
+    }
+
+    /**
+     * 결제 조회 호출
+     */
+    public <T> T lookup(Supplier<T> call) {
+        return guard(lookupBulkhead, lookupCircuitBreaker, call);
+    }
+
+    /**
+     * 결제 취소 호출
+     */
+    public <T> T cancel(Supplier<T> call) {
+        return guard(cancelBulkhead, cancelCircuitBreaker, call);
+    }
+
+    private <T> T guard(Bulkhead bulkhead, CircuitBreaker circuitBreaker, Supplier<T> call) {
+        try {
+            return bulkhead.execute(() -> circuitBreaker.execute(call, PortOneCallGuard::isFailure));
+        } catch (Bulkhead.BulkheadFullException | CircuitBreaker.CircuitOpenException e) {
+            log.warn("PortOne 호출 거절 - {}", e.getMessage());
+            throw new PortOneUnavailableException("PG 호출이 일시적으로 제한되었습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+    }
+
+    private static boolean isFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ResourceAccessException || cause instanceof HttpServerErrorException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public CircuitBreaker.State getLookupCircuitState() {
+        return lookupCircuitBreaker.getState();
+    }
+
+    public CircuitBreaker.State getCancelCircuitState() {
+        return cancelCircuitBreaker.getState();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindCircuitBreaker(registry, "lookup", lookupCircuitBreaker);
+        bindCircuitBreaker(registry, "cancel", cancelCircuitBreaker);
+        bindBulkhead(registry, "lookup", lookupBulkhead);
+        bindBulkhead(registry, "cancel", cancelBulkhead);
+    }
+
+    private void bindCircuitBreaker(MeterRegistry registry, String type, CircuitBreaker circuitBreaker) {
+        Gauge.builder("portone.circuit.state", circuitBreaker, cb -> cb.getState().ordinal())
+                .description("PortOne 서킷 상태 (0=CLOSED, 1=HALF_OPEN, 2=OPEN)")
+                .tag("type", type)
+                .register(registry);
+        Gauge.builder("portone.circuit.failure.rate", circuitBreaker, CircuitBreaker::getFailureRate)
+                .baseUnit("percent")
+                .tag("type", type)
+                .register(registry);
+        Gauge.builder("portone.circuit.slow.rate", circuitBreaker, CircuitBreaker::getSlowCallRate)
+                .baseUnit("percent")
+                .tag("type", type)
+                .register(registry);
+        FunctionCounter.builder("portone.circuit.not.permitted", circuitBreaker, CircuitBreaker::getNotPermittedCount)
+                .tag("type", type)
+                .register(registry);
+    }
+
+    private void bindBulkhead(MeterRegistry registry, String type, Bulkhead bulkhead) {
+        Gauge.builder("portone.bulkhead.available", bulkhead, Bulkhead::getAvailablePermits)
+                .tag("type", type)
+                .register(registry);
+        Gauge.builder("portone.bulkhead.max", bulkhead, Bulkhead::getMaxConcurrentCalls)
+                .tag("type", type)
+                .register(registry);
+        FunctionCounter.builder("portone.bulkhead.rejected", bulkhead, Bulkhead::getRejectedCount)
+                .tag("type", type)
+                .register(registry);
+    }
+}
@@ -0,0 +1,286 @@
+package com.toy.payment.app.payment.service;
+
+import com.toy.payment.app.common.resilience.LatencyTracker;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 결제 조회 헤징 (Hedged Request)
+ * 
+ * <h2>동작 흐름</h2>
+ * 
+ * <pre>
+ * 1. 1차 조회(imp_uid) 시작
+ * 2. hedge 지연 시간(고정값 또는 최근 조회 응답 시간의 p95) 안에 응답 → 그대로 반환
+ * 3. 응답이 늦으면 → 헤지 예산이 있을 때만 2차 조회(merchant_uid) 발사
+ * 4. 먼저 성공한 응답 채택, 나머지는 취소 (결과 폐기)
+ * 5. 1차 조회가 지연 전에 실패(fallbackOn) → 기존 순차 재시도처럼 즉시 2차 조회 (예산 미사용)
+ * </pre>
+ * 
+ * 헤지 예산: 1차 조회마다 max-ratio만큼 적립되고 헤지 1회에 1씩 소모된다 (최대 max-burst).
+ * PG 장애로 모든 조회가 느려져도 추가 호출은 전체 조회의 max-ratio 이내로 제한된다.
+ * 
+ * 메트릭: portone.hedge.issued, portone.hedge.won, portone.hedge.delay
+ */
+@Slf4j
+@Component
+public class PortOneLookupHedger implements MeterBinder {
+
+    private final boolean enabled;
+    private final long fixedDelayMillis;
+    private final long minDelayMillis;
+    private final double maxRatio;
+    private final double maxBurst;
+    private final LatencyTracker latencyTracker;
+    private final ThreadPoolExecutor executor;
+
+    private double budget;
+    private final AtomicLong issuedCount = new AtomicLong();
+    private final AtomicLong wonCount = new AtomicLong();
+
+    public PortOneLookupHedger(
+            @Value("${portone.hedge.enabled:false}") boolean enabled,
+            @Value("${portone.hedge.delay-ms:0}") long fixedDelayMillis,
+            @Value("${portone.hedge.percentile:95}") double percentile,
+            @Value("${portone.hedge.min-delay-ms:50}") long minDelayMillis,
+            @Value("${portone.hedge.initial-delay-ms:500}") long initialDelayMillis,
+            @Value("${portone.hedge.max-ratio:0.05}") double maxRatio,
+            @Value("${portone.hedge.max-burst:10}") double maxBurst,
+            @Value("${portone.hedge.pool-size:64}") int poolSize) {
+        this.enabled = enabled;
+        this.fixedDelayMillis = fixedDelayMillis;
+        this.minDelayMillis = minDelayMillis;
+        this.maxRatio = maxRatio;
+        this.maxBurst = maxBurst;
+        this.latencyTracker = new LatencyTracker(500, 50, percentile, initialDelayMillis);
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(0, poolSize, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "portone-hedge-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 헤징 조회
+     * 
+     * @param primary    1차 조회
+     * @param hedge      2차 조회
+     * @param fallbackOn 1차 조회 실패 시 2차 조회로 넘어갈 예외 (그 외 예외는 즉시 전파)
+     * @return 먼저 성공한 조회 결과 (둘 다 실패하면 1차 조회의 예외)
+     */
+    public <T> T execute(Supplier<T> primary, Supplier<T> hedge, Predicate<Throwable> fallbackOn) {
+        long start = System.nanoTime();
+        Attempt<T> first;
+        try {
+            first = Attempt.submit(executor, primary);
+        } catch (RejectedExecutionException e) {
+            // 헤지 풀 포화 → 헤징 없이 호출 스레드에서 순차 처리
+            return sequential(primary, hedge, fallbackOn);
+        }
+        first.result.thenRun(() -> latencyTracker.record(elapsedMillis(start)));
+        earnBudget();
+
+        long delay = currentDelayMillis();
+        try {
+            return first.result.get(delay, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 3. 응답 지연 → 예산이 있으면 헤지
+            if (!tryConsumeBudget()) {
+                return awaitOrFallback(first, hedge, fallbackOn);
+            }
+            return race(first, hedge, fallbackOn);
+        } catch (ExecutionException e) {
+            // 5. 지연 전에 실패 → 즉시 2차 조회
+            if (!fallbackOn.test(e.getCause())) {
+                throw unwrap(e);
+            }
+            return hedge.get();
+        } catch (InterruptedException e) {
+            first.cancel();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for payment lookup", e);
+        }
+    }
+
+    private <T> T race(Attempt<T> first, Supplier<T> hedge, Predicate<Throwable> fallbackOn) {
+        Attempt<T> second;
+        try {
+            second = Attempt.submit(executor, hedge);
+        } catch (RejectedExecutionException e) {
+            return awaitOrFallback(first, hedge, fallbackOn);
+        }
+        issuedCount.incrementAndGet();
+
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        first.result.whenComplete((value, error) -> {
+            if (error == null) {
+                winner.complete(value);
+            } else if (!fallbackOn.test(unwrapCompletion(error))) {
+                winner.completeExceptionally(unwrapCompletion(error));
+            } else {
+                // 1차 실패 → 2차 결과를 기다림 (2차도 실패하면 1차 예외)
+                second.result.whenComplete((v, e) -> {
+                    if (e == null) {
+                        winner.complete(v);
+                    } else {
+                        winner.completeExceptionally(unwrapCompletion(error));
+                    }
+                });
+            }
+        });
+        second.result.whenComplete((value, error) -> {
+            if (error == null && winner.complete(value)) {
+                wonCount.incrementAndGet();
+            }
+        });
+
+        try {
+            return await(winner);
+        } finally {
+            // 4. 패자 취소 (진행 중인 소켓 읽기는 중단되지 않을 수 있으며, 결과는 폐기)
+            first.cancel();
+            second.cancel();
+        }
+    }
+
+    private <T> T awaitOrFallback(Attempt<T> first, Supplier<T> hedge, Predicate<Throwable> fallbackOn) {
+        try {
+            return await(first.result);
+        } catch (RuntimeException e) {
+            if (!fallbackOn.test(e)) {
+                throw e;
+            }
+            return hedge.get();
+        }
+    }
+
+    private <T> T sequential(Supplier<T> primary, Supplier<T> hedge, Predicate<Throwable> fallbackOn) {
+        try {
+            return primary.get();
+        } catch (RuntimeException e) {
+            if (!fallbackOn.test(e)) {
+                throw e;
+            }
+            return hedge.get();
+        }
+    }
+
+    long currentDelayMillis() {
+        if (fixedDelayMillis > 0) {
+            return fixedDelayMillis;
+        }
+        return Math.max(minDelayMillis, latencyTracker.getPercentileMillis());
+    }
+
+    private synchronized void earnBudget() {
+        budget = Math.min(maxBurst, budget + maxRatio);
+    }
+
+    private synchronized boolean tryConsumeBudget() {
+        if (budget < 1) {
+            return false;
+        }
+        budget -= 1;
+        return true;
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for payment lookup", e);
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private static Throwable unwrapCompletion(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("portone.hedge.issued", issuedCount, AtomicLong::get)
+                .description("발사된 헤지 조회 수")
+                .register(registry);
+        FunctionCounter.builder("portone.hedge.won", wonCount, AtomicLong::get)
+                .description("헤지 조회가 먼저 응답한 수")
+                .register(registry);
+        Gauge.builder("portone.hedge.delay", this, PortOneLookupHedger::currentDelayMillis)
+                .baseUnit("milliseconds")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 취소 가능한 조회 시도 (CompletableFuture.cancel은 실행 중인 스레드를 인터럽트하지 않으므로 Future를 함께 보관)
+     */
+    private record Attempt<T>(CompletableFuture<T> result, Future<?> task) {
+
+        static <T> Attempt<T> submit(ThreadPoolExecutor executor, Supplier<T> supplier) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            Future<?> task = executor.submit(() -> {
+                try {
+                    result.complete(supplier.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+            return new Attempt<>(result, task);
+        }
+
+        void cancel() {
+            task.cancel(true);
+        }
+    }
+}
@@ -1,144 +1,217 @@
 package com.toy.payment.app.payment.service;
 
+import com.toy.payment.app.payment.dto.PortOneApiResponse;
+import com.toy.payment.app.payment.dto.PortOnePaymentData;
+import com.toy.payment.app.payment.dto.PortOnePaymentPage;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
 
 @Slf4j
 @Service
 public class PortOneService {
 
-    private final RestTemplate restTemplate;
-
-    @Value("${portone.api.key}")
-    private String apiKey;
-
-    @Value("${portone.api.secret}")
-    private String apiSecret;
-
-    // 타임아웃 설정 (NicePay 가이드 참고)
-    private static final int CONNECTION_TIMEOUT_MS = 5000; // 5초
-    private static final int READ_TIMEOUT_MS = 30000; // 30초
-
-    public PortOneService() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(CONNECTION_TIMEOUT_MS);
-        factory.setReadTimeout(READ_TIMEOUT_MS);
-        this.restTemplate = new RestTemplate(factory);
+    private static final ParameterizedTypeReference<PortOneApiResponse<PortOnePaymentData>> PAYMENT_RESPONSE_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private static final ParameterizedTypeReference<PortOneApiResponse<PortOnePaymentPage>> PAGE_RESPONSE_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final RestTemplate portOneRestTemplate;
+    private final PortOneTokenManager tokenManager;
+    private final PortOneCallGuard callGuard;
+    private final PaymentCancelOutbox cancelOutbox;
+    private final PortOneLookupHedger hedger;
+    private final String baseUrl;
+
+    public PortOneService(
+            RestTemplate portOneRestTemplate,
+            PortOneTokenManager tokenManager,
+            PortOneCallGuard callGuard,
+            PaymentCancelOutbox cancelOutbox,
+            PortOneLookupHedger hedger,
+            @Value("${portone.api.base-url:https://api.iamport.kr}") String baseUrl) {
+        this.portOneRestTemplate = portOneRestTemplate;
+        this.tokenManager = tokenManager;
+        this.callGuard = callGuard;
+        this.cancelOutbox = cancelOutbox;
+        this.hedger = hedger;
+        this.baseUrl = baseUrl;
     }
 
     /**
      * 결제 정보 조회 (타임아웃 시 망취소 처리)
+     * 
+     * 벌크헤드/서킷 브레이커에 의해 거절되면 PG로 요청이 나가지 않았으므로 망취소 없이 PortOneUnavailableException
      */
     public PortOnePaymentResponse getPaymentInfo(String impUid, String merchantUid) {
-        String accessToken = getAccessToken();
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(accessToken);
-        HttpEntity<Void> entity = new HttpEntity<>(headers);
-
         try {
-            return fetchPaymentInfo(impUid, merchantUid, entity);
+            return callGuard.lookup(
+                    () -> withAccessToken(accessToken -> fetchPaymentInfo(impUid, merchantUid, accessToken)));
         } catch (ResourceAccessException e) {
+            if (e.getCause() instanceof ConnectionRequestTimeoutException) {
+                // 커넥션 풀 획득 실패 → PG로 요청이 나가지 않았으므로 망취소 불필요
+                log.warn("PortOne 커넥션 풀 포화 - impUid: {}", impUid);
+                throw new PortOneUnavailableException("PG 연결이 혼잡합니다. 잠시 후 다시 시도해주세요.", e);
+            }
             // Read-timeout 발생 → 망취소 처리
             log.error("Read-timeout 발생! 망취소 진행 - impUid: {}", impUid, e);
             handleNetworkTimeout(impUid, merchantUid);
-            throw new PaymentTimeoutException("결제 처리 중 타임아웃이 발생했습니다. 결제가 취소되었습니다.", e);
+            throw new PaymentTimeoutException("결제 처리 중 타임아웃이 발생했습니다. 결제 취소가 접수되었습니다.", e);
         }
     }
 
-    private PortOnePaymentResponse fetchPaymentInfo(String impUid, String merchantUid, HttpEntity<Void> entity) {
+    private PortOnePaymentResponse fetchPaymentInfo(String impUid, String merchantUid, String accessToken) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessToken);
+        HttpEntity<Void> entity = new HttpEntity<>(headers);
+
+        if (hedger.isEnabled()) {
+            return fetchPaymentInfoHedged(impUid, merchantUid, entity);
+        }
+
         try {
-            String url = "https://api.iamport.kr/payments/" + impUid;
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.GET, entity, Map.class);
-            return parseResponse(response.getBody());
-        } catch (ResourceAccessException e) {
-            // 타임아웃 예외는 상위로 전파
+            return lookup("/payments/" + impUid, entity);
+        } catch (ResourceAccessException | HttpClientErrorException.Unauthorized e) {
+            // 타임아웃, 토큰 만료(401) 예외는 상위로 전파
             throw e;
         } catch (Exception e) {
             log.warn("imp_uid({})로 조회 실패. merchant_uid({})로 재시도...", impUid, merchantUid);
 
             try {
-                String url = "https://api.iamport.kr/payments/find/" + merchantUid;
-                ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.GET, entity, Map.class);
-                return parseResponse(response.getBody());
+                return lookupByMerchantUid(impUid, merchantUid, entity);
+            } catch (ResourceAccessException | HttpClientErrorException.Unauthorized ex) {
+                throw ex;
             } catch (Exception ex) {
                 log.error("결제 조회 실패 - impUid: {}, merchantUid: {}", impUid, merchantUid, ex);
-                throw new RuntimeException("결제 정보 조회에 실패했습니다.");
+                throw new RuntimeException("결제 정보 조회에 실패했습니다.", ex);
             }
         }
     }
 
+    /**
+     * 헤징 조회: imp_uid 조회가 느리면 merchant_uid 조회를 함께 보내 먼저 온 응답 채택
+     */
+    private PortOnePaymentResponse fetchPaymentInfoHedged(String impUid, String merchantUid, HttpEntity<Void> entity) {
+        try {
+            return hedger.execute(
+                    () -> lookup("/payments/" + impUid, entity),
+                    () -> lookupByMerchantUid(impUid, merchantUid, entity),
+                    e -> !(e instanceof ResourceAccessException || e instanceof HttpClientErrorException.Unauthorized));
+        } catch (ResourceAccessException | HttpClientErrorException.Unauthorized e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("결제 조회 실패 - impUid: {}, merchantUid: {}", impUid, merchantUid, e);
+            throw new RuntimeException("결제 정보 조회에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * merchant_uid 조회 (요청한 imp_uid의 결제인지 확인)
+     * 
+     * 같은 주문번호로 결제를 여러 번 시도하면 다른 결제 건이 조회될 수 있다.
+     * 검증 결과는 요청한 imp_uid로 저장되고 환불도 그 imp_uid로 나가므로 다른 결제 건은 채택하지 않는다.
+     * 헤징 중이면 이 조회는 실패로 처리되어 1차 조회(imp_uid) 결과를 기다린다.
+     */
+    private PortOnePaymentResponse lookupByMerchantUid(String impUid, String merchantUid, HttpEntity<Void> entity) {
+        PortOnePaymentResponse response = lookup("/payments/find/" + merchantUid, entity);
+        if (!impUid.equals(response.getImpUid())) {
+            throw new IllegalStateException("Payment found by merchant_uid(" + merchantUid + ") is "
+                    + response.getImpUid() + ", not " + impUid);
+        }
+        return response;
+    }
+
+    private PortOnePaymentResponse lookup(String path, HttpEntity<Void> entity) {
+        ResponseEntity<PortOneApiResponse<PortOnePaymentData>> response = portOneRestTemplate.exchange(
+                baseUrl + path, HttpMethod.GET, entity, PAYMENT_RESPONSE_TYPE);
+        return parseResponse(response.getBody());
+    }
+
+    /**
+     * 상태별 결제 목록 조회 (대사용, 결제 시작 시각 오름차순)
+     * 
+     * @param from  조회 시작 시각 (UNIX timestamp, 초)
+     * @param to    조회 종료 시각 (UNIX timestamp, 초)
+     * @param page  페이지 번호 (1부터)
+     * @param limit 페이지 크기 (최대 100)
+     */
+    public PortOnePaymentPage getPaymentsByStatus(String status, long from, long to, int page, int limit) {
+        return callGuard.lookup(() -> withAccessToken(accessToken -> {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setBearerAuth(accessToken);
+
+            String url = baseUrl + "/payments/status/" + status + "?from=" + from + "&to=" + to
+                    + "&page=" + page + "&limit=" + limit + "&sorting=started";
+            ResponseEntity<PortOneApiResponse<PortOnePaymentPage>> response = portOneRestTemplate.exchange(
+                    url, HttpMethod.GET, new HttpEntity<>(headers), PAGE_RESPONSE_TYPE);
+            PortOneApiResponse<PortOnePaymentPage> body = response.getBody();
+            if (body == null || !body.isSuccess()) {
+                throw new RuntimeException("Failed to get payment list: " + body);
+            }
+            return body.response();
+        }));
+    }
+
     /**
      * 타임아웃 발생 시 망취소 처리
      * NicePay 가이드: Read-timeout 발생 시 반드시 망취소 요청
+     * 
+     * 요청 스레드에서 취소 API를 호출하지 않고 Outbox에 기록 → PaymentCancelWorker가 재시도 포함하여 처리
      */
     private void handleNetworkTimeout(String impUid, String merchantUid) {
-        log.info("망취소(Network Cancel) 시작 - impUid: {}, merchantUid: {}", impUid, merchantUid);
-
-        boolean cancelSuccess = cancelPayment(impUid, "Read-timeout 발생으로 인한 망취소");
-
-        if (cancelSuccess) {
-            log.info("망취소 성공 - impUid: {}", impUid);
-        } else {
-            // 망취소도 실패한 경우 → 수동 처리 필요
-            log.error("망취소 실패! 수동 처리 필요 - impUid: {}, merchantUid: {}", impUid, merchantUid);
-            // TODO: 알림 발송 (Slack, Email 등)
-        }
+        log.info("망취소(Network Cancel) 요청 등록 - impUid: {}, merchantUid: {}", impUid, merchantUid);
+        cancelOutbox.enqueue(impUid, merchantUid, "Read-timeout 발생으로 인한 망취소");
     }
 
-    private PortOnePaymentResponse parseResponse(Map<String, Object> body) {
-        if (body == null || !((Integer) body.get("code")).equals(0)) {
+    private PortOnePaymentResponse parseResponse(PortOneApiResponse<PortOnePaymentData> body) {
+        if (body == null || !body.isSuccess()) {
             throw new RuntimeException("Failed to get payment info: " + body);
         }
 
-        Map<String, Object> responseData = (Map<String, Object>) body.get("response");
+        PortOnePaymentData data = body.response();
+        if (data.amount() == null) {
+            // 금액 누락 응답을 0원 결제로 취급하지 않음
+            throw new IllegalStateException("Payment amount is missing: " + data.impUid());
+        }
 
         PortOnePaymentResponse paymentResponse = new PortOnePaymentResponse();
-        paymentResponse.setImpUid((String) responseData.get("imp_uid"));
-        paymentResponse.setMerchantUid((String) responseData.get("merchant_uid"));
-        paymentResponse.setAmount(((Number) responseData.get("amount")).longValue());
-        paymentResponse.setStatus((String) responseData.get("status"));
+        paymentResponse.setImpUid(data.impUid());
+        paymentResponse.setMerchantUid(data.merchantUid());
+        paymentResponse.setAmount(data.amount());
+        paymentResponse.setStatus(data.status());
 
         return paymentResponse;
     }
 
-    private String getAccessToken() {
-        String url = "https://api.iamport.kr/users/getToken";
-
-        Map<String, String> body = new HashMap<>();
-        body.put("imp_key", apiKey);
-        body.put("imp_secret", apiSecret);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<Map<String, String>> entity = new HttpEntity<>(body, headers);
-
+    /**
+     * Access Token을 붙여 PG 호출 (401 응답 시 토큰 폐기 후 1회 재시도)
+     */
+    private <T> T withAccessToken(Function<String, T> call) {
+        String accessToken = tokenManager.getAccessToken();
         try {
-            ResponseEntity<Map> response = restTemplate.postForEntity(url, entity, Map.class);
-            Map<String, Object> responseBody = response.getBody();
-
-            if (responseBody == null || !((Integer) responseBody.get("code")).equals(0)) {
-                throw new RuntimeException("Failed to get access token: " + responseBody);
-            }
-
-            Map<String, Object> responseData = (Map<String, Object>) responseBody.get("response");
-            return (String) responseData.get("access_token");
-        } catch (Exception e) {
-            log.error("Failed to get V1 Access Token", e);
-            throw new RuntimeException("Failed to authenticate with PortOne V1: " + e.getMessage());
+            return call.apply(accessToken);
+        } catch (HttpClientErrorException.Unauthorized e) {
+            log.warn("PortOne 401 응답. 토큰 재발급 후 재시도");
+            tokenManager.invalidate(accessToken);
+            return call.apply(tokenManager.getAccessToken());
         }
     }
 
@@ -146,8 +219,15 @@ public class PortOneService {
      * 결제 취소 (V1 API)
      */
     public boolean cancelPayment(String impUid, String reason) {
-        String accessToken = getAccessToken();
+        try {
+            return callGuard.cancel(() -> withAccessToken(accessToken -> requestCancel(impUid, reason, accessToken)));
+        } catch (Exception e) {
+            log.error("결제 취소 API 호출 실패 - impUid: {}", impUid, e);
+            return false;
+        }
+    }
 
+    private boolean requestCancel(String impUid, String reason, String accessToken) {
         HttpHeaders headers = new HttpHeaders();
         headers.setBearerAuth(accessToken);
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -158,20 +238,16 @@ public class PortOneService {
 
         HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
 
-        try {
-            String url = "https://api.iamport.kr/payments/cancel";
-            ResponseEntity<Map> response = restTemplate.postForEntity(url, entity, Map.class);
-            Map<String, Object> responseBody = response.getBody();
-
-            if (responseBody != null && ((Integer) responseBody.get("code")).equals(0)) {
-                log.info("결제 취소 성공 - impUid: {}, reason: {}", impUid, reason);
-                return true;
-            } else {
-                log.error("결제 취소 실패 - impUid: {}, response: {}", impUid, responseBody);
-                return false;
-            }
-        } catch (Exception e) {
-            log.error("결제 취소 API 호출 실패 - impUid: {}", impUid, e);
+        String url = baseUrl + "/payments/cancel";
+        ResponseEntity<PortOneApiResponse<PortOnePaymentData>> response = portOneRestTemplate.exchange(
+                url, HttpMethod.POST, entity, PAYMENT_RESPONSE_TYPE);
+        PortOneApiResponse<PortOnePaymentData> responseBody = response.getBody();
+
+        if (responseBody != null && responseBody.code() == 0) {
+            log.info("결제 취소 성공 - impUid: {}, reason: {}", impUid, reason);
+            return true;
+        } else {
+            log.error("결제 취소 실패 - impUid: {}, response: {}", impUid, responseBody);
             return false;
         }
     }
@@ -184,6 +260,15 @@ public class PortOneService {
         private String status;
     }
 
+    /**
+     * PG 호출 불가 예외 (요청이 PG로 전송되지 않음)
+     */
+    public static class PortOneUnavailableException extends RuntimeException {
+        public PortOneUnavailableException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
     /**
      * 결제 타임아웃 예외
      */
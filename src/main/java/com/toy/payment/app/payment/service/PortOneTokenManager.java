@@ -0,0 +1,281 @@
+package com.toy.payment.app.payment.service;
+
+import com.toy.payment.app.payment.dto.PortOneApiResponse;
+import com.toy.payment.app.payment.dto.PortOneTokenData;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * PortOne V1 Access Token 캐시
+ * 
+ * <h2>동작 흐름</h2>
+ * 
+ * <pre>
+ * 1. 유효한 토큰이 있으면 그대로 사용 (PG 호출 없음)
+ * 2. 만료 refresh-ahead 이전 구간에 들어오면 → 백그라운드 갱신 시작, 현재 토큰은 계속 사용
+ *    (PortOne V1은 만료 1분 이내 재발급 요청 시 기존 토큰의 유효기간을 연장하므로 기본값 60초)
+ * 3. 토큰이 없거나 만료되었으면 → 동기 갱신 (동시 요청은 하나의 갱신 요청에 합류)
+ * 4. PG가 401을 반환하면 → invalidate 후 호출부에서 1회 재시도
+ * </pre>
+ * 
+ * <h2>노드 간 공유 (선택)</h2>
+ * portone.token.shared=true 이면 portone:access_token 키로 Redis에 공유하여
+ * 다른 노드가 발급받은 토큰을 재사용한다. (TTL = 토큰 만료 시각)
+ */
+@Slf4j
+@Component
+public class PortOneTokenManager {
+
+    private static final String SHARED_TOKEN_KEY = "portone:access_token";
+    private static final ParameterizedTypeReference<PortOneApiResponse<PortOneTokenData>> TOKEN_RESPONSE_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    // 만료 직전 토큰은 사용하지 않음 (PG 왕복 중 만료 방지)
+    private static final Duration EXPIRY_MARGIN = Duration.ofSeconds(10);
+    // 백그라운드 갱신 최소 간격 (PG가 같은 만료 시각을 돌려줘도 매 요청마다 갱신하지 않도록)
+    private static final Duration MIN_REFRESH_INTERVAL = Duration.ofSeconds(10);
+
+    private final RestTemplate restTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String tokenUrl;
+
+    @Value("${portone.api.key}")
+    private String apiKey;
+
+    @Value("${portone.api.secret}")
+    private String apiSecret;
+
+    @Value("${portone.token.refresh-ahead-seconds:60}")
+    private long refreshAheadSeconds;
+
+    @Value("${portone.token.shared:false}")
+    private boolean shared;
+
+    private volatile CachedToken current;
+    private volatile Instant lastRefreshAt = Instant.EPOCH;
+    private final AtomicReference<CompletableFuture<CachedToken>> refreshing = new AtomicReference<>();
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "portone-token-refresher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PortOneTokenManager(
+            RestTemplate portOneRestTemplate,
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${portone.api.base-url:https://api.iamport.kr}") String baseUrl) {
+        this.restTemplate = portOneRestTemplate;
+        this.redisTemplate = redisTemplate;
+        this.tokenUrl = baseUrl + "/users/getToken";
+    }
+
+    /**
+     * Access Token 조회 (캐시 우선)
+     */
+    public String getAccessToken() {
+        CachedToken token = current;
+        Instant now = Instant.now();
+
+        if (token != null && token.isUsableAt(now)) {
+            if (token.needsRefreshAt(now, Duration.ofSeconds(refreshAheadSeconds))
+                    && now.isAfter(lastRefreshAt.plus(MIN_REFRESH_INTERVAL))) {
+                // 만료 임박 → 백그라운드 갱신, 현재 토큰은 계속 사용
+                startRefresh(token, true);
+            }
+            return token.accessToken();
+        }
+
+        // 토큰 없음/만료 → 동기 갱신 (진행 중인 갱신이 있으면 합류)
+        return await(startRefresh(token, false)).accessToken();
+    }
+
+    /**
+     * 401 응답을 받은 토큰 폐기
+     * 
+     * @param accessToken PG가 거절한 토큰
+     */
+    public void invalidate(String accessToken) {
+        CachedToken token = current;
+        if (token != null && token.accessToken().equals(accessToken)) {
+            current = null;
+            log.warn("PortOne access token invalidated");
+        }
+        if (shared) {
+            String sharedValue = redisTemplate.opsForValue().get(SHARED_TOKEN_KEY);
+            if (sharedValue != null && accessToken.equals(CachedToken.decode(sharedValue).accessToken())) {
+                redisTemplate.delete(SHARED_TOKEN_KEY);
+            }
+        }
+    }
+
+    private CompletableFuture<CachedToken> startRefresh(CachedToken stale, boolean async) {
+        while (true) {
+            CompletableFuture<CachedToken> inFlight = refreshing.get();
+            if (inFlight != null) {
+                return inFlight;
+            }
+
+            CompletableFuture<CachedToken> mine = new CompletableFuture<>();
+            if (refreshing.compareAndSet(null, mine)) {
+                if (async) {
+                    try {
+                        refresher.execute(() -> refresh(stale, mine));
+                    } catch (RejectedExecutionException e) {
+                        // 종료 중이라 갱신을 시작하지 못함 → 합류한 호출자가 영원히 기다리지 않도록 실패로 완료
+                        abandon(mine, e);
+                    }
+                } else {
+                    refresh(stale, mine);
+                }
+                return mine;
+            }
+        }
+    }
+
+    private void refresh(CachedToken stale, CompletableFuture<CachedToken> future) {
+        lastRefreshAt = Instant.now();
+        try {
+            CachedToken fresh = loadShared(stale);
+            if (fresh == null) {
+                fresh = requestToken();
+                storeShared(fresh);
+            }
+            current = fresh;
+            future.complete(fresh);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        } finally {
+            refreshing.compareAndSet(future, null);
+        }
+    }
+
+    private void abandon(CompletableFuture<CachedToken> future, Exception cause) {
+        future.completeExceptionally(cause);
+        refreshing.compareAndSet(future, null);
+    }
+
+    /**
+     * 다른 노드가 발급받은 유효한 토큰 조회 (shared 모드)
+     */
+    private CachedToken loadShared(CachedToken stale) {
+        if (!shared) {
+            return null;
+        }
+        String value = redisTemplate.opsForValue().get(SHARED_TOKEN_KEY);
+        if (value == null) {
+            return null;
+        }
+        CachedToken token = CachedToken.decode(value);
+        boolean sameAsStale = stale != null && stale.accessToken().equals(token.accessToken());
+        Instant now = Instant.now();
+        if (sameAsStale || !token.isUsableAt(now)
+                || token.needsRefreshAt(now, Duration.ofSeconds(refreshAheadSeconds))) {
+            return null;
+        }
+        log.info("Reusing shared PortOne access token");
+        return token;
+    }
+
+    private void storeShared(CachedToken token) {
+        if (!shared) {
+            return;
+        }
+        Duration ttl = Duration.between(Instant.now(), token.expiresAt());
+        if (!ttl.isNegative() && !ttl.isZero()) {
+            redisTemplate.opsForValue().set(SHARED_TOKEN_KEY, token.encode(), ttl);
+        }
+    }
+
+    private CachedToken requestToken() {
+        Map<String, String> body = new HashMap<>();
+        body.put("imp_key", apiKey);
+        body.put("imp_secret", apiSecret);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<Map<String, String>> entity = new HttpEntity<>(body, headers);
+
+        try {
+            ResponseEntity<PortOneApiResponse<PortOneTokenData>> response = restTemplate.exchange(
+                    tokenUrl, HttpMethod.POST, entity, TOKEN_RESPONSE_TYPE);
+            PortOneApiResponse<PortOneTokenData> responseBody = response.getBody();
+
+            if (responseBody == null || !responseBody.isSuccess()) {
+                throw new RuntimeException("Failed to get access token: " + responseBody);
+            }
+
+            PortOneTokenData tokenData = responseBody.response();
+            Instant expiresAt = Instant.ofEpochSecond(tokenData.expiredAt());
+
+            log.info("PortOne access token issued. expiresAt: {}", expiresAt);
+            return new CachedToken(tokenData.accessToken(), expiresAt);
+        } catch (Exception e) {
+            log.error("Failed to get V1 Access Token", e);
+            throw new RuntimeException("Failed to authenticate with PortOne V1: " + e.getMessage());
+        }
+    }
+
+    private static CachedToken await(CompletableFuture<CachedToken> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+        // 큐에서 버려진 갱신 작업이 있으면 그 Future도 실패로 완료
+        CompletableFuture<CachedToken> inFlight = refreshing.get();
+        if (inFlight != null) {
+            abandon(inFlight, new RejectedExecutionException("PortOne token refresher is shut down"));
+        }
+    }
+
+    private record CachedToken(String accessToken, Instant expiresAt) {
+
+        boolean isUsableAt(Instant now) {
+            return now.isBefore(expiresAt.minus(EXPIRY_MARGIN));
+        }
+
+        boolean needsRefreshAt(Instant now, Duration refreshAhead) {
+            return !now.isBefore(expiresAt.minus(refreshAhead));
+        }
+
+        String encode() {
+            return expiresAt.getEpochSecond() + ":" + accessToken;
+        }
+
+        static CachedToken decode(String value) {
+            int separator = value.indexOf(':');
+            return new CachedToken(value.substring(separator + 1),
+                    Instant.ofEpochSecond(Long.parseLong(value.substring(0, separator))));
+        }
+    }
+}
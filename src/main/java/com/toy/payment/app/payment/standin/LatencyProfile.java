@@ -0,0 +1,45 @@
+package com.toy.payment.app.payment.standin;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * PG 대역 서버 응답 지연 분포
+ *
+ * <ul>
+ * <li>FIXED: 항상 medianMs</li>
+ * <li>UNIFORM: 0 ~ 2 * medianMs 균등 분포 (평균 = medianMs)</li>
+ * <li>LOG_NORMAL: medianMs * e^(sigma * N(0,1)) - 실제 PG처럼 긴 꼬리(tail)를 가진 분포</li>
+ * </ul>
+ * 모든 분포는 maxMs로 상한을 둔다.
+ *
+ * @param distribution 분포 종류
+ * @param medianMs     중앙값 (ms)
+ * @param sigma        LOG_NORMAL 표준편차 (0.5 ≒ p99가 중앙값의 약 3배)
+ * @param maxMs        상한 (ms)
+ */
+public record LatencyProfile(Distribution distribution, long medianMs, double sigma, long maxMs) {
+
+    public enum Distribution {
+        FIXED,
+        UNIFORM,
+        LOG_NORMAL
+    }
+
+    public static LatencyProfile none() {
+        return fixed(0);
+    }
+
+    public static LatencyProfile fixed(long millis) {
+        return new LatencyProfile(Distribution.FIXED, millis, 0, millis);
+    }
+
+    public long sampleMs() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long sample = switch (distribution) {
+            case FIXED -> medianMs;
+            case UNIFORM -> medianMs == 0 ? 0 : random.nextLong(2 * medianMs + 1);
+            case LOG_NORMAL -> Math.round(medianMs * Math.exp(sigma * random.nextGaussian()));
+        };
+        return Math.min(sample, maxMs);
+    }
+}
@@ -0,0 +1,34 @@
+package com.toy.payment.app.payment.standin;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * PortOne 대역 서버 내장 실행 설정
+ *
+ * <pre>
+ * portone.stand-in.enabled=true
+ * portone.stand-in.port=18080
+ * portone.api.base-url=http://127.0.0.1:18080
+ * </pre>
+ */
+@Configuration
+@ConditionalOnProperty(name = "portone.stand-in.enabled", havingValue = "true")
+public class PortOneStandInConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public PortOneStandInServer portOneStandInServer(
+            @Value("${portone.stand-in.port:18080}") int port,
+            @Value("${portone.stand-in.latency.distribution:LOG_NORMAL}") LatencyProfile.Distribution distribution,
+            @Value("${portone.stand-in.latency.median-ms:50}") long medianMs,
+            @Value("${portone.stand-in.latency.sigma:0.5}") double sigma,
+            @Value("${portone.stand-in.latency.max-ms:3000}") long maxMs,
+            @Value("${portone.stand-in.error-rate:0.0}") double errorRate,
+            @Value("${portone.stand-in.timeout-rate:0.0}") double timeoutRate,
+            @Value("${portone.stand-in.timeout-delay-ms:35000}") long timeoutDelayMs) {
+        return new PortOneStandInServer(port, new LatencyProfile(distribution, medianMs, sigma, maxMs),
+                errorRate, timeoutRate, timeoutDelayMs);
+    }
+}
@@ -0,0 +1,287 @@
+package com.toy.payment.app.payment.standin;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 로컬 PortOne(V1) 대역 서버 (오프라인 부하 테스트용)
+ *
+ * <h2>구현 API</h2>
+ * <ul>
+ * <li>POST /users/getToken - 토큰 발급 (30분 유효)</li>
+ * <li>GET /payments/{imp_uid} - 결제 단건 조회</li>
+ * <li>GET /payments/find/{merchant_uid} - 주문번호로 결제 조회</li>
+ * <li>GET /payments/status/{status}?from&to&page&limit - 상태별 결제 목록 (결제 시작 시각 오름차순)</li>
+ * <li>POST /payments/cancel - 결제 취소</li>
+ * <li>POST /stand-in/payments - (대역 전용) 결제 완료 건 등록 {"merchant_uid": ..., "amount": ...}</li>
+ * </ul>
+ *
+ * <h2>장애 주입 (결제 조회/취소에만 적용)</h2>
+ * <ul>
+ * <li>latency: 응답 지연 분포 (토큰 발급 포함 모든 API)</li>
+ * <li>errorRate: 500 응답 비율</li>
+ * <li>timeoutRate: timeoutDelayMs 동안 응답하지 않는 비율 (Read-timeout → 망취소 경로 재현)</li>
+ * </ul>
+ *
+ * Spring 없이도 생성/시작할 수 있어 테스트, 벤치마크에 그대로 내장할 수 있다.
+ */
+@Slf4j
+public class PortOneStandInServer {
+
+    private static final Pattern IMP_UID = Pattern.compile("\"imp_uid\"\\s*:\\s*\"([^\"]*)\"");
+    private static final Pattern MERCHANT_UID = Pattern.compile("\"merchant_uid\"\\s*:\\s*\"([^\"]*)\"");
+    private static final Pattern AMOUNT = Pattern.compile("\"amount\"\\s*:\\s*(\\d+)");
+
+    private final int port;
+    private final LatencyProfile latency;
+    private final double errorRate;
+    private final double timeoutRate;
+    private final long timeoutDelayMs;
+
+    private final Map<String, StandInPayment> paymentsByImpUid = new ConcurrentHashMap<>();
+    private final Map<String, StandInPayment> paymentsByMerchantUid = new ConcurrentHashMap<>();
+    private final AtomicLong impSequence = new AtomicLong();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public PortOneStandInServer(int port, LatencyProfile latency, double errorRate, double timeoutRate,
+            long timeoutDelayMs) {
+        this.port = port;
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.timeoutRate = timeoutRate;
+        this.timeoutDelayMs = timeoutDelayMs;
+    }
+
+    public synchronized void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 1024);
+        // 타임아웃 주입 시 스레드가 오래 잡혀 있으므로 제한 없는 풀 사용
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/users/getToken", this::handleToken);
+        server.createContext("/payments/", this::handlePayments);
+        server.createContext("/stand-in/payments", this::handleRegister);
+        server.start();
+        log.info("[StandIn] PortOne 대역 서버 시작 - baseUrl: {}, latency: {}, errorRate: {}, timeoutRate: {}",
+                getBaseUrl(), latency, errorRate, timeoutRate);
+    }
+
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+            log.info("[StandIn] PortOne 대역 서버 종료");
+        }
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 결제 완료 건 등록 (부하 테스트 시나리오 준비용)
+     *
+     * @return 발급된 imp_uid
+     */
+    public String registerPaidPayment(String merchantUid, long amount) {
+        String impUid = "imps_" + impSequence.incrementAndGet();
+        StandInPayment payment = new StandInPayment(impUid, merchantUid, amount, "paid",
+                Instant.now().getEpochSecond());
+        paymentsByImpUid.put(impUid, payment);
+        paymentsByMerchantUid.put(merchantUid, payment);
+        return impUid;
+    }
+
+    public Optional<String> getStatus(String impUid) {
+        return Optional.ofNullable(paymentsByImpUid.get(impUid)).map(StandInPayment::status);
+    }
+
+    private void handleToken(HttpExchange exchange) throws IOException {
+        delay(latency.sampleMs());
+        long now = Instant.now().getEpochSecond();
+        String body = "{\"code\":0,\"message\":null,\"response\":{\"access_token\":\"" + UUID.randomUUID()
+                + "\",\"now\":" + now + ",\"expired_at\":" + (now + 1800) + "}}";
+        respond(exchange, 200, body);
+    }
+
+    private void handlePayments(HttpExchange exchange) throws IOException {
+        delay(latency.sampleMs());
+
+        // 장애 주입
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() < timeoutRate) {
+            delay(timeoutDelayMs);
+        } else if (random.nextDouble() < errorRate) {
+            respond(exchange, 500, "{\"code\":-1,\"message\":\"stand-in injected error\",\"response\":null}");
+            return;
+        }
+
+        String path = exchange.getRequestURI().getPath();
+        String method = exchange.getRequestMethod();
+
+        if ("POST".equals(method) && path.equals("/payments/cancel")) {
+            String impUid = extract(IMP_UID, readBody(exchange));
+            StandInPayment payment = impUid != null ? paymentsByImpUid.get(impUid) : null;
+            if (payment == null) {
+                respond(exchange, 200, "{\"code\":1,\"message\":\"취소할 결제건이 존재하지 않습니다.\",\"response\":null}");
+                return;
+            }
+            StandInPayment cancelled = payment.withStatus("cancelled");
+            paymentsByImpUid.put(cancelled.impUid(), cancelled);
+            paymentsByMerchantUid.put(cancelled.merchantUid(), cancelled);
+            respond(exchange, 200, success(cancelled));
+            return;
+        }
+
+        if ("GET".equals(method) && path.startsWith("/payments/status/")) {
+            respondList(exchange, path.substring("/payments/status/".length()),
+                    parseQuery(exchange.getRequestURI().getRawQuery()));
+            return;
+        }
+
+        if ("GET".equals(method) && path.startsWith("/payments/find/")) {
+            respondPayment(exchange, paymentsByMerchantUid.get(path.substring("/payments/find/".length())));
+            return;
+        }
+
+        if ("GET".equals(method)) {
+            respondPayment(exchange, paymentsByImpUid.get(path.substring("/payments/".length())));
+            return;
+        }
+
+        respond(exchange, 404, "{\"code\":-1,\"message\":\"Not Found\",\"response\":null}");
+    }
+
+    private void handleRegister(HttpExchange exchange) throws IOException {
+        String body = readBody(exchange);
+        String merchantUid = extract(MERCHANT_UID, body);
+        String amount = extract(AMOUNT, body);
+        if (merchantUid == null || amount == null) {
+            respond(exchange, 400, "{\"code\":-1,\"message\":\"merchant_uid, amount required\",\"response\":null}");
+            return;
+        }
+        String impUid = registerPaidPayment(merchantUid, Long.parseLong(amount));
+        respond(exchange, 200, success(paymentsByImpUid.get(impUid)));
+    }
+
+    private void respondPayment(HttpExchange exchange, StandInPayment payment) throws IOException {
+        if (payment == null) {
+            respond(exchange, 404, "{\"code\":-1,\"message\":\"존재하지 않는 결제정보입니다.\",\"response\":null}");
+            return;
+        }
+        respond(exchange, 200, success(payment));
+    }
+
+    private void respondList(HttpExchange exchange, String status, Map<String, String> query) throws IOException {
+        long from = Long.parseLong(query.getOrDefault("from", "0"));
+        long to = Long.parseLong(query.getOrDefault("to", String.valueOf(Long.MAX_VALUE)));
+        int page = Math.max(1, Integer.parseInt(query.getOrDefault("page", "1")));
+        int limit = Math.min(100, Math.max(1, Integer.parseInt(query.getOrDefault("limit", "20"))));
+
+        List<StandInPayment> matched = paymentsByImpUid.values().stream()
+                .filter(payment -> payment.status().equals(status))
+                .filter(payment -> payment.startedAt() >= from && payment.startedAt() <= to)
+                .sorted(Comparator.comparingLong(StandInPayment::startedAt).thenComparing(StandInPayment::impUid))
+                .toList();
+
+        int start = Math.min((page - 1) * limit, matched.size());
+        int end = Math.min(start + limit, matched.size());
+        StringJoiner list = new StringJoiner(",", "[", "]");
+        matched.subList(start, end).forEach(payment -> list.add(toJson(payment)));
+
+        int next = end < matched.size() ? page + 1 : 0;
+        respond(exchange, 200, "{\"code\":0,\"message\":null,\"response\":{\"total\":" + matched.size()
+                + ",\"previous\":" + (page - 1) + ",\"next\":" + next + ",\"list\":" + list + "}}");
+    }
+
+    private static String success(StandInPayment payment) {
+        return "{\"code\":0,\"message\":null,\"response\":" + toJson(payment) + "}";
+    }
+
+    private static String toJson(StandInPayment payment) {
+        return "{\"imp_uid\":\"" + escape(payment.impUid())
+                + "\",\"merchant_uid\":\"" + escape(payment.merchantUid())
+                + "\",\"amount\":" + payment.amount()
+                + ",\"status\":\"" + payment.status()
+                + "\",\"started_at\":" + payment.startedAt() + "}";
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int index = pair.indexOf('=');
+            if (index > 0) {
+                query.put(pair.substring(0, index),
+                        URLDecoder.decode(pair.substring(index + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        return new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    private static String extract(Pattern pattern, String body) {
+        Matcher matcher = pattern.matcher(body);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static void delay(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record StandInPayment(String impUid, String merchantUid, long amount, String status, long startedAt) {
+
+        StandInPayment withStatus(String newStatus) {
+            return new StandInPayment(impUid, merchantUid, amount, newStatus, startedAt);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.toy.payment.app.product.controller;
+
+import com.toy.payment.app.product.service.StockStreamHub;
+import com.toy.payment.app.product.service.StockStreamHub.TooManySubscribersException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequiredArgsConstructor
+public class ProductApiController {
+
+    private final StockStreamHub stockStreamHub;
+
+    /**
+     * 상품 재고 실시간 스트림 (SSE, event: stock, data: {"productId":1,"stock":10})
+     *
+     * 노드 최대 연결 수를 넘으면 503 + Retry-After.
+     * 200이 아닌 응답은 EventSource를 영구히 닫으므로(자동 재연결 없음) 클라이언트가 onerror에서 백오프 후 다시 연결한다.
+     */
+    @GetMapping(value = "/api/products/{id}/stock/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamStock(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(stockStreamHub.subscribe(id));
+        } catch (TooManySubscribersException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .build();
+        }
+    }
+}
@@ -1,31 +1,52 @@
 package com.toy.payment.app.product.controller;
 
+import com.toy.payment.app.product.dto.ProductView;
 import com.toy.payment.app.product.service.ProductService;
-import com.toy.payment.domain.product.entity.Product;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
+/**
+ * 상품 화면
+ *
+ * 조건부 GET: 캐시된 카탈로그/재고로 ETag를 계산하고, If-None-Match가 일치하면
+ * 템플릿 렌더링 없이 304를 반환한다. (no-cache: 브라우저/CDN은 저장하되 매번 재검증)
+ */
 @Controller
 @RequiredArgsConstructor
 public class ProductController {
 
+    private static final String CACHE_CONTROL = CacheControl.noCache().getHeaderValue();
+
     private final ProductService productService;
 
     @GetMapping("/")
-    public String productList(Model model) {
-        List<Product> products = productService.getAllProducts();
+    public String productList(Model model, WebRequest webRequest, HttpServletResponse response) {
+        List<ProductView> products = productService.getAllProducts();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        if (webRequest.checkNotModified(ProductView.catalogEtag(products))) {
+            return null;
+        }
         model.addAttribute("products", products);
         return "product/list";
     }
 
     @GetMapping("/products/{id}")
-    public String productDetail(@PathVariable Long id, Model model) {
-        Product product = productService.getProduct(id);
+    public String productDetail(@PathVariable Long id, Model model, WebRequest webRequest,
+            HttpServletResponse response) {
+        ProductView product = productService.getProduct(id);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        if (webRequest.checkNotModified(product.etag())) {
+            return null;
+        }
         model.addAttribute("product", product);
         return "product/detail";
     }
@@ -0,0 +1,63 @@
+package com.toy.payment.app.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 상품 화면용 모델 (카탈로그 캐시 + 실시간 재고)
+ */
+@Getter
+@AllArgsConstructor
+public class ProductView {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private Long id;
+    private String name;
+    private Long price;
+    private Long stock;
+    private Long version; // Product.version (REDIS 재고 소스면 null)
+
+    /**
+     * 상세 화면 ETag (강한 검증자)
+     *
+     * version은 재고/정보가 바뀔 때마다 증가한다. 캐시된 이름/가격과 재고 값이 잠시 다른 시점을 볼 수 있으므로
+     * 화면에 그려지는 값도 함께 해시해 태그와 내용이 항상 일치하도록 한다.
+     */
+    public String etag() {
+        return "\"p" + id + "-" + (version != null ? version : "r") + "-" + Long.toHexString(fingerprint()) + "\"";
+    }
+
+    /**
+     * 목록 화면 ETag (카탈로그 버전: 모든 상품 태그의 조합)
+     */
+    public static String catalogEtag(List<ProductView> products) {
+        long hash = FNV_OFFSET;
+        for (ProductView product : products) {
+            hash = mix(hash, product.getId());
+            hash = mix(hash, product.getVersion() != null ? product.getVersion() : -1L);
+            hash = mix(hash, product.fingerprint());
+        }
+        return "\"c" + products.size() + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    private long fingerprint() {
+        long hash = FNV_OFFSET;
+        hash = mix(hash, name != null ? name.hashCode() : 0);
+        hash = mix(hash, price != null ? price : -1L);
+        hash = mix(hash, stock != null ? stock : -1L);
+        return hash;
+    }
+
+    // FNV-1a (64bit)
+    private static long mix(long hash, long value) {
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash ^= (value >>> (i * 8)) & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
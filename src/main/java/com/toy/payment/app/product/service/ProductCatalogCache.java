@@ -0,0 +1,72 @@
+package com.toy.payment.app.product.service;
+
+import com.toy.payment.app.common.cache.LocalCache;
+import com.toy.payment.app.common.idempotency.SingleFlight;
+import com.toy.payment.domain.product.repository.ProductCatalogRow;
+import com.toy.payment.domain.product.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 상품 카탈로그 캐시 (Read-Through)
+ *
+ * <h2>동작 흐름</h2>
+ *
+ * <pre>
+ * 1. 로컬 캐시 조회 → 있으면 DB 접근 없음
+ * 2. 없으면 같은 키의 동시 미스를 SingleFlight로 병합해 1회만 DB 조회 (이름/가격만, 재고 제외)
+ * 3. TTL(catalog.cache.ttl-seconds)이 지나면 DB에서 다시 읽음
+ * </pre>
+ *
+ * 재고는 캐시하지 않는다. 화면의 재고는 ProductStockOverlay가 따로 덧씌운다.
+ * 이름/가격을 바꾸는 애플리케이션 경로가 없으므로 명시적 무효화 없이 TTL로만 갱신한다.
+ */
+@Component
+public class ProductCatalogCache {
+
+    private static final String ALL = "all";
+
+    private final ProductRepository productRepository;
+    private final SingleFlight singleFlight;
+    private final LocalCache<Long, ProductCatalogRow> items;
+    private final LocalCache<String, List<ProductCatalogRow>> catalog;
+
+    public ProductCatalogCache(
+            ProductRepository productRepository,
+            SingleFlight singleFlight,
+            @Value("${catalog.cache.max-size:1000}") int maxSize,
+            @Value("${catalog.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.productRepository = productRepository;
+        this.singleFlight = singleFlight;
+        this.items = new LocalCache<>(maxSize, ttlSeconds * 1000);
+        this.catalog = new LocalCache<>(1, ttlSeconds * 1000);
+    }
+
+    public Optional<ProductCatalogRow> get(Long productId) {
+        Optional<ProductCatalogRow> cached = items.get(productId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        return singleFlight.execute("catalog:product:" + productId, () -> {
+            Optional<ProductCatalogRow> loaded = productRepository.findCatalogById(productId);
+            loaded.ifPresent(row -> items.put(productId, row));
+            return loaded;
+        });
+    }
+
+    public List<ProductCatalogRow> getAll() {
+        Optional<List<ProductCatalogRow>> cached = catalog.get(ALL);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        return singleFlight.execute("catalog:all", () -> {
+            List<ProductCatalogRow> loaded = List.copyOf(productRepository.findAllCatalog());
+            catalog.put(ALL, loaded);
+            loaded.forEach(row -> items.put(row.id(), row));
+            return loaded;
+        });
+    }
+}
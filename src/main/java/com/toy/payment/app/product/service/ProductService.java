@@ -1,12 +1,17 @@
 package com.toy.payment.app.product.service;
 
+import com.toy.payment.app.product.dto.ProductView;
+import com.toy.payment.app.stock.service.StockChangeNotifier;
 import com.toy.payment.domain.product.entity.Product;
+import com.toy.payment.domain.product.repository.ProductCatalogRow;
 import com.toy.payment.domain.product.repository.ProductRepository;
+import com.toy.payment.domain.product.repository.ProductStockRow;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -14,15 +19,36 @@ import java.util.List;
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductCatalogCache productCatalogCache;
+    private final ProductStockOverlay productStockOverlay;
+    private final StockChangeNotifier stockChangeNotifier;
 
-    public List<Product> getAllProducts() {
-        return productRepository.findAll();
+    /**
+     * 상품 목록 (카탈로그 캐시 + 재고 오버레이, product 엔티티 로딩 없음)
+     */
+    public List<ProductView> getAllProducts() {
+        List<ProductCatalogRow> catalog = productCatalogCache.getAll();
+        Map<Long, ProductStockRow> stocks = productStockOverlay.getStocks(
+                catalog.stream().map(ProductCatalogRow::id).toList());
+        return catalog.stream()
+                .map(row -> toView(row, stocks.get(row.id())))
+                .toList();
     }
 
-    @Transactional
-    public Product getProduct(Long id) {
-        return productRepository.findById(id)
+    /**
+     * 상품 상세 (카탈로그 캐시 + 재고 오버레이, product 엔티티 로딩 없음)
+     */
+    public ProductView getProduct(Long id) {
+        ProductCatalogRow row = productCatalogCache.get(id)
                 .orElseThrow(() -> new IllegalArgumentException("Product not found"));
+        return toView(row, productStockOverlay.getStock(id).orElse(null));
+    }
+
+    private static ProductView toView(ProductCatalogRow row, ProductStockRow stock) {
+        if (stock == null) {
+            return new ProductView(row.id(), row.name(), row.price(), 0L, null);
+        }
+        return new ProductView(row.id(), row.name(), row.price(), stock.stock(), stock.version());
     }
 
     @Transactional
@@ -30,5 +56,6 @@ public class ProductService {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Product not found"));
         product.decreaseStock(quantity);
+        stockChangeNotifier.changed(id);
     }
 }
@@ -0,0 +1,177 @@
+package com.toy.payment.app.product.service;
+
+import com.toy.payment.app.common.cache.LocalCache;
+import com.toy.payment.app.common.idempotency.SingleFlight;
+import com.toy.payment.domain.product.repository.ProductRepository;
+import com.toy.payment.domain.product.repository.ProductStockRow;
+import com.toy.payment.domain.stock.entity.StockSlotStatus;
+import com.toy.payment.domain.stock.repository.AvailableSlotCount;
+import com.toy.payment.domain.stock.repository.StockSlotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static com.toy.payment.app.stock.strategy.RedisDecrStockStrategy.STOCK_KEY_PREFIX;
+
+/**
+ * 상품 화면용 실시간 재고
+ *
+ * <pre>
+ * REDIS: Redis 재고 카운터(stock:product:{id}) 우선, 키가 없으면 DB 값으로 대체
+ * DB   : 재고 컬럼만 잠금 없이 읽고 짧은 TTL로 노드 로컬 캐시
+ * SLOTS: AVAILABLE 재고 슬롯 개수를 잠금 없이 읽고 짧은 TTL로 노드 로컬 캐시
+ * </pre>
+ *
+ * 화면 조회는 Product 엔티티를 로딩하지 않고, DB 읽기도 TTL당 상품별 1회로 제한되므로
+ * 트래픽이 몰려도 재고 차감 중인 hot row에 조회 부하가 쌓이지 않는다.
+ * REDIS는 Redis 카운터가 재고의 기준인 경우(REDIS_DECR 전략)에만 사용한다.
+ * 주문 시점 선점이 SKIP_LOCKED 전략이면 product.stock이 줄지 않으므로 DB 대신 SLOTS를 쓴다.
+ */
+@Slf4j
+@Component
+public class ProductStockOverlay {
+
+    public enum Source {
+        DB,
+        REDIS,
+        SLOTS
+    }
+
+    private final ProductRepository productRepository;
+    private final StockSlotRepository stockSlotRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SingleFlight singleFlight;
+    private final Source source;
+    private final LocalCache<Long, ProductStockRow> stocks;
+
+    public ProductStockOverlay(
+            ProductRepository productRepository,
+            StockSlotRepository stockSlotRepository,
+            RedisTemplate<String, String> redisTemplate,
+            SingleFlight singleFlight,
+            @Value("${catalog.stock.source:DB}") Source source,
+            @Value("${stock.reservation.enabled:false}") boolean reservationEnabled,
+            @Value("${stock.reservation.strategy:SKIP_LOCKED}") String reservationStrategy,
+            @Value("${catalog.stock.ttl-ms:1000}") long ttlMillis,
+            @Value("${catalog.cache.max-size:1000}") int maxSize) {
+        this.productRepository = productRepository;
+        this.stockSlotRepository = stockSlotRepository;
+        this.redisTemplate = redisTemplate;
+        this.singleFlight = singleFlight;
+        this.source = resolveSource(source, reservationEnabled, reservationStrategy);
+        this.stocks = new LocalCache<>(maxSize, ttlMillis);
+    }
+
+    public Optional<ProductStockRow> getStock(Long productId) {
+        return Optional.ofNullable(getStocks(List.of(productId)).get(productId));
+    }
+
+    /**
+     * @return 상품 ID → 재고/버전 (존재하지 않는 상품은 포함되지 않음, REDIS 소스 값은 version 없음)
+     */
+    public Map<Long, ProductStockRow> getStocks(Collection<Long> productIds) {
+        Map<Long, ProductStockRow> result = new HashMap<>();
+        if (source == Source.REDIS) {
+            result.putAll(readRedis(productIds));
+        }
+
+        List<Long> missing = new ArrayList<>();
+        for (Long productId : productIds) {
+            if (result.containsKey(productId)) {
+                continue;
+            }
+            stocks.get(productId).ifPresentOrElse(row -> result.put(productId, row), () -> missing.add(productId));
+        }
+        if (!missing.isEmpty()) {
+            result.putAll(source == Source.SLOTS ? loadFromSlots(missing) : loadFromDb(missing));
+        }
+        return result;
+    }
+
+    public Source getSource() {
+        return source;
+    }
+
+    /**
+     * 캐시를 건너뛰고 최신 재고를 다시 읽어 캐시에 반영 (재고 변경 알림 후)
+     */
+    public Map<Long, ProductStockRow> refresh(Collection<Long> productIds) {
+        productIds.forEach(stocks::evict);
+        return getStocks(productIds);
+    }
+
+    private Map<Long, ProductStockRow> readRedis(Collection<Long> productIds) {
+        List<Long> ids = List.copyOf(productIds);
+        try {
+            List<String> values = redisTemplate.opsForValue()
+                    .multiGet(ids.stream().map(id -> STOCK_KEY_PREFIX + id).toList());
+            Map<Long, ProductStockRow> result = new HashMap<>();
+            for (int i = 0; values != null && i < ids.size(); i++) {
+                if (values.get(i) != null) {
+                    // 선점 실패 원복 전 순간적으로 음수가 보일 수 있음
+                    long stock = Math.max(0L, Long.parseLong(values.get(i)));
+                    result.put(ids.get(i), new ProductStockRow(ids.get(i), stock, null));
+                }
+            }
+            return result;
+        } catch (Exception e) {
+            log.warn("[StockOverlay] Redis 조회 실패, DB 값 사용 - error: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * 같은 상품 묶음의 동시 미스는 1회 조회로 병합
+     */
+    private Map<Long, ProductStockRow> loadFromDb(List<Long> productIds) {
+        return singleFlight.execute(flightKey("catalog:stock:", productIds), () -> {
+            Map<Long, ProductStockRow> loaded = new HashMap<>();
+            for (ProductStockRow row : productRepository.findStocksByIdIn(productIds)) {
+                stocks.put(row.id(), row);
+                loaded.put(row.id(), row);
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * 가용 슬롯이 없는 상품은 집계 결과에 없으므로 0으로 채운다 (슬롯 값은 version 없음)
+     */
+    private Map<Long, ProductStockRow> loadFromSlots(List<Long> productIds) {
+        return singleFlight.execute(flightKey("catalog:slots:", productIds), () -> {
+            Map<Long, Long> available = new HashMap<>();
+            for (AvailableSlotCount count : stockSlotRepository.countByProductIdInAndStatus(productIds,
+                    StockSlotStatus.AVAILABLE)) {
+                available.put(count.productId(), count.available());
+            }
+            Map<Long, ProductStockRow> loaded = new HashMap<>();
+            for (Long productId : productIds) {
+                ProductStockRow row = new ProductStockRow(productId, available.getOrDefault(productId, 0L), null);
+                stocks.put(productId, row);
+                loaded.put(productId, row);
+            }
+            return loaded;
+        });
+    }
+
+    private static String flightKey(String prefix, List<Long> productIds) {
+        return prefix + productIds.stream().sorted().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private static Source resolveSource(Source configured, boolean reservationEnabled, String reservationStrategy) {
+        if (configured == Source.DB && reservationEnabled && "SKIP_LOCKED".equals(reservationStrategy)) {
+            log.info("[StockOverlay] SKIP_LOCKED 선점 사용 중 - 재고 소스를 SLOTS로 전환");
+            return Source.SLOTS;
+        }
+        return configured;
+    }
+}
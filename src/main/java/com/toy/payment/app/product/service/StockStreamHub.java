@@ -0,0 +1,183 @@
+package com.toy.payment.app.product.service;
+
+import com.toy.payment.domain.product.repository.ProductStockRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품 재고 실시간 스트림 (SSE Fan-out)
+ *
+ * <h2>동작 흐름</h2>
+ *
+ * <pre>
+ * 1. 노드당 Redis 구독 1개(stock:changed)로 재고 변경 알림 수신 → 구독자가 있는 상품만 dirty 표시
+ * 2. push-interval-ms마다 dirty 상품의 최신 재고를 한 번에 조회 (DB 1회, 상품 수와 무관하게 IN 조회)
+ * 3. 값이 바뀐 상품만 해당 상품의 모든 연결에 푸시
+ * </pre>
+ *
+ * 재고 차감이 초당 수백 번 일어나도 상품당 푸시는 최대 (1000 / push-interval-ms)회다.
+ * 연결은 서블릿 비동기 응답(SseEmitter)이므로 구독자마다 스레드를 점유하지 않는다.
+ */
+@Slf4j
+@Component
+public class StockStreamHub implements MessageListener {
+
+    private final ProductStockOverlay productStockOverlay;
+    private final long emitterTimeoutMillis;
+    private final int maxConnections;
+
+    private final Map<Long, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Long> lastPushed = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    public StockStreamHub(
+            ProductStockOverlay productStockOverlay,
+            @Value("${stock.stream.timeout-ms:1800000}") long emitterTimeoutMillis,
+            @Value("${stock.stream.max-connections:10000}") int maxConnections) {
+        this.productStockOverlay = productStockOverlay;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * 상품 재고 구독 (연결 직후 현재 재고 1회 전송)
+     *
+     * @throws TooManySubscribersException 노드 최대 연결 수 초과
+     */
+    public SseEmitter subscribe(Long productId) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            throw new TooManySubscribersException("Stock stream connections exceeded: " + maxConnections);
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        subscribers.compute(productId, (id, emitters) -> {
+            Set<SseEmitter> target = emitters != null ? emitters : ConcurrentHashMap.newKeySet();
+            target.add(emitter);
+            return target;
+        });
+        emitter.onCompletion(() -> unsubscribe(productId, emitter));
+        emitter.onTimeout(() -> unsubscribe(productId, emitter));
+        emitter.onError(e -> unsubscribe(productId, emitter));
+
+        productStockOverlay.getStock(productId).ifPresent(row -> send(productId, emitter, row.stock()));
+        return emitter;
+    }
+
+    /**
+     * 재고 변경 알림 수신 (Redis 구독 스레드, 여기서는 표시만 하고 즉시 반환)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            Long productId = Long.parseLong(body);
+            if (subscribers.containsKey(productId)) {
+                dirty.add(productId);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("[StockStream] 잘못된 재고 변경 메시지: {}", body);
+        }
+    }
+
+    /**
+     * 모아둔 변경을 푸시 (변경 폭주를 push-interval-ms 단위로 병합)
+     */
+    @Scheduled(fixedDelayString = "${stock.stream.push-interval-ms:300}")
+    public void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        List<Long> productIds = new ArrayList<>();
+        for (Long productId : dirty) {
+            if (dirty.remove(productId)) {
+                productIds.add(productId);
+            }
+        }
+
+        Map<Long, ProductStockRow> stocks = productStockOverlay.refresh(productIds);
+        for (Long productId : productIds) {
+            ProductStockRow row = stocks.get(productId);
+            Set<SseEmitter> emitters = subscribers.get(productId);
+            if (row == null || emitters == null || row.stock().equals(lastPushed.put(productId, row.stock()))) {
+                continue;
+            }
+            for (SseEmitter emitter : emitters) {
+                send(productId, emitter, row.stock());
+            }
+            log.debug("[StockStream] 재고 푸시 - productId: {}, stock: {}, subscribers: {}",
+                    productId, row.stock(), emitters.size());
+        }
+    }
+
+    /**
+     * 유휴 연결 유지 및 끊긴 연결 정리 (프록시 idle timeout 방지)
+     */
+    @Scheduled(fixedDelayString = "${stock.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        subscribers.forEach((productId, emitters) -> {
+            for (SseEmitter emitter : emitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("ping"));
+                } catch (IOException | IllegalStateException e) {
+                    unsubscribe(productId, emitter);
+                }
+            }
+        });
+    }
+
+    public int getConnectionCount() {
+        return connections.get();
+    }
+
+    private void send(Long productId, SseEmitter emitter, long stock) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("stock")
+                    .data("{\"productId\":" + productId + ",\"stock\":" + stock + "}"));
+        } catch (IOException | IllegalStateException e) {
+            // 끊긴 연결 (완료 콜백이 오지 않을 수도 있으므로 직접 정리)
+            unsubscribe(productId, emitter);
+        }
+    }
+
+    private void unsubscribe(Long productId, SseEmitter emitter) {
+        AtomicBoolean removed = new AtomicBoolean();
+        subscribers.computeIfPresent(productId, (id, emitters) -> {
+            removed.set(emitters.remove(emitter));
+            if (emitters.isEmpty()) {
+                lastPushed.remove(productId);
+                return null;
+            }
+            return emitters;
+        });
+        if (removed.get()) {
+            connections.decrementAndGet();
+        }
+    }
+
+    /**
+     * 노드 최대 SSE 연결 수 초과 예외
+     */
+    public static class TooManySubscribersException extends RuntimeException {
+        public TooManySubscribersException(String message) {
+            super(message);
+        }
+    }
+}
@@ -13,7 +13,7 @@ import java.util.Map;
 /**
  * 재고 락 전략 벤치마크 컨트롤러
  * 
- * 4가지 전략을 동일한 API로 테스트하여 성능과 정합성 비교
+ * 5가지 전략을 동일한 API로 테스트하여 성능과 정합성 비교
  */
 @Slf4j
 @RestController
@@ -25,12 +25,13 @@ public class StockBenchmarkController {
     private final RedisLockStockStrategy redisLockStrategy;
     private final RedisDecrStockStrategy redisDecrStrategy;
     private final SkipLockedStockStrategy skipLockedStrategy;
+    private final ConditionalUpdateStockStrategy conditionalUpdateStrategy;
     private final ProductRepository productRepository;
 
     /**
      * 전략별 재고 감소 API
      * 
-     * @param strategy  전략 이름 (pessimistic, redis-lock, redis-decr, skip-locked)
+     * @param strategy  전략 이름 (pessimistic, redis-lock, redis-decr, skip-locked, conditional-update)
      * @param productId 상품 ID
      * @param quantity  감소 수량 (기본값: 1)
      */
@@ -56,6 +57,9 @@ public class StockBenchmarkController {
             case "skip-locked":
                 success = skipLockedStrategy.decreaseStock(productId, quantity);
                 break;
+            case "conditional-update":
+                success = conditionalUpdateStrategy.decreaseStock(productId, quantity);
+                break;
             default:
                 return ResponseEntity.badRequest()
                         .body(Map.of("error", "Unknown strategy: " + strategy));
@@ -0,0 +1,131 @@
+package com.toy.payment.app.stock.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 품절 플래그 (노드 메모리 + Redis Pub/Sub 전파)
+ *
+ * <h2>동작 흐름</h2>
+ *
+ * <pre>
+ * 1. 전략이 재고 0을 처음 확인 → 커밋 후 markSoldOut → 자기 노드 기록 + stock:sold-out 채널로 전파
+ * 2. 이후 요청은 각 노드 메모리에서 바로 거절 (DB/Redis/슬롯 조회 없음)
+ * 3. 재고 반환/재입고 시 clear → 모든 노드에서 플래그 제거
+ * </pre>
+ *
+ * 플래그는 ttl-ms 후 만료된다. 재입고 메시지가 유실되어도 만료 후 첫 요청이 실제 저장소를 다시 확인하므로
+ * 잘못된 품절 판정은 최대 ttl-ms 동안만 유지된다. (아직 품절이면 그 요청이 플래그를 다시 세운다)
+ */
+@Slf4j
+@Component
+public class SoldOutRegistry implements MessageListener {
+
+    public static final String CHANNEL = "stock:sold-out";
+    private static final String SOLD_OUT = "S:";
+    private static final String RESTOCKED = "R:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+
+    // 상품 ID → 플래그 만료 시각
+    private final Map<Long, Long> soldOut = new ConcurrentHashMap<>();
+
+    public SoldOutRegistry(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${stock.sold-out.ttl-ms:10000}") long ttlMillis) {
+        this(redisTemplate, ttlMillis, System::currentTimeMillis);
+    }
+
+    SoldOutRegistry(RedisTemplate<String, String> redisTemplate, long ttlMillis, LongSupplier clock) {
+        this.redisTemplate = redisTemplate;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * 품절 여부 (메모리 조회만)
+     */
+    public boolean isSoldOut(Long productId) {
+        Long expiresAt = soldOut.get(productId);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt <= clock.getAsLong()) {
+            soldOut.remove(productId, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 재고 0 확인 시 호출 (트랜잭션 안이면 커밋 후 반영, 롤백되면 무시)
+     */
+    public void markSoldOut(Long productId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyAndPublish(productId, true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyAndPublish(productId, true);
+            }
+        });
+    }
+
+    /**
+     * 재고 반환/재입고 시 호출 (즉시 해제: 일찍 풀어도 요청이 실제 저장소까지 갈 뿐 정합성에는 영향 없음)
+     */
+    public void clear(Long productId) {
+        applyAndPublish(productId, false);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            if (body.startsWith(SOLD_OUT)) {
+                apply(Long.parseLong(body.substring(SOLD_OUT.length())), true);
+            } else if (body.startsWith(RESTOCKED)) {
+                apply(Long.parseLong(body.substring(RESTOCKED.length())), false);
+            } else {
+                log.warn("[SoldOut] 잘못된 메시지: {}", body);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("[SoldOut] 잘못된 메시지: {}", body);
+        }
+    }
+
+    private void applyAndPublish(Long productId, boolean isSoldOut) {
+        apply(productId, isSoldOut);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, (isSoldOut ? SOLD_OUT : RESTOCKED) + productId);
+        } catch (Exception e) {
+            // 다른 노드는 각자 재고 0을 확인하거나 TTL 만료로 수렴
+            log.warn("[SoldOut] 전파 실패 - productId: {}, soldOut: {}, error: {}", productId, isSoldOut, e.getMessage());
+        }
+    }
+
+    private void apply(Long productId, boolean isSoldOut) {
+        if (isSoldOut) {
+            if (soldOut.put(productId, clock.getAsLong() + ttlMillis) == null) {
+                log.info("[SoldOut] 품절 - productId: {}", productId);
+            }
+        } else if (soldOut.remove(productId) != null) {
+            log.info("[SoldOut] 품절 해제 - productId: {}", productId);
+        }
+    }
+}
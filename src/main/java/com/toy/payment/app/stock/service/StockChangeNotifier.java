@@ -0,0 +1,47 @@
+package com.toy.payment.app.stock.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 상품 재고 변경 알림 (Redis Pub/Sub: stock:changed)
+ *
+ * 메시지는 상품 ID만 담는다. 구독 노드가 푸시 시점에 최신 재고를 다시 읽으므로
+ * 알림 순서가 뒤바뀌거나 일부 유실되어도 다음 알림에서 최신 값으로 수렴한다.
+ * 트랜잭션 안에서 호출되면 커밋 후에 발행한다. (롤백된 변경은 알리지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockChangeNotifier {
+
+    public static final String CHANNEL = "stock:changed";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public void changed(Long productId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(productId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(productId);
+            }
+        });
+    }
+
+    private void publish(Long productId) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.valueOf(productId));
+        } catch (Exception e) {
+            // 재고 반영과 무관한 부가 알림이므로 실패는 무시 (다음 변경 알림에서 수렴)
+            log.warn("[StockChange] 재고 변경 알림 실패 - productId: {}, error: {}", productId, e.getMessage());
+        }
+    }
+}
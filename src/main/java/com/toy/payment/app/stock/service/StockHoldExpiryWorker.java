@@ -0,0 +1,45 @@
+package com.toy.payment.app.stock.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료된 재고 선점 반환 워커
+ *
+ * 선점 1건마다 짧은 트랜잭션으로 처리한다 (FOR UPDATE SKIP LOCKED).
+ * 결제 확정 중인 선점은 Row 락이 걸려 있으므로 건너뛰고, 반환에 실패한 건은 다음 주기에 다시 시도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.reservation.expiry.enabled", havingValue = "true", matchIfMissing = true)
+public class StockHoldExpiryWorker {
+
+    private final StockReservationService stockReservationService;
+
+    @Value("${stock.reservation.expiry.batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${stock.reservation.expiry.poll-interval-ms:5000}")
+    public void poll() {
+        LocalDateTime now = LocalDateTime.now();
+        int released = 0;
+        try {
+            while (released < batchSize && stockReservationService.releaseNextExpired(now)) {
+                released++;
+            }
+        } catch (Exception e) {
+            log.warn("[HoldExpiry] 선점 반환 실패. 다음 주기에 재시도 - error: {}", e.getMessage());
+        }
+
+        if (released > 0) {
+            log.info("[HoldExpiry] 만료 선점 {}건 반환", released);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.toy.payment.app.stock.service;
+
+import com.toy.payment.app.stock.strategy.StockLockStrategy;
+import com.toy.payment.domain.order.entity.Order;
+import com.toy.payment.domain.stock.entity.StockHold;
+import com.toy.payment.domain.stock.repository.StockHoldRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 시점 재고 선점 (한정 판매용)
+ *
+ * <h2>동작 흐름</h2>
+ *
+ * <pre>
+ * 1. 주문 생성 - 설정된 전략(stock.reservation.strategy)으로 재고 선점 + StockHold(HELD, 만료 시각) 기록
+ *    재고가 없으면 주문을 만들지 않음 → 결제 자체가 일어나지 않음
+ * 2. 결제 검증 성공 - 선점을 판매로 확정 (CONFIRMED), 상품 재고는 다시 차감하지 않음
+ * 3. 만료 - StockHoldExpiryWorker가 재고 반환 (RELEASED)
+ *    만료 직후 결제가 도착하면 다시 선점을 시도하고, 실패할 때만 자동 환불
+ * </pre>
+ *
+ * 비활성화(기본) 시에는 기존처럼 결제 검증 시점에 재고를 차감한다.
+ */
+@Slf4j
+@Service
+public class StockReservationService {
+
+    private final StockHoldRepository stockHoldRepository;
+    private final Map<String, StockLockStrategy> strategies;
+    private final SoldOutRegistry soldOutRegistry;
+    private final boolean enabled;
+    private final String strategyName;
+    private final Duration holdTtl;
+
+    public StockReservationService(
+            StockHoldRepository stockHoldRepository,
+            List<StockLockStrategy> strategies,
+            SoldOutRegistry soldOutRegistry,
+            @Value("${stock.reservation.enabled:false}") boolean enabled,
+            @Value("${stock.reservation.strategy:SKIP_LOCKED}") String strategyName,
+            @Value("${stock.reservation.hold-ttl-seconds:600}") long holdTtlSeconds) {
+        this.stockHoldRepository = stockHoldRepository;
+        this.strategies = strategies.stream()
+                .collect(Collectors.toMap(StockLockStrategy::getStrategyName, Function.identity()));
+        this.soldOutRegistry = soldOutRegistry;
+        this.enabled = enabled;
+        this.strategyName = strategyName;
+        this.holdTtl = Duration.ofSeconds(holdTtlSeconds);
+
+        if (enabled && !this.strategies.containsKey(strategyName)) {
+            throw new IllegalStateException(
+                    "Unknown stock reservation strategy: " + strategyName + ", available: " + this.strategies.keySet());
+        }
+        log.info("[StockReservation] enabled: {}, strategy: {}, holdTtl: {}", enabled, strategyName, holdTtl);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 재고 선점 (호출자의 주문 트랜잭션에 참여)
+     *
+     * @return 선점 결과, 재고 부족이면 empty
+     */
+    @Transactional
+    public Optional<StockHold> hold(Long productId, Long quantity) {
+        // 품절 상품은 선점 기록도 만들지 않고 즉시 거절
+        if (soldOutRegistry.isSoldOut(productId)) {
+            return Optional.empty();
+        }
+
+        StockHold hold = stockHoldRepository.save(StockHold.builder()
+                .productId(productId)
+                .quantity(quantity)
+                .strategy(strategyName)
+                .expiresAt(LocalDateTime.now().plus(holdTtl))
+                .build());
+
+        if (!strategy(strategyName).reserve(hold.getId(), productId, quantity)) {
+            stockHoldRepository.delete(hold);
+            return Optional.empty();
+        }
+        return Optional.of(hold);
+    }
+
+    /**
+     * 결제 검증 성공 시 선점을 판매로 확정 (호출자의 결제 반영 트랜잭션에 참여)
+     */
+    @Transactional
+    public HoldConfirmation confirm(Order order) {
+        StockHold hold = stockHoldRepository.findByOrderIdForUpdate(order.getId()).orElse(null);
+        if (hold == null) {
+            return HoldConfirmation.NO_HOLD;
+        }
+
+        StockLockStrategy strategy = strategy(hold.getStrategy());
+        switch (hold.getStatus()) {
+            case CONFIRMED:
+                return HoldConfirmation.CONFIRMED;
+            case RELEASED:
+                // 만료 직후 도착한 결제: 재고가 남아 있으면 다시 선점
+                if (!strategy.reserve(hold.getId(), hold.getProductId(), hold.getQuantity())) {
+                    log.warn("[StockReservation] 만료된 선점 재확보 실패 - orderId: {}, holdId: {}",
+                            order.getId(), hold.getId());
+                    return HoldConfirmation.EXHAUSTED;
+                }
+                hold.reacquire();
+                log.info("[StockReservation] 만료된 선점 재확보 - orderId: {}, holdId: {}", order.getId(), hold.getId());
+                break;
+            default:
+                break;
+        }
+
+        strategy.confirm(hold.getId(), hold.getProductId(), hold.getQuantity());
+        hold.confirm();
+        return HoldConfirmation.CONFIRMED;
+    }
+
+    /**
+     * 만료된 선점 1건 반환
+     *
+     * @return 반환한 건이 있으면 true
+     */
+    @Transactional
+    public boolean releaseNextExpired(LocalDateTime now) {
+        Optional<StockHold> expired = stockHoldRepository.findFirstExpiredForUpdateSkipLocked(now);
+        if (expired.isEmpty()) {
+            return false;
+        }
+
+        StockHold hold = expired.get();
+        strategy(hold.getStrategy()).release(hold.getId(), hold.getProductId(), hold.getQuantity());
+        hold.release();
+        log.info("[StockReservation] 만료 선점 반환 - holdId: {}, orderId: {}, productId: {}, quantity: {}",
+                hold.getId(), hold.getOrderId(), hold.getProductId(), hold.getQuantity());
+        return true;
+    }
+
+    private StockLockStrategy strategy(String name) {
+        StockLockStrategy strategy = strategies.get(name);
+        if (strategy == null) {
+            throw new IllegalStateException("Unknown stock reservation strategy: " + name);
+        }
+        return strategy;
+    }
+
+    /**
+     * 결제 검증 시 선점 확정 결과
+     */
+    public enum HoldConfirmation {
+        NO_HOLD, // 선점 없이 생성된 주문 → 기존 방식으로 재고 차감
+        CONFIRMED, // 선점 확정 (재고 차감 완료)
+        EXHAUSTED // 만료 후 재고 소진 → 자동 환불 대상
+    }
+}
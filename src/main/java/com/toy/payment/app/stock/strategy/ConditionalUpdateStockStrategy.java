@@ -0,0 +1,77 @@
+package com.toy.payment.app.stock.strategy;
+
+import com.toy.payment.app.stock.service.SoldOutRegistry;
+import com.toy.payment.app.stock.service.StockChangeNotifier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전략 5: 조건부 UPDATE (Conditional Update)
+ *
+ * SELECT 없이 단일 UPDATE의 WHERE 절에서 재고를 확인하고 차감.
+ * 변경된 Row 수가 1이면 성공, 0이면 재고 부족(또는 상품 없음).
+ *
+ * <pre>
+ * UPDATE product SET stock = stock - ?, version = version + 1 WHERE id = ? AND stock >= ?
+ * </pre>
+ *
+ * 엔티티를 읽지 않으므로 DB 왕복이 UPDATE 1회뿐이고, Row 락은 UPDATE 실행 ~ 커밋 사이에만 잡힌다.
+ * 호출자 트랜잭션이 없으면 autocommit 단일 문장으로 실행되고, 있으면 그 트랜잭션에 참여한다.
+ * version도 함께 올려 낙관적 락으로 재고를 차감하는 다른 경로(결제 검증)가 덮어쓰지 않도록 한다.
+ * DB 오류(데드락, 커넥션 끊김 등)는 재고 부족(false)으로 바꾸지 않고 그대로 던진다 (호출자 트랜잭션 롤백).
+ *
+ * 장점: 최소 왕복, 최단 락 유지 시간, 추가 인프라 불필요
+ * 단점: 같은 트랜잭션에서 이미 읽은 Product 엔티티에는 변경이 반영되지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConditionalUpdateStockStrategy implements StockLockStrategy {
+
+    private static final String DECREASE_SQL = "UPDATE product SET stock = stock - ?, version = version + 1 "
+            + "WHERE id = ? AND stock >= ?";
+    private static final String INCREASE_SQL = "UPDATE product SET stock = stock + ?, version = version + 1 "
+            + "WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StockChangeNotifier stockChangeNotifier;
+    private final SoldOutRegistry soldOutRegistry;
+
+    @Override
+    public boolean decreaseStock(Long productId, Long quantity) {
+        if (soldOutRegistry.isSoldOut(productId)) {
+            log.debug("[ConditionalUpdate] 품절 - productId: {}", productId);
+            return false;
+        }
+
+        int updated = jdbcTemplate.update(DECREASE_SQL, quantity, productId, quantity);
+        if (updated == 0) {
+            log.info("[ConditionalUpdate] 재고 부족 - productId: {}, attempted: {}", productId, quantity);
+            // 1개도 차감할 수 없다면 재고 0 (남은 재고를 따로 조회하지 않음)
+            if (quantity == 1) {
+                soldOutRegistry.markSoldOut(productId);
+            }
+            return false;
+        }
+        stockChangeNotifier.changed(productId);
+        log.debug("[ConditionalUpdate] 재고 감소 성공 - productId: {}", productId);
+        return true;
+    }
+
+    @Override
+    public void release(Long holdId, Long productId, Long quantity) {
+        if (jdbcTemplate.update(INCREASE_SQL, quantity, productId) == 0) {
+            throw new IllegalArgumentException("Product not found: " + productId);
+        }
+        stockChangeNotifier.changed(productId);
+        soldOutRegistry.clear(productId);
+        log.debug("[ConditionalUpdate] 선점 반환 - productId: {}, holdId: {}, quantity: {}", productId, holdId, quantity);
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "CONDITIONAL_UPDATE";
+    }
+}
@@ -1,5 +1,7 @@
 package com.toy.payment.app.stock.strategy;
 
+import com.toy.payment.app.stock.service.SoldOutRegistry;
+import com.toy.payment.app.stock.service.StockChangeNotifier;
 import com.toy.payment.domain.product.entity.Product;
 import com.toy.payment.domain.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
@@ -22,10 +24,17 @@ import org.springframework.transaction.annotation.Transactional;
 public class PessimisticLockStockStrategy implements StockLockStrategy {
 
     private final ProductRepository productRepository;
+    private final StockChangeNotifier stockChangeNotifier;
+    private final SoldOutRegistry soldOutRegistry;
 
     @Override
     @Transactional
     public boolean decreaseStock(Long productId, Long quantity) {
+        if (soldOutRegistry.isSoldOut(productId)) {
+            log.debug("[Pessimistic] 품절 - productId: {}", productId);
+            return false;
+        }
+
         try {
             // SELECT ... FOR UPDATE (다른 트랜잭션은 대기)
             Product product = productRepository.findByIdWithPessimisticLock(productId)
@@ -33,10 +42,13 @@ public class PessimisticLockStockStrategy implements StockLockStrategy {
 
             if (product.getStock() < quantity) {
                 log.info("[Pessimistic] 재고 부족 - productId: {}, stock: {}", productId, product.getStock());
+                markIfSoldOut(product);
                 return false;
             }
 
             product.decreaseStock(quantity);
+            stockChangeNotifier.changed(productId);
+            markIfSoldOut(product);
             log.debug("[Pessimistic] 재고 감소 성공 - productId: {}, remaining: {}", productId, product.getStock());
             return true;
 
@@ -46,6 +58,23 @@ public class PessimisticLockStockStrategy implements StockLockStrategy {
         }
     }
 
+    @Override
+    @Transactional
+    public void release(Long holdId, Long productId, Long quantity) {
+        Product product = productRepository.findByIdWithPessimisticLock(productId)
+                .orElseThrow(() -> new IllegalArgumentException("Product not found: " + productId));
+        product.increaseStock(quantity);
+        stockChangeNotifier.changed(productId);
+        soldOutRegistry.clear(productId);
+        log.debug("[Pessimistic] 선점 반환 - productId: {}, holdId: {}, quantity: {}", productId, holdId, quantity);
+    }
+
+    private void markIfSoldOut(Product product) {
+        if (product.getStock() == 0) {
+            soldOutRegistry.markSoldOut(product.getId());
+        }
+    }
+
     @Override
     public String getStrategyName() {
         return "PESSIMISTIC_LOCK";
@@ -1,5 +1,7 @@
 package com.toy.payment.app.stock.strategy;
 
+import com.toy.payment.app.stock.service.SoldOutRegistry;
+import com.toy.payment.app.stock.service.StockChangeNotifier;
 import com.toy.payment.domain.product.entity.Product;
 import com.toy.payment.domain.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
@@ -7,6 +9,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * 전략 3: Redis DECR (원자적 감소)
@@ -24,12 +28,19 @@ public class RedisDecrStockStrategy implements StockLockStrategy {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final ProductRepository productRepository;
+    private final StockChangeNotifier stockChangeNotifier;
+    private final SoldOutRegistry soldOutRegistry;
 
-    private static final String STOCK_KEY_PREFIX = "stock:product:";
+    public static final String STOCK_KEY_PREFIX = "stock:product:";
 
     @Override
     @Transactional
     public boolean decreaseStock(Long productId, Long quantity) {
+        if (soldOutRegistry.isSoldOut(productId)) {
+            log.debug("[RedisDecr] 품절 - productId: {}", productId);
+            return false;
+        }
+
         String stockKey = STOCK_KEY_PREFIX + productId;
 
         try {
@@ -40,6 +51,9 @@ public class RedisDecrStockStrategy implements StockLockStrategy {
                 // 재고 부족 - 원복 (INCRBY)
                 if (remainingStock != null) {
                     redisTemplate.opsForValue().increment(stockKey, quantity);
+                    if (remainingStock + quantity <= 0) {
+                        soldOutRegistry.markSoldOut(productId);
+                    }
                 }
                 log.info("[RedisDecr] 재고 부족 - productId: {}, attempted: {}", productId, quantity);
                 return false;
@@ -50,6 +64,10 @@ public class RedisDecrStockStrategy implements StockLockStrategy {
                     .orElseThrow(() -> new IllegalArgumentException("Product not found: " + productId));
             product.decreaseStock(quantity);
             // save 호출 불필요 - 영속성 컨텍스트가 변경 감지
+            stockChangeNotifier.changed(productId);
+            if (remainingStock == 0) {
+                soldOutRegistry.markSoldOut(productId);
+            }
 
             log.debug("[RedisDecr] 재고 감소 성공 - productId: {}, redisStock: {}", productId, remainingStock);
             return true;
@@ -62,12 +80,65 @@ public class RedisDecrStockStrategy implements StockLockStrategy {
         }
     }
 
+    /**
+     * 주문 시점 선점
+     * 
+     * Redis 감소는 DB 트랜잭션과 무관하게 즉시 반영되므로, 주문 트랜잭션이 롤백되면 Redis 재고를 되돌린다.
+     */
+    @Override
+    @Transactional
+    public boolean reserve(Long holdId, Long productId, Long quantity) {
+        boolean reserved = decreaseStock(productId, quantity);
+        if (reserved && TransactionSynchronizationManager.isSynchronizationActive()) {
+            String stockKey = STOCK_KEY_PREFIX + productId;
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        redisTemplate.opsForValue().increment(stockKey, quantity);
+                        soldOutRegistry.clear(productId);
+                    }
+                }
+            });
+        }
+        return reserved;
+    }
+
+    /**
+     * 선점 반환
+     * 
+     * DB 반영이 커밋된 뒤에 Redis 재고를 늘린다. (롤백 후 재시도 시 Redis만 두 번 늘어나는 것 방지)
+     */
+    @Override
+    @Transactional
+    public void release(Long holdId, Long productId, Long quantity) {
+        Product product = productRepository.findByIdWithPessimisticLock(productId)
+                .orElseThrow(() -> new IllegalArgumentException("Product not found: " + productId));
+        product.increaseStock(quantity);
+        stockChangeNotifier.changed(productId);
+        soldOutRegistry.clear(productId);
+        log.debug("[RedisDecr] 선점 반환 - productId: {}, holdId: {}, quantity: {}", productId, holdId, quantity);
+
+        String stockKey = STOCK_KEY_PREFIX + productId;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            redisTemplate.opsForValue().increment(stockKey, quantity);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                redisTemplate.opsForValue().increment(stockKey, quantity);
+            }
+        });
+    }
+
     /**
      * Redis 재고 초기화 (테스트용)
      */
     public void initRedisStock(Long productId, Long stock) {
         String stockKey = STOCK_KEY_PREFIX + productId;
         redisTemplate.opsForValue().set(stockKey, String.valueOf(stock));
+        soldOutRegistry.clear(productId);
         log.info("[RedisDecr] Redis 재고 초기화 - productId: {}, stock: {}", productId, stock);
     }
 
@@ -1,5 +1,7 @@
 package com.toy.payment.app.stock.strategy;
 
+import com.toy.payment.app.stock.service.SoldOutRegistry;
+import com.toy.payment.app.stock.service.StockChangeNotifier;
 import com.toy.payment.domain.product.entity.Product;
 import com.toy.payment.domain.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +28,8 @@ public class RedisLockStockStrategy implements StockLockStrategy {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final ProductRepository productRepository;
+    private final StockChangeNotifier stockChangeNotifier;
+    private final SoldOutRegistry soldOutRegistry;
 
     private static final String LOCK_PREFIX = "stock_lock:";
     private static final Duration LOCK_TTL = Duration.ofSeconds(5);
@@ -33,6 +37,11 @@ public class RedisLockStockStrategy implements StockLockStrategy {
     @Override
     @Transactional
     public boolean decreaseStock(Long productId, Long quantity) {
+        if (soldOutRegistry.isSoldOut(productId)) {
+            log.debug("[RedisLock] 품절 - productId: {}", productId);
+            return false;
+        }
+
         String lockKey = LOCK_PREFIX + productId;
 
         // 1. Redis 락 획득 시도 (SET NX EX)
@@ -51,11 +60,14 @@ public class RedisLockStockStrategy implements StockLockStrategy {
 
             if (product.getStock() < quantity) {
                 log.info("[RedisLock] 재고 부족 - productId: {}, stock: {}", productId, product.getStock());
+                markIfSoldOut(product);
                 return false;
             }
 
             product.decreaseStock(quantity);
             productRepository.save(product);
+            stockChangeNotifier.changed(productId);
+            markIfSoldOut(product);
             log.debug("[RedisLock] 재고 감소 성공 - productId: {}, remaining: {}", productId, product.getStock());
             return true;
 
@@ -68,6 +80,36 @@ public class RedisLockStockStrategy implements StockLockStrategy {
         }
     }
 
+    @Override
+    @Transactional
+    public void release(Long holdId, Long productId, Long quantity) {
+        String lockKey = LOCK_PREFIX + productId;
+
+        Boolean acquired = redisTemplate.opsForValue()
+                .setIfAbsent(lockKey, "locked", LOCK_TTL);
+        if (!Boolean.TRUE.equals(acquired)) {
+            throw new IllegalStateException("Stock lock busy: " + productId);
+        }
+
+        try {
+            Product product = productRepository.findById(productId)
+                    .orElseThrow(() -> new IllegalArgumentException("Product not found: " + productId));
+            product.increaseStock(quantity);
+            productRepository.save(product);
+            stockChangeNotifier.changed(productId);
+            soldOutRegistry.clear(productId);
+            log.debug("[RedisLock] 선점 반환 - productId: {}, holdId: {}, quantity: {}", productId, holdId, quantity);
+        } finally {
+            redisTemplate.delete(lockKey);
+        }
+    }
+
+    private void markIfSoldOut(Product product) {
+        if (product.getStock() == 0) {
+            soldOutRegistry.markSoldOut(product.getId());
+        }
+    }
+
     @Override
     public String getStrategyName() {
         return "REDIS_DISTRIBUTED_LOCK";
@@ -1,5 +1,7 @@
 package com.toy.payment.app.stock.strategy;
 
+import com.toy.payment.app.stock.service.SoldOutRegistry;
+import com.toy.payment.app.stock.service.StockChangeNotifier;
 import com.toy.payment.domain.stock.entity.StockSlot;
 import com.toy.payment.domain.stock.entity.StockSlotStatus;
 import com.toy.payment.domain.stock.repository.StockSlotRepository;
@@ -18,6 +20,8 @@ import java.util.Optional;
  * 재고 수만큼 Row를 생성하고, SELECT FOR UPDATE SKIP LOCKED로 선점.
  * 이미 락이 걸린 Row는 건너뛰므로 대기 없이 즉시 성공/실패 판단.
  * 
+ * 가용 슬롯 수가 바뀌면(차감, 선점, 반환) 재고 변경을 발행한다. (판매 확정은 RESERVED → SOLD라 가용 수 변화 없음)
+ * 
  * 장점: 완벽한 병렬성, Fail-Fast
  * 단점: 테이블 Row 증가, 슬롯 관리 필요
  */
@@ -27,10 +31,17 @@ import java.util.Optional;
 public class SkipLockedStockStrategy implements StockLockStrategy {
 
     private final StockSlotRepository stockSlotRepository;
+    private final SoldOutRegistry soldOutRegistry;
+    private final StockChangeNotifier stockChangeNotifier;
 
     @Override
     @Transactional
     public boolean decreaseStock(Long productId, Long quantity) {
+        if (soldOutRegistry.isSoldOut(productId)) {
+            log.debug("[SkipLocked] 품절 - productId: {}", productId);
+            return false;
+        }
+
         try {
             // quantity만큼 슬롯 선점 시도
             List<StockSlot> reservedSlots = new ArrayList<>();
@@ -44,6 +55,7 @@ public class SkipLockedStockStrategy implements StockLockStrategy {
                     reservedSlots.forEach(StockSlot::release);
                     log.info("[SkipLocked] 슬롯 부족 - productId: {}, reserved: {}/{}",
                             productId, reservedSlots.size(), quantity);
+                    markIfSoldOut(productId);
                     return false;
                 }
 
@@ -54,6 +66,7 @@ public class SkipLockedStockStrategy implements StockLockStrategy {
 
             // 모든 슬롯 선점 성공 -> SOLD로 확정
             reservedSlots.forEach(StockSlot::confirm);
+            stockChangeNotifier.changed(productId);
             log.debug("[SkipLocked] 재고 감소 성공 - productId: {}, slots: {}", productId, quantity);
             return true;
 
@@ -63,6 +76,61 @@ public class SkipLockedStockStrategy implements StockLockStrategy {
         }
     }
 
+    /**
+     * 주문 시점 선점: 슬롯을 RESERVED로 잡아두고 holdId를 기록 (결제 확정 시 SOLD, 만료 시 AVAILABLE)
+     */
+    @Override
+    @Transactional
+    public boolean reserve(Long holdId, Long productId, Long quantity) {
+        if (soldOutRegistry.isSoldOut(productId)) {
+            log.debug("[SkipLocked] 품절 - productId: {}", productId);
+            return false;
+        }
+
+        List<StockSlot> heldSlots = new ArrayList<>();
+
+        for (int i = 0; i < quantity; i++) {
+            Optional<StockSlot> slotOpt = stockSlotRepository.findFirstAvailableSlotWithSkipLock(productId);
+
+            if (slotOpt.isEmpty()) {
+                heldSlots.forEach(StockSlot::release);
+                log.info("[SkipLocked] 선점 슬롯 부족 - productId: {}, held: {}/{}",
+                        productId, heldSlots.size(), quantity);
+                markIfSoldOut(productId);
+                return false;
+            }
+
+            StockSlot slot = slotOpt.get();
+            slot.hold(holdId);
+            heldSlots.add(slot);
+        }
+
+        stockChangeNotifier.changed(productId);
+        log.debug("[SkipLocked] 선점 성공 - productId: {}, holdId: {}, slots: {}", productId, holdId, quantity);
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public void confirm(Long holdId, Long productId, Long quantity) {
+        int confirmed = stockSlotRepository.confirmByHoldId(holdId, StockSlotStatus.RESERVED, StockSlotStatus.SOLD);
+        if (confirmed != quantity) {
+            throw new IllegalStateException(
+                    "Held slot count mismatch. holdId: " + holdId + ", expected: " + quantity + ", actual: " + confirmed);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void release(Long holdId, Long productId, Long quantity) {
+        int released = stockSlotRepository.releaseByHoldId(holdId, StockSlotStatus.RESERVED, StockSlotStatus.AVAILABLE);
+        log.debug("[SkipLocked] 선점 반환 - productId: {}, holdId: {}, slots: {}", productId, holdId, released);
+        if (released > 0) {
+            stockChangeNotifier.changed(productId);
+            soldOutRegistry.clear(productId);
+        }
+    }
+
     /**
      * 재고 슬롯 초기화 (테스트용)
      * 기존 슬롯 삭제 후 새로 생성
@@ -81,9 +149,23 @@ public class SkipLockedStockStrategy implements StockLockStrategy {
                     .build());
         }
         stockSlotRepository.saveAll(slots);
+        stockChangeNotifier.changed(productId);
+        soldOutRegistry.clear(productId);
         log.info("[SkipLocked] 슬롯 초기화 완료 - productId: {}, slots: {}", productId, stock);
     }
 
+    /**
+     * 빈 슬롯을 못 찾았을 때 품절 확인
+     * 
+     * SKIP LOCKED는 다른 트랜잭션이 잠근 슬롯도 건너뛰므로, 잠금 없는 COUNT(커밋된 상태 기준)로
+     * 가용 슬롯이 정말 0개인지 한 번 더 확인한다. (진행 중인 선점이 롤백되면 슬롯이 돌아올 수 있음)
+     */
+    private void markIfSoldOut(Long productId) {
+        if (getAvailableSlotCount(productId) == 0) {
+            soldOutRegistry.markSoldOut(productId);
+        }
+    }
+
     /**
      * 가용 슬롯 개수 조회
      */
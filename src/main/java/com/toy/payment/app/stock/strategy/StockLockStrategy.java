@@ -3,7 +3,7 @@ package com.toy.payment.app.stock.strategy;
 /**
  * 재고 감소 전략 인터페이스
  * 
- * 4가지 전략을 동일한 인터페이스로 추상화하여 비교 테스트 가능
+ * 5가지 전략을 동일한 인터페이스로 추상화하여 비교 테스트 가능
  */
 public interface StockLockStrategy {
 
@@ -16,6 +16,36 @@ public interface StockLockStrategy {
      */
     boolean decreaseStock(Long productId, Long quantity);
 
+    /**
+     * 주문 시점 재고 선점 (결제 전)
+     * 
+     * 기본 구현은 재고 감소와 같다. 선점 단위로 재고를 관리하는 전략(슬롯)은 holdId를 함께 기록한다.
+     * 호출자의 트랜잭션에 참여하며, 트랜잭션이 롤백되면 선점도 함께 취소되어야 한다.
+     * 
+     * @param holdId    선점(StockHold) ID
+     * @param productId 상품 ID
+     * @param quantity  선점 수량
+     * @return 성공 여부
+     */
+    default boolean reserve(Long holdId, Long productId, Long quantity) {
+        return decreaseStock(productId, quantity);
+    }
+
+    /**
+     * 선점을 판매로 확정 (결제 검증 성공)
+     * 
+     * 기본 구현은 선점 시점에 이미 재고가 감소했으므로 할 일이 없다.
+     */
+    default void confirm(Long holdId, Long productId, Long quantity) {
+    }
+
+    /**
+     * 선점 반환 (만료)
+     * 
+     * 반환에 실패하면 예외를 던진다. 만료 워커가 다음 주기에 다시 시도한다.
+     */
+    void release(Long holdId, Long productId, Long quantity);
+
     /**
      * 전략 이름 반환 (로깅/디버깅용)
      */
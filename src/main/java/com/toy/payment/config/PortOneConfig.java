@@ -0,0 +1,102 @@
+package com.toy.payment.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * PortOne(PG) API 통신 설정
+ * 
+ * <h2>커넥션 풀 (Apache HttpClient 5)</h2>
+ * <ul>
+ * <li>keep-alive 커넥션 재사용으로 매 호출 TCP/TLS 핸드셰이크 제거</li>
+ * <li>타임아웃 분리: connect(5초) / read(30초, NicePay 가이드) / pool-acquire(1초)</li>
+ * <li>풀 사용량 메트릭: portone.http.pool.* (leased, available, pending, max)</li>
+ * </ul>
+ * 
+ * PortOneService와 PortOneTokenManager가 같은 RestTemplate을 공유한다.
+ */
+@Configuration
+public class PortOneConfig {
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager portOneConnectionManager(
+            @Value("${portone.http.max-total:100}") int maxTotal,
+            @Value("${portone.http.max-per-route:100}") int maxPerRoute,
+            @Value("${portone.http.connect-timeout-ms:5000}") long connectTimeoutMs,
+            @Value("${portone.http.read-timeout-ms:30000}") long readTimeoutMs) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                // PortOne은 단일 호스트(api.iamport.kr)이므로 route 한도 = 전체 한도가 기본
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient portOneHttpClient(
+            PoolingHttpClientConnectionManager portOneConnectionManager,
+            @Value("${portone.http.read-timeout-ms:30000}") long readTimeoutMs,
+            @Value("${portone.http.pool-acquire-timeout-ms:1000}") long poolAcquireTimeoutMs,
+            @Value("${portone.http.keep-alive-seconds:30}") long keepAliveSeconds) {
+        return HttpClients.custom()
+                .setConnectionManager(portOneConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolAcquireTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setConnectionKeepAlive(TimeValue.ofSeconds(keepAliveSeconds))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(keepAliveSeconds))
+                // 결제/취소 요청은 자동 재시도하지 않음 (중복 취소 방지)
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    @Bean
+    public RestTemplate portOneRestTemplate(CloseableHttpClient portOneHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(portOneHttpClient));
+    }
+
+    /**
+     * 커넥션 풀 사용량 메트릭 (/actuator/metrics/portone.http.pool.leased 등)
+     */
+    @Bean
+    public MeterBinder portOneConnectionPoolMetrics(PoolingHttpClientConnectionManager portOneConnectionManager) {
+        return registry -> {
+            Gauge.builder("portone.http.pool.leased", portOneConnectionManager,
+                            cm -> cm.getTotalStats().getLeased())
+                    .description("PortOne 커넥션 풀에서 사용 중인 커넥션 수")
+                    .register(registry);
+            Gauge.builder("portone.http.pool.available", portOneConnectionManager,
+                            cm -> cm.getTotalStats().getAvailable())
+                    .description("PortOne 커넥션 풀의 유휴(keep-alive) 커넥션 수")
+                    .register(registry);
+            Gauge.builder("portone.http.pool.pending", portOneConnectionManager,
+                            cm -> cm.getTotalStats().getPending())
+                    .description("PortOne 커넥션 획득 대기 중인 요청 수")
+                    .register(registry);
+            Gauge.builder("portone.http.pool.max", portOneConnectionManager,
+                            cm -> cm.getTotalStats().getMax())
+                    .description("PortOne 커넥션 풀 최대 크기")
+                    .register(registry);
+        };
+    }
+}
@@ -1,9 +1,14 @@
 package com.toy.payment.config;
 
+import com.toy.payment.app.product.service.StockStreamHub;
+import com.toy.payment.app.stock.service.SoldOutRegistry;
+import com.toy.payment.app.stock.service.StockChangeNotifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -19,4 +24,19 @@ public class RedisConfig {
         template.setHashValueSerializer(new StringRedisSerializer());
         return template;
     }
+
+    /**
+     * Redis Pub/Sub 구독 (재고 변경 알림, 품절 플래그)
+     *
+     * 노드당 구독 연결 1개를 공유한다.
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+            StockStreamHub stockStreamHub, SoldOutRegistry soldOutRegistry) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(stockStreamHub, new ChannelTopic(StockChangeNotifier.CHANNEL));
+        container.addMessageListener(soldOutRegistry, new ChannelTopic(SoldOutRegistry.CHANNEL));
+        return container;
+    }
 }
@@ -0,0 +1,28 @@
+package com.toy.payment.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 스케줄러 스레드 풀
+ *
+ * 기본 스케줄러는 스레드 1개라 취소 워커(페이싱 대기)나 대사(PortOne 목록 페이징)처럼 오래 걸리는 작업이
+ * 도는 동안 대기열 입장 허가와 SSE 푸시가 멈춘다. fixedDelay 작업은 자기 자신과 겹쳐 실행되지 않으므로
+ * 풀 크기(scheduling.pool-size)를 @Scheduled 메서드 수 이상으로 두면 작업끼리 서로 막지 않는다.
+ * (@Scheduled 작업을 추가하면 풀 크기도 함께 확인)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:8}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduler-");
+        return scheduler;
+    }
+}
@@ -0,0 +1,35 @@
+package com.toy.payment.config;
+
+import com.toy.payment.domain.common.id.Snowflake;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+/**
+ * Snowflake 노드 ID 검증
+ * 
+ * 노드 ID를 지정하지 않으면 호스트명/PID 해시(1024개 중 하나)를 쓰므로 두 노드가 같은 값을 받아
+ * 주문/결제 PK가 중복될 수 있다. local/test 프로필이 아니면 기동 시점에 실패시킨다.
+ * 
+ * 노드 ID 지정: -Dpayment.id.node-id=N 또는 환경 변수 PAYMENT_NODE_ID=N (0~1023, 노드마다 다르게)
+ */
+@Slf4j
+@Configuration
+public class SnowflakeConfig {
+
+    public SnowflakeConfig(Environment environment) {
+        long nodeId = Snowflake.getInstance().getNodeId();
+        if (Snowflake.isNodeIdConfigured()) {
+            log.info("[Snowflake] 노드 ID: {}", nodeId);
+            return;
+        }
+        if (environment.acceptsProfiles(Profiles.of("local", "test"))) {
+            log.warn("[Snowflake] 노드 ID 미지정 - 호스트명/PID 해시 사용: {} (단일 노드 전용)", nodeId);
+            return;
+        }
+        throw new IllegalStateException("Snowflake node id is not configured. "
+                + "Set -Dpayment.id.node-id or PAYMENT_NODE_ID (0-1023) to a unique value per node, "
+                + "or run with the local profile");
+    }
+}
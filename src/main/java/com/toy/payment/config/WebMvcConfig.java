@@ -0,0 +1,30 @@
+package com.toy.payment.config;
+
+import com.toy.payment.app.common.ratelimit.RateLimitInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final RateLimitInterceptor rateLimitInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Redis/DB/PG 호출이 따르는 쓰기 API만 제한
+        // 화면, 상태 조회(/api/benchmark/stock/status/{productId}, /api/admission/{productId}/{token},
+        // /api/payment/verify/status/**)는 패턴에 걸리지 않는다 ('*'는 경로 한 단계만 매칭)
+        registry.addInterceptor(rateLimitInterceptor)
+                .addPathPatterns(
+                        "/api/payment/verify",
+                        "/api/payment/verify/async",
+                        "/api/benchmark/stock/*",
+                        "/api/benchmark/stock/init/*",
+                        "/api/orders",
+                        "/api/orders/bulk",
+                        "/api/admission/*");
+    }
+}
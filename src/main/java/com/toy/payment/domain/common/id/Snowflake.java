@@ -0,0 +1,132 @@
+package com.toy.payment.domain.common.id;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.time.Instant;
+
+/**
+ * 시간 순 64비트 ID 생성기 (Snowflake)
+ * 
+ * <h2>비트 구성</h2>
+ * 
+ * <pre>
+ * | 부호 1 | 타임스탬프 41 (EPOCH 기준 ms, 약 69년) | 노드 10 (0~1023) | 시퀀스 12 (ms당 4096개) |
+ * </pre>
+ * 
+ * DB 왕복 없이 애플리케이션에서 ID를 만들므로 Hibernate JDBC 배치 INSERT가 가능하고,
+ * 시간 순으로 증가하므로 InnoDB 클러스터드 인덱스에 순차 삽입된다.
+ * 
+ * 노드 ID: 시스템 프로퍼티 payment.id.node-id → 환경 변수 PAYMENT_NODE_ID 순으로 결정.
+ * 여러 노드를 띄울 때는 노드마다 다른 값을 지정해야 충돌이 없다.
+ * 지정하지 않으면 호스트명/PID 해시를 쓰지만 노드 간 충돌 가능성이 있으므로
+ * local/test 프로필에서만 허용한다 ({@link com.toy.payment.config.SnowflakeConfig}).
+ */
+public class Snowflake {
+
+    // 2025-01-01T00:00:00Z
+    static final long EPOCH = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    // 이 범위 안의 시계 역행(NTP 보정 등)은 따라잡을 때까지 대기
+    private static final long MAX_BACKWARD_MS = 10;
+
+    private static final Long CONFIGURED_NODE_ID = configuredNodeId();
+    private static final Snowflake INSTANCE = new Snowflake(
+            CONFIGURED_NODE_ID != null ? CONFIGURED_NODE_ID : fallbackNodeId());
+
+    private final long nodeId;
+    private long lastTimestamp = -1L;
+    private long sequence;
+
+    Snowflake(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeId = nodeId;
+    }
+
+    public static Snowflake getInstance() {
+        return INSTANCE;
+    }
+
+    public synchronized long nextId() {
+        long timestamp = currentTimeMillis();
+
+        if (timestamp < lastTimestamp) {
+            long backward = lastTimestamp - timestamp;
+            if (backward > MAX_BACKWARD_MS) {
+                throw new IllegalStateException("Clock moved backwards by " + backward + "ms");
+            }
+            timestamp = waitUntil(lastTimestamp);
+        }
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 같은 ms의 시퀀스 소진 → 다음 ms까지 대기
+                timestamp = waitUntil(lastTimestamp + 1);
+            }
+        } else {
+            sequence = 0;
+        }
+
+        lastTimestamp = timestamp;
+        return ((timestamp - EPOCH) << (NODE_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 노드 ID가 명시적으로 지정되었는지 (false면 호스트명/PID 해시 → 노드 간 충돌 가능)
+     */
+    public static boolean isNodeIdConfigured() {
+        return CONFIGURED_NODE_ID != null;
+    }
+
+    /**
+     * ID에 포함된 생성 시각
+     */
+    public static Instant extractTimestamp(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH);
+    }
+
+    long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    private long waitUntil(long target) {
+        long timestamp = currentTimeMillis();
+        while (timestamp < target) {
+            Thread.onSpinWait();
+            timestamp = currentTimeMillis();
+        }
+        return timestamp;
+    }
+
+    private static Long configuredNodeId() {
+        String configured = System.getProperty("payment.id.node-id", System.getenv("PAYMENT_NODE_ID"));
+        if (configured == null || configured.isBlank()) {
+            return null;
+        }
+        return Long.parseLong(configured.trim());
+    }
+
+    private static long fallbackNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        String runtime = ManagementFactory.getRuntimeMXBean().getName(); // pid@host
+        return ((host + "/" + runtime).hashCode() & Integer.MAX_VALUE) % (MAX_NODE_ID + 1);
+    }
+}
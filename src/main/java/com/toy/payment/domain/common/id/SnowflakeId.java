@@ -0,0 +1,19 @@
+package com.toy.payment.domain.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Snowflake ID 사용 (IDENTITY 대신 INSERT 전에 ID 할당 → JDBC 배치 INSERT 가능)
+ */
+@IdGeneratorType(SnowflakeIdGenerator.class)
+@Retention(RUNTIME)
+@Target({ FIELD, METHOD })
+public @interface SnowflakeId {
+}
@@ -0,0 +1,92 @@
+package com.toy.payment.domain.common.id;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 시간 순 UUID 생성기 (RFC 9562 UUIDv7)
+ *
+ * <h2>비트 구성</h2>
+ *
+ * <pre>
+ * | unix_ts_ms 48 | ver(0111) 4 | rand_a 12 (ms 내 카운터) | var(10) 2 | rand_b 62 (난수) |
+ * </pre>
+ *
+ * 상위 48비트가 생성 시각이므로 BINARY(16)으로 저장하면 바이트 순서 = 생성 순서가 되어
+ * 랜덤 UUIDv4처럼 B-Tree 중간에 끼어들며 페이지를 쪼개지 않고 인덱스 끝에 순차 삽입된다.
+ *
+ * 같은 ms 안에서는 rand_a를 카운터로 사용해 단조 증가를 보장한다 (RFC 9562 Method 1).
+ * 외부에 노출되는 값이므로 하위 62비트는 SecureRandom으로 채워 추측을 막는다.
+ */
+public class UuidV7 {
+
+    private static final UuidV7 INSTANCE = new UuidV7();
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MAX = (1L << COUNTER_BITS) - 1;
+    // ms가 바뀔 때 카운터 시작값 상한 (이후 증가분 여유 확보)
+    private static final long COUNTER_SEED_MASK = COUNTER_MAX >>> 1;
+
+    private static final int CANONICAL_LENGTH = 36;
+
+    private final SecureRandom random = new SecureRandom();
+    private long lastTimestamp = -1L;
+    private long counter;
+
+    public static UUID generate() {
+        return INSTANCE.next();
+    }
+
+    synchronized UUID next() {
+        long timestamp = currentTimeMillis();
+
+        if (timestamp <= lastTimestamp) {
+            // 같은 ms 또는 시계 역행: 직전 시각을 유지하고 카운터 증가
+            timestamp = lastTimestamp;
+            counter++;
+            if (counter > COUNTER_MAX) {
+                // 카운터 소진 → 시각을 1ms 앞당겨 단조성 유지
+                timestamp++;
+                counter = random.nextLong() & COUNTER_SEED_MASK;
+            }
+        } else {
+            counter = random.nextLong() & COUNTER_SEED_MASK;
+        }
+        lastTimestamp = timestamp;
+
+        long msb = (timestamp << 16) | 0x7000L | counter;
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * UUIDv7에 포함된 생성 시각
+     */
+    public static Instant extractTimestamp(UUID uuid) {
+        return Instant.ofEpochMilli(uuid.getMostSignificantBits() >>> 16);
+    }
+
+    /**
+     * 표준 문자열 형식(8-4-4-4-12)만 UUID로 변환
+     *
+     * UUID.fromString은 "1-1-1-1-1" 같은 비표준 형식도 받아주므로 길이를 먼저 확인한다.
+     *
+     * @return 형식이 맞지 않으면 empty
+     */
+    public static Optional<UUID> parse(String value) {
+        if (value == null || value.length() != CANONICAL_LENGTH) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(UUID.fromString(value));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+}
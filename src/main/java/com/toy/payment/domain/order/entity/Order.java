@@ -1,22 +1,31 @@
 package com.toy.payment.domain.order.entity;
 
+import com.toy.payment.domain.common.id.SnowflakeId;
+import com.toy.payment.domain.common.id.UuidV7;
 import com.toy.payment.domain.member.entity.Member;
 import com.toy.payment.domain.product.entity.Product;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
 @Getter
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_status_id", columnList = "status, id"),
+        @Index(name = "idx_orders_member_id_id", columnList = "member_id, id"),
+        @Index(name = "uk_orders_order_uid", columnList = "order_uid", unique = true)
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -31,18 +40,31 @@ public class Order {
 
     private Long price; // 주문 당시 가격
 
-    private String orderUid; // PG사 주문 번호 (UUID)
+    // PG사 주문 번호 (UUIDv7, BINARY(16) 저장 / 외부에는 표준 문자열로 노출)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "order_uid", length = 16, nullable = false, updatable = false)
+    private UUID orderUid;
 
     @Enumerated(EnumType.STRING)
     private OrderStatus status;
 
+    private LocalDateTime createdAt;
+
     public Order(Member member, Product product, Long count) {
         this.member = member;
         this.product = product;
         this.count = count;
         this.price = product.getPrice() * count;
-        this.orderUid = UUID.randomUUID().toString();
+        this.orderUid = UuidV7.generate();
         this.status = OrderStatus.PENDING;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * PG사 merchant_uid로 사용하는 문자열 형식 (8-4-4-4-12)
+     */
+    public String getOrderUid() {
+        return orderUid.toString();
     }
 
     public void completePayment() {
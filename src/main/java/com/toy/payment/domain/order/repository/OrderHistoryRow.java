@@ -0,0 +1,19 @@
+package com.toy.payment.domain.order.repository;
+
+import com.toy.payment.domain.order.entity.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 주문 내역 조회용 프로젝션 (엔티티/연관관계 로딩 없음)
+ */
+public record OrderHistoryRow(
+        Long id,
+        UUID orderUid,
+        String productName,
+        Long count,
+        Long price,
+        OrderStatus status,
+        LocalDateTime createdAt) {
+}
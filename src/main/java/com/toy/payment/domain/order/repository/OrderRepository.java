@@ -1,15 +1,121 @@
 package com.toy.payment.domain.order.repository;
 
+import com.toy.payment.domain.common.id.UuidV7;
 import com.toy.payment.domain.order.entity.Order;
+import com.toy.payment.domain.order.entity.OrderStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
     @Query("select o from Order o join fetch o.member join fetch o.product where o.orderUid = :orderUid")
-    Optional<Order> findByOrderUidFetch(String orderUid);
+    Optional<Order> findByOrderUidFetch(@Param("orderUid") UUID orderUid);
+
+    @Query("select o from Order o where o.orderUid = :orderUid")
+    Optional<Order> findByOrderUid(@Param("orderUid") UUID orderUid);
+
+    /**
+     * 상태 전이 (Compare-And-Set)
+     * 
+     * 단일 UPDATE로 "현재 상태가 from인 경우에만" 전이하고, 변경된 Row 수로 승자를 가린다.
+     * 동시 요청은 Row 락에서 대기한 뒤 커밋된 최신 상태를 보고 0건으로 끝난다.
+     * 기대 상태를 명시하므로 CANCELLED 같은 최종 상태가 다른 상태로 되돌아가지 않는다.
+     * 
+     * @return 1이면 이번 요청이 전이, 0이면 이미 다른 상태
+     */
+    @Modifying
+    @Query("update Order o set o.status = :to where o.id = :id and o.status = :from")
+    int compareAndSetStatus(@Param("id") Long id, @Param("from") OrderStatus from, @Param("to") OrderStatus to);
+
+    /**
+     * 주문 Row 배타 락 (결제 반영/보상 처리용, 상품 Row는 함께 잠그지 않도록 fetch join 하지 않음)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from Order o where o.orderUid = :orderUid")
+    Optional<Order> findByOrderUidForUpdate(@Param("orderUid") UUID orderUid);
+
+    @Query("select o.status from Order o where o.orderUid = :orderUid")
+    Optional<OrderStatus> findStatusByOrderUid(@Param("orderUid") UUID orderUid);
+
+    /**
+     * 주문번호 목록 중 특정 상태인 주문번호만 조회 (대사용)
+     */
+    @Query("select o.orderUid from Order o where o.orderUid in :orderUids and o.status = :status")
+    List<UUID> findOrderUidsByStatus(@Param("orderUids") Collection<UUID> orderUids,
+            @Param("status") OrderStatus status);
+
+    // === merchant_uid(문자열) 기반 조회 ===
+    // UUID 형식이 아닌 값은 존재할 수 없는 주문번호이므로 DB를 조회하지 않는다.
+
+    default Optional<Order> findByOrderUidFetch(String orderUid) {
+        return UuidV7.parse(orderUid).flatMap(this::findByOrderUidFetch);
+    }
+
+    default Optional<Order> findByOrderUid(String orderUid) {
+        return UuidV7.parse(orderUid).flatMap(this::findByOrderUid);
+    }
+
+    default Optional<Order> findByOrderUidForUpdate(String orderUid) {
+        return UuidV7.parse(orderUid).flatMap(this::findByOrderUidForUpdate);
+    }
+
+    default Optional<OrderStatus> findStatusByOrderUid(String orderUid) {
+        return UuidV7.parse(orderUid).flatMap(this::findStatusByOrderUid);
+    }
+
+    default List<String> findOrderUidStringsByStatus(Collection<String> orderUids, OrderStatus status) {
+        List<UUID> parsed = orderUids.stream()
+                .map(UuidV7::parse)
+                .flatMap(Optional::stream)
+                .toList();
+        if (parsed.isEmpty()) {
+            return List.of();
+        }
+        return findOrderUidsByStatus(parsed, status).stream()
+                .map(UUID::toString)
+                .toList();
+    }
+
+    /**
+     * 키셋 페이지네이션: afterId 이후의 오래된 주문 ID (idx_orders_status_id 사용, OFFSET 없음)
+     */
+    @Query("select o.id from Order o where o.status = :status and o.id > :afterId and o.createdAt < :before order by o.id")
+    List<Long> findIdsByStatusCreatedBefore(@Param("status") OrderStatus status, @Param("afterId") Long afterId,
+            @Param("before") LocalDateTime before, Pageable pageable);
+
+    /**
+     * 회원 주문 내역 (키셋 페이지네이션, 최신순)
+     * 
+     * idx_orders_member_id_id(member_id, id)를 역순으로 읽고 LIMIT에서 멈추므로
+     * 내역이 길어도 읽는 Row 수는 페이지 크기만큼이다. 상품명은 PK 조회로 붙인다.
+     */
+    @Query("select new com.toy.payment.domain.order.repository.OrderHistoryRow("
+            + "o.id, o.orderUid, p.name, o.count, o.price, o.status, o.createdAt) "
+            + "from Order o join o.product p "
+            + "where o.member.id = :memberId and o.id < :cursor order by o.id desc")
+    List<OrderHistoryRow> findHistoryByMember(@Param("memberId") Long memberId, @Param("cursor") Long cursor,
+            Pageable pageable);
+
+    /**
+     * 상태 일괄 전이 (현재 상태가 from인 주문만)
+     * 
+     * @return 변경된 주문 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Order o set o.status = :to where o.id in :ids and o.status = :from")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("from") OrderStatus from,
+            @Param("to") OrderStatus to);
 }
@@ -1,5 +1,6 @@
 package com.toy.payment.domain.payment.entity;
 
+import com.toy.payment.domain.common.id.SnowflakeId;
 import com.toy.payment.domain.order.entity.Order;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -13,7 +14,7 @@ import lombok.NoArgsConstructor;
 public class Payment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,100 @@
+package com.toy.payment.domain.payment.entity;
+
+import com.toy.payment.domain.common.id.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 취소 요청 Outbox 엔티티
+ * 
+ * 결제 검증 트랜잭션 안에서 취소 요청을 기록하고, 실제 PG 취소 API 호출은 워커가 비동기로 처리한다.
+ * 요청 스레드는 취소 API 왕복을 기다리지 않고, 취소 실패 건도 유실되지 않는다.
+ */
+@Entity
+@Getter
+@Table(name = "payment_cancel_request", indexes = {
+        @Index(name = "idx_payment_cancel_status_next", columnList = "status, next_attempt_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_payment_cancel_imp_uid", columnNames = "imp_uid")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentCancelRequest {
+
+    @Id
+    @SnowflakeId
+    private Long id;
+
+    @Column(name = "imp_uid", nullable = false)
+    private String impUid;
+
+    private String merchantUid;
+
+    @Column(nullable = false)
+    private String reason;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PaymentCancelStatus status;
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime completedAt;
+
+    @Builder
+    public PaymentCancelRequest(String impUid, String merchantUid, String reason) {
+        LocalDateTime now = LocalDateTime.now();
+        this.impUid = impUid;
+        this.merchantUid = merchantUid;
+        this.reason = reason;
+        this.status = PaymentCancelStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+        this.createdAt = now;
+    }
+
+    /**
+     * 워커 선점 (임대 시간 동안 다른 워커가 가져가지 않음)
+     */
+    public void claim(LocalDateTime leaseUntil) {
+        this.status = PaymentCancelStatus.PROCESSING;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    /**
+     * 취소 완료
+     */
+    public void complete() {
+        this.status = PaymentCancelStatus.DONE;
+        this.attempts++;
+        this.lastError = null;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 취소 실패 → 재시도 예약, 최대 횟수 초과 시 FAILED
+     */
+    public void fail(String error, LocalDateTime retryAt, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = PaymentCancelStatus.FAILED;
+            return;
+        }
+        this.status = PaymentCancelStatus.PENDING;
+        this.nextAttemptAt = retryAt;
+    }
+}
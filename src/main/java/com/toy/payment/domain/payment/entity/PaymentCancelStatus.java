@@ -0,0 +1,15 @@
+package com.toy.payment.domain.payment.entity;
+
+/**
+ * 결제 취소 요청 상태
+ * - PENDING: 처리 대기 (재시도 대기 포함)
+ * - PROCESSING: 워커가 선점하여 처리 중 (임대 만료 시 다른 워커가 재선점)
+ * - DONE: 취소 완료
+ * - FAILED: 최대 재시도 초과 (수동 처리 필요)
+ */
+public enum PaymentCancelStatus {
+    PENDING,
+    PROCESSING,
+    DONE,
+    FAILED
+}
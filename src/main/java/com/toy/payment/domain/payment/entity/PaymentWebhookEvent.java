@@ -0,0 +1,112 @@
+package com.toy.payment.domain.payment.entity;
+
+import com.toy.payment.domain.common.id.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * PG 웹훅 수신함(Inbox) 엔티티
+ * 
+ * 웹훅은 저장 후 즉시 응답하고, 결제 검증은 워커가 비동기로 처리한다.
+ * 저장된 이벤트는 서버가 재시작되어도 유실되지 않는다.
+ */
+@Entity
+@Getter
+@Table(name = "payment_webhook_event", indexes = {
+        @Index(name = "idx_webhook_status_next", columnList = "status, next_attempt_at")
+}, uniqueConstraints = {
+        // 같은 (주문, 결제, 상태) 웹훅은 한 번만 저장 (PG 재전송/중복 웹훅)
+        @UniqueConstraint(name = "uk_webhook_merchant_imp_status",
+                columnNames = { "merchant_uid", "imp_uid", "payment_status" })
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentWebhookEvent {
+
+    @Id
+    @SnowflakeId
+    private Long id;
+
+    @Column(name = "imp_uid", nullable = false)
+    private String impUid;
+
+    @Column(name = "merchant_uid", nullable = false)
+    private String merchantUid;
+
+    @Column(name = "payment_status", nullable = false)
+    private String paymentStatus; // 웹훅에 담긴 PG 결제 상태 (paid, cancelled 등)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PaymentWebhookStatus status;
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime receivedAt;
+
+    private LocalDateTime processedAt;
+
+    @Builder
+    public PaymentWebhookEvent(String impUid, String merchantUid, String paymentStatus) {
+        LocalDateTime now = LocalDateTime.now();
+        this.impUid = impUid;
+        this.merchantUid = merchantUid;
+        this.paymentStatus = paymentStatus;
+        this.status = PaymentWebhookStatus.RECEIVED;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+        this.receivedAt = now;
+    }
+
+    /**
+     * 워커 선점 (임대 시간 동안 다른 워커가 가져가지 않음)
+     */
+    public void claim(LocalDateTime leaseUntil) {
+        this.status = PaymentWebhookStatus.PROCESSING;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    /**
+     * 처리 완료
+     */
+    public void complete() {
+        this.status = PaymentWebhookStatus.DONE;
+        this.attempts++;
+        this.lastError = null;
+        this.processedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 처리 보류 (같은 주문의 검증이 진행 중) → 시도 횟수 증가 없이 다시 대기
+     */
+    public void defer(LocalDateTime retryAt) {
+        this.status = PaymentWebhookStatus.RECEIVED;
+        this.nextAttemptAt = retryAt;
+    }
+
+    /**
+     * 처리 실패 → 재시도 예약, 재시도 불가이거나 최대 횟수 초과 시 FAILED
+     */
+    public void fail(String error, boolean retryable, LocalDateTime retryAt, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        if (!retryable || this.attempts >= maxAttempts) {
+            this.status = PaymentWebhookStatus.FAILED;
+            this.processedAt = LocalDateTime.now();
+            return;
+        }
+        this.status = PaymentWebhookStatus.RECEIVED;
+        this.nextAttemptAt = retryAt;
+    }
+}
@@ -0,0 +1,15 @@
+package com.toy.payment.domain.payment.entity;
+
+/**
+ * 웹훅 이벤트 처리 상태
+ * - RECEIVED: 수신 완료, 처리 대기 (재시도/보류 대기 포함)
+ * - PROCESSING: 워커가 선점하여 처리 중 (임대 만료 시 다른 워커가 재선점)
+ * - DONE: 처리 완료 (이미 결제 완료된 주문 포함)
+ * - FAILED: 재시도 불가 오류 또는 최대 재시도 초과
+ */
+public enum PaymentWebhookStatus {
+    RECEIVED,
+    PROCESSING,
+    DONE,
+    FAILED
+}
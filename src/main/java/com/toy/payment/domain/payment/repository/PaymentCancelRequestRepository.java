@@ -0,0 +1,49 @@
+package com.toy.payment.domain.payment.repository;
+
+import com.toy.payment.domain.payment.entity.PaymentCancelRequest;
+import com.toy.payment.domain.payment.entity.PaymentCancelStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PaymentCancelRequestRepository extends JpaRepository<PaymentCancelRequest, Long> {
+
+    /**
+     * 취소 요청 등록 (imp_uid 중복 시 무시)
+     * 
+     * uk_payment_cancel_imp_uid 충돌을 INSERT IGNORE로 흡수하므로
+     * 동시에 같은 imp_uid를 등록해도 호출자의 트랜잭션이 제약 위반으로 실패하지 않는다.
+     * 
+     * @return 등록 건수 (이미 있으면 0)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO payment_cancel_request
+                (id, imp_uid, merchant_uid, reason, status, attempts, next_attempt_at, created_at)
+            VALUES (:id, :impUid, :merchantUid, :reason, 'PENDING', 0, :now, :now)
+            """, nativeQuery = true)
+    int insertIgnore(@Param("id") long id, @Param("impUid") String impUid, @Param("merchantUid") String merchantUid,
+            @Param("reason") String reason, @Param("now") LocalDateTime now);
+
+    long countByStatus(PaymentCancelStatus status);
+
+    /**
+     * 처리할 취소 요청 선점 (Skip Locked)
+     * 
+     * - 재시도 시각이 지난 PENDING 건 + 임대가 만료된 PROCESSING 건 (워커 장애 복구)
+     * - SKIP LOCKED: 다른 워커(노드)가 선점 중인 Row는 건너뜀 → 중복 처리 없이 병렬 소비
+     */
+    @Query(value = """
+            SELECT * FROM payment_cancel_request
+            WHERE status IN ('PENDING', 'PROCESSING')
+            AND next_attempt_at <= :now
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<PaymentCancelRequest> findDueForUpdateSkipLocked(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -0,0 +1,20 @@
+package com.toy.payment.domain.payment.repository;
+
+import com.toy.payment.domain.payment.entity.PaymentStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 결제 내역 조회용 프로젝션 (엔티티/연관관계 로딩 없음)
+ *
+ * 커서는 결제 ID가 아닌 주문 ID(orderId)다. 회원별 조회가 orders(member_id, id) 인덱스를 타기 때문.
+ */
+public record PaymentHistoryRow(
+        Long orderId,
+        UUID orderUid,
+        String paymentUid,
+        Long price,
+        PaymentStatus status,
+        LocalDateTime orderedAt) {
+}
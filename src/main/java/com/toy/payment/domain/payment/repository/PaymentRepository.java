@@ -2,10 +2,27 @@ package com.toy.payment.domain.payment.repository;
 
 import com.toy.payment.domain.order.entity.Order;
 import com.toy.payment.domain.payment.entity.Payment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
     Optional<Payment> findByOrder(Order order);
+
+    /**
+     * 회원 결제 내역 (키셋 페이지네이션, 주문 최신순)
+     * 
+     * 결제 테이블에는 회원 컬럼이 없으므로 orders(member_id, id) 인덱스로 주문을 역순으로 읽고
+     * 결제는 order_id 유니크 인덱스로 붙인다. 커서는 주문 ID.
+     */
+    @Query("select new com.toy.payment.domain.payment.repository.PaymentHistoryRow("
+            + "o.id, o.orderUid, p.paymentUid, p.price, p.status, o.createdAt) "
+            + "from Payment p join p.order o "
+            + "where o.member.id = :memberId and o.id < :cursor order by o.id desc")
+    List<PaymentHistoryRow> findHistoryByMember(@Param("memberId") Long memberId, @Param("cursor") Long cursor,
+            Pageable pageable);
 }
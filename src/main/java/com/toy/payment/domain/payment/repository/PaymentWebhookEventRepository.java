@@ -0,0 +1,46 @@
+package com.toy.payment.domain.payment.repository;
+
+import com.toy.payment.domain.payment.entity.PaymentWebhookEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PaymentWebhookEventRepository extends JpaRepository<PaymentWebhookEvent, Long> {
+
+    /**
+     * 웹훅 저장 ((merchant_uid, imp_uid, payment_status) 중복 시 무시)
+     * 
+     * uk_webhook_merchant_imp_status 충돌을 INSERT IGNORE로 흡수하므로 동시에 같은 웹훅이 와도
+     * 한 건만 저장되고, 다른 결제 시도(imp_uid)나 새 상태(cancelled 등)의 웹훅은 따로 저장된다.
+     * 
+     * @return 저장 건수 (이미 있으면 0)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO payment_webhook_event
+                (id, imp_uid, merchant_uid, payment_status, status, attempts, next_attempt_at, received_at)
+            VALUES (:id, :impUid, :merchantUid, :paymentStatus, 'RECEIVED', 0, :now, :now)
+            """, nativeQuery = true)
+    int insertIgnore(@Param("id") long id, @Param("impUid") String impUid, @Param("merchantUid") String merchantUid,
+            @Param("paymentStatus") String paymentStatus, @Param("now") LocalDateTime now);
+
+    /**
+     * 처리할 이벤트 선점 (Skip Locked)
+     * 
+     * - 처리 시각이 된 RECEIVED 건 + 임대가 만료된 PROCESSING 건 (워커 장애 복구)
+     * - SKIP LOCKED: 다른 워커(노드)가 선점 중인 Row는 건너뜀
+     */
+    @Query(value = """
+            SELECT * FROM payment_webhook_event
+            WHERE status IN ('RECEIVED', 'PROCESSING')
+            AND next_attempt_at <= :now
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<PaymentWebhookEvent> findDueForUpdateSkipLocked(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -38,4 +38,8 @@ public class Product {
         }
         this.stock -= quantity;
     }
+
+    public void increaseStock(Long quantity) {
+        this.stock += quantity;
+    }
 }
@@ -0,0 +1,7 @@
+package com.toy.payment.domain.product.repository;
+
+/**
+ * 상품 카탈로그 조회용 프로젝션 (자주 바뀌지 않는 필드만, 재고 제외)
+ */
+public record ProductCatalogRow(Long id, String name, Long price) {
+}
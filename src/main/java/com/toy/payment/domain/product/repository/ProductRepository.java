@@ -3,10 +3,13 @@ package com.toy.payment.domain.product.repository;
 import com.toy.payment.domain.product.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,4 +18,45 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select p from Product p where p.id = :id")
     Optional<Product> findByIdWithPessimisticLock(@org.springframework.data.repository.query.Param("id") Long id);
+
+    /**
+     * 존재하는 상품 ID만 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+     */
+    @Query("select p.id from Product p where p.id in :ids")
+    List<Long> findIdsByIdIn(@org.springframework.data.repository.query.Param("ids") Collection<Long> ids);
+
+    /**
+     * 카탈로그 필드만 조회 (재고 제외, 엔티티 로딩 없음)
+     */
+    @Query("select new com.toy.payment.domain.product.repository.ProductCatalogRow(p.id, p.name, p.price) "
+            + "from Product p order by p.id")
+    List<ProductCatalogRow> findAllCatalog();
+
+    @Query("select new com.toy.payment.domain.product.repository.ProductCatalogRow(p.id, p.name, p.price) "
+            + "from Product p where p.id = :id")
+    Optional<ProductCatalogRow> findCatalogById(@org.springframework.data.repository.query.Param("id") Long id);
+
+    /**
+     * 재고만 조회 (잠금 없는 일관된 읽기, 엔티티 로딩 없음)
+     */
+    @Query("select new com.toy.payment.domain.product.repository.ProductStockRow(p.id, p.stock, p.version) "
+            + "from Product p where p.id in :ids")
+    List<ProductStockRow> findStocksByIdIn(@org.springframework.data.repository.query.Param("ids") Collection<Long> ids);
+
+    /**
+     * 조건부 재고 차감 (재고가 충분할 때만, 단일 UPDATE)
+     * 
+     * 엔티티를 읽고 쓰지 않으므로 다른 요청의 차감/반환과 낙관적 락 충돌이 나지 않는다.
+     * version은 올려서 엔티티로 재고를 수정하는 경로가 이 변경을 덮어쓰지 않도록 한다.
+     * 
+     * @return 1이면 차감, 0이면 재고 부족
+     */
+    @Modifying
+    @Query("update Product p set p.stock = p.stock - :quantity, p.version = p.version + 1 "
+            + "where p.id = :id and p.stock >= :quantity")
+    int decreaseStockIfAvailable(@org.springframework.data.repository.query.Param("id") Long id,
+            @org.springframework.data.repository.query.Param("quantity") Long quantity);
+
+    @Query("select p.stock from Product p where p.id = :id")
+    Optional<Long> findStockById(@org.springframework.data.repository.query.Param("id") Long id);
 }
@@ -0,0 +1,7 @@
+package com.toy.payment.domain.product.repository;
+
+/**
+ * 상품 재고 조회용 프로젝션 (version: 재고/정보가 바뀔 때마다 증가)
+ */
+public record ProductStockRow(Long id, Long stock, Long version) {
+}
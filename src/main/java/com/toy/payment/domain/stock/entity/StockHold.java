@@ -0,0 +1,109 @@
+package com.toy.payment.domain.stock.entity;
+
+import com.toy.payment.domain.common.id.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 시점 재고 선점 (Hold)
+ * 
+ * 주문 생성 시 설정된 StockLockStrategy로 재고를 선점하고, 결제 검증 성공 시 판매로 확정한다.
+ * 재고가 없으면 주문 자체가 생성되지 않으므로, 결제 후 재고 부족으로 인한 자동 환불이 생기지 않는다.
+ * 만료 시각까지 결제되지 않으면 StockHoldExpiryWorker가 재고를 반환한다.
+ * 
+ * 선점에 사용한 전략 이름을 함께 저장하여, 설정이 바뀌어도 같은 전략으로 확정/반환한다.
+ */
+@Entity
+@Getter
+@Table(name = "stock_hold", indexes = {
+        @Index(name = "idx_stock_hold_status_expires", columnList = "status, expires_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stock_hold_order_id", columnNames = "order_id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockHold {
+
+    @Id
+    @SnowflakeId
+    private Long id;
+
+    // 재고를 먼저 선점한 뒤 주문을 생성하므로 생성 직후 연결 (attach)
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private Long quantity;
+
+    @Column(nullable = false)
+    private String strategy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StockHoldStatus status;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime completedAt;
+
+    @Builder
+    public StockHold(Long productId, Long quantity, String strategy, LocalDateTime expiresAt) {
+        this.productId = productId;
+        this.quantity = quantity;
+        this.strategy = strategy;
+        this.status = StockHoldStatus.HELD;
+        this.expiresAt = expiresAt;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * 선점한 재고로 생성된 주문 연결
+     */
+    public void attach(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    /**
+     * 판매 확정 (HELD -> CONFIRMED)
+     */
+    public void confirm() {
+        if (this.status != StockHoldStatus.HELD) {
+            throw new IllegalStateException("Hold is not held: " + this.status);
+        }
+        this.status = StockHoldStatus.CONFIRMED;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 만료 후 재선점 (RELEASED -> HELD, 결제가 만료 직후 도착한 경우)
+     */
+    public void reacquire() {
+        if (this.status != StockHoldStatus.RELEASED) {
+            throw new IllegalStateException("Hold is not released: " + this.status);
+        }
+        this.status = StockHoldStatus.HELD;
+        this.completedAt = null;
+    }
+
+    /**
+     * 재고 반환 (HELD -> RELEASED)
+     */
+    public void release() {
+        if (this.status != StockHoldStatus.HELD) {
+            throw new IllegalStateException("Hold is not held: " + this.status);
+        }
+        this.status = StockHoldStatus.RELEASED;
+        this.completedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,13 @@
+package com.toy.payment.domain.stock.entity;
+
+/**
+ * 재고 선점 상태
+ * - HELD: 주문 시점에 재고 선점 (결제 대기)
+ * - CONFIRMED: 결제 검증 성공으로 판매 확정
+ * - RELEASED: 만료되어 재고 반환
+ */
+public enum StockHoldStatus {
+    HELD,
+    CONFIRMED,
+    RELEASED
+}
@@ -1,5 +1,6 @@
 package com.toy.payment.domain.stock.entity;
 
+import com.toy.payment.domain.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -13,7 +14,8 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "stock_slot", indexes = {
-        @Index(name = "idx_stock_slot_product_status", columnList = "product_id, status")
+        @Index(name = "idx_stock_slot_product_status", columnList = "product_id, status"),
+        @Index(name = "idx_stock_slot_hold_id", columnList = "hold_id")
 })
 @Getter
 @Builder
@@ -22,7 +24,7 @@ import java.time.LocalDateTime;
 public class StockSlot {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(nullable = false)
@@ -36,6 +38,8 @@ public class StockSlot {
 
     private Long userId;
 
+    private Long holdId; // 주문 시점 선점(StockHold) ID
+
     /**
      * 슬롯 예약 (AVAILABLE -> RESERVED)
      */
@@ -48,6 +52,14 @@ public class StockSlot {
         this.userId = userId;
     }
 
+    /**
+     * 주문 선점 (AVAILABLE -> RESERVED, 결제 확정/만료 시 holdId 단위로 일괄 처리)
+     */
+    public void hold(Long holdId) {
+        reserve(null);
+        this.holdId = holdId;
+    }
+
     /**
      * 슬롯 확정 (RESERVED -> SOLD)
      */
@@ -68,5 +80,6 @@ public class StockSlot {
         this.status = StockSlotStatus.AVAILABLE;
         this.reservedAt = null;
         this.userId = null;
+        this.holdId = null;
     }
 }
@@ -0,0 +1,7 @@
+package com.toy.payment.domain.stock.repository;
+
+/**
+ * 상품별 AVAILABLE 슬롯 개수 프로젝션 (슬롯이 하나도 없으면 결과에 포함되지 않음)
+ */
+public record AvailableSlotCount(Long productId, Long available) {
+}
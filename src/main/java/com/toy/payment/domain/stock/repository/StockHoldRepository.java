@@ -0,0 +1,36 @@
+package com.toy.payment.domain.stock.repository;
+
+import com.toy.payment.domain.stock.entity.StockHold;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface StockHoldRepository extends JpaRepository<StockHold, Long> {
+
+    /**
+     * 주문의 선점 Row 배타 락 (결제 확정과 만료 반환의 경합 방지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select h from StockHold h where h.orderId = :orderId")
+    Optional<StockHold> findByOrderIdForUpdate(@Param("orderId") Long orderId);
+
+    /**
+     * 만료된 선점 1건 선점 (Skip Locked)
+     * 
+     * - 결제 확정 중이거나 다른 워커가 처리 중인 Row는 건너뜀
+     */
+    @Query(value = """
+            SELECT * FROM stock_hold
+            WHERE status = 'HELD'
+            AND expires_at <= :now
+            ORDER BY expires_at
+            LIMIT 1
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    Optional<StockHold> findFirstExpiredForUpdateSkipLocked(@Param("now") LocalDateTime now);
+}
@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -34,10 +36,40 @@ public interface StockSlotRepository extends JpaRepository<StockSlot, Long> {
      */
     long countByProductIdAndStatus(Long productId, StockSlotStatus status);
 
+    /**
+     * 여러 상품의 AVAILABLE 슬롯 개수 (상품 화면 재고용, 잠금 없음)
+     */
+    @Query("select new com.toy.payment.domain.stock.repository.AvailableSlotCount(s.productId, count(s)) "
+            + "from StockSlot s where s.productId in :productIds and s.status = :status group by s.productId")
+    List<AvailableSlotCount> countByProductIdInAndStatus(@Param("productIds") Collection<Long> productIds,
+            @Param("status") StockSlotStatus status);
+
     /**
      * 특정 상품의 모든 슬롯 삭제 (테스트 초기화용)
      */
     @Modifying
     @Query("DELETE FROM StockSlot s WHERE s.productId = :productId")
     void deleteByProductId(@Param("productId") Long productId);
+
+    /**
+     * 선점(holdId)된 슬롯 일괄 판매 확정 (RESERVED -> SOLD)
+     */
+    @Modifying
+    @Query("""
+            UPDATE StockSlot s SET s.status = :sold
+            WHERE s.holdId = :holdId AND s.status = :reserved
+            """)
+    int confirmByHoldId(@Param("holdId") Long holdId, @Param("reserved") StockSlotStatus reserved,
+            @Param("sold") StockSlotStatus sold);
+
+    /**
+     * 선점(holdId)된 슬롯 일괄 반환 (RESERVED -> AVAILABLE)
+     */
+    @Modifying
+    @Query("""
+            UPDATE StockSlot s SET s.status = :available, s.reservedAt = null, s.userId = null, s.holdId = null
+            WHERE s.holdId = :holdId AND s.status = :reserved
+            """)
+    int releaseByHoldId(@Param("holdId") Long holdId, @Param("reserved") StockSlotStatus reserved,
+            @Param("available") StockSlotStatus available);
 }
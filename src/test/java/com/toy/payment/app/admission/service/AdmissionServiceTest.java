@@ -0,0 +1,103 @@
+package com.toy.payment.app.admission.service;
+
+import com.toy.payment.app.admission.dto.AdmissionStatusResponse;
+import com.toy.payment.app.admission.dto.AdmissionStatusResponse.Status;
+import com.toy.payment.app.admission.service.AdmissionService.AdmissionRequiredException;
+import com.toy.payment.app.stock.service.SoldOutRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+    @Mock
+    private SoldOutRegistry soldOutRegistry;
+
+    private AdmissionService admissionService;
+
+    @BeforeEach
+    void setUp() {
+        // 상품 1만 대기열 대상, 초당 10명, tick 500ms
+        admissionService = new AdmissionService(redisTemplate, soldOutRegistry, true, Set.of(1L), 10, 500, 300, 3600);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    @Test
+    void enqueue_ReturnsPosition_AndWaitEstimate() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(24L);
+
+        AdmissionStatusResponse response = admissionService.enqueue(1L);
+
+        assertThat(response.getStatus()).isEqualTo(Status.WAITING);
+        assertThat(response.getToken()).isNotBlank();
+        assertThat(response.getPosition()).isEqualTo(25L);
+        assertThat(response.getEstimatedWaitSeconds()).isEqualTo(3L);
+    }
+
+    @Test
+    void notGatedProduct_IsAdmittedWithoutRedis() {
+        assertThat(admissionService.enqueue(2L).getStatus()).isEqualTo(Status.ADMITTED);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void status_AfterAdmission_IsAdmitted() {
+        when(zSetOperations.rank(anyString(), eq("t1"))).thenReturn(null);
+        when(redisTemplate.hasKey("admission:{1}:admitted:t1")).thenReturn(true);
+
+        assertThat(admissionService.status(1L, "t1").getStatus()).isEqualTo(Status.ADMITTED);
+    }
+
+    @Test
+    void consume_IsSingleUse() {
+        when(redisTemplate.delete("admission:{1}:admitted:t1")).thenReturn(true).thenReturn(false);
+
+        admissionService.consume(1L, "t1");
+
+        assertThatThrownBy(() -> admissionService.consume(1L, "t1"))
+                .isInstanceOf(AdmissionRequiredException.class);
+        assertThatThrownBy(() -> admissionService.consume(1L, null))
+                .isInstanceOf(AdmissionRequiredException.class);
+    }
+
+    @Test
+    void admitNext_OnlyTickLeaderPops_RatePerTick() {
+        when(valueOperations.setIfAbsent(eq("admission:{1}:tick"), anyString(), any())).thenReturn(true, false);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), eq("5"), anyString(), anyString()))
+                .thenReturn(5L);
+
+        // 초당 10명 × 0.5초 = 5명, 같은 tick의 다른 노드는 0명
+        assertThat(admissionService.admitNext(1L)).isEqualTo(5L);
+        assertThat(admissionService.admitNext(1L)).isZero();
+    }
+
+    @Test
+    void soldOut_StopsQueue() {
+        when(soldOutRegistry.isSoldOut(1L)).thenReturn(true);
+
+        assertThat(admissionService.enqueue(1L).getStatus()).isEqualTo(Status.SOLD_OUT);
+        assertThat(admissionService.admitNext(1L)).isZero();
+        verifyNoInteractions(redisTemplate);
+    }
+}
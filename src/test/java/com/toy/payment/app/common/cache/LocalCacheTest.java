@@ -0,0 +1,39 @@
+package com.toy.payment.app.common.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+
+    @Test
+    void expiredEntry_IsMiss() {
+        LocalCache<Long, String> cache = new LocalCache<>(10, 100, now::get);
+        cache.put(1L, "a");
+
+        now.addAndGet(99);
+        assertThat(cache.get(1L)).contains("a");
+
+        now.addAndGet(1);
+        assertThat(cache.get(1L)).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void overMaxSize_EvictsLeastRecentlyUsed() {
+        LocalCache<Long, String> cache = new LocalCache<>(2, 1_000, now::get);
+        cache.put(1L, "a");
+        cache.put(2L, "b");
+        cache.get(1L);
+
+        cache.put(3L, "c");
+
+        assertThat(cache.get(2L)).isEmpty();
+        assertThat(cache.get(1L)).contains("a");
+        assertThat(cache.get(3L)).contains("c");
+    }
+}
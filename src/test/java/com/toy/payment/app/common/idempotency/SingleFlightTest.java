@@ -0,0 +1,69 @@
+package com.toy.payment.app.common.idempotency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    @Test
+    void concurrentDuplicates_ShareLeaderResult() throws Exception {
+        // Given
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute("key-1", () -> {
+            executions.incrementAndGet();
+            leaderStarted.countDown();
+            await(releaseLeader);
+            return "Payment Verified Successfully";
+        }), executor);
+        assertThat(leaderStarted.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> singleFlight.execute("key-1", () -> {
+            executions.incrementAndGet();
+            return "follower executed";
+        }), executor);
+        Thread.sleep(200);
+        releaseLeader.countDown();
+
+        // Then
+        assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("Payment Verified Successfully");
+        assertThat(follower.get(1, TimeUnit.SECONDS)).isEqualTo("Payment Verified Successfully");
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(singleFlight.isInFlight("key-1")).isFalse();
+        executor.shutdown();
+    }
+
+    @Test
+    void leaderFailure_IsPropagated_AndKeyIsReleased() {
+        assertThatThrownBy(() -> singleFlight.execute("key-2", () -> {
+            throw new IllegalArgumentException("Amount mismatch");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        // 실패 후에는 새로 시도 가능
+        assertThat(singleFlight.isInFlight("key-2")).isFalse();
+        assertThat(singleFlight.execute("key-2", () -> "retried")).isEqualTo("retried");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.toy.payment.app.common.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorPageTest {
+
+    @Test
+    void lastPage_HasNoCursor() {
+        CursorPage<Long> page = CursorPage.of(List.of(3L, 2L), 2, Function.identity(), Function.identity());
+
+        assertThat(page.getItems()).containsExactly(3L, 2L);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void parseCursor_EmptyMeansFirstPage_AndRejectsGarbage() {
+        assertThat(CursorPage.parseCursor(null)).isEqualTo(Long.MAX_VALUE);
+        assertThat(CursorPage.parseCursor("9007199254740993")).isEqualTo(9007199254740993L);
+        assertThatThrownBy(() -> CursorPage.parseCursor("abc")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
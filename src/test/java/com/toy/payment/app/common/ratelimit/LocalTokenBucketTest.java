@@ -0,0 +1,40 @@
+package com.toy.payment.app.common.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalTokenBucketTest {
+
+    private final AtomicLong now = new AtomicLong(1_000L);
+
+    @Test
+    void burstUpToCapacity_ThenRejectsWithRetryAfter() {
+        LocalTokenBucket bucket = new LocalTokenBucket(3, 10, now::get);
+
+        assertThat(bucket.tryAcquire()).isZero();
+        assertThat(bucket.tryAcquire()).isZero();
+        assertThat(bucket.tryAcquire()).isZero();
+        // 초당 10개 → 다음 토큰까지 100ms
+        assertThat(bucket.tryAcquire()).isEqualTo(100L);
+    }
+
+    @Test
+    void refillsByElapsedTime_UpToCapacity() {
+        LocalTokenBucket bucket = new LocalTokenBucket(2, 10, now::get);
+        bucket.tryAcquire();
+        bucket.tryAcquire();
+
+        now.addAndGet(100);
+        assertThat(bucket.tryAcquire()).isZero();
+        assertThat(bucket.tryAcquire()).isPositive();
+
+        // 오래 쉬어도 capacity까지만 채워짐
+        now.addAndGet(60_000);
+        assertThat(bucket.tryAcquire()).isZero();
+        assertThat(bucket.tryAcquire()).isZero();
+        assertThat(bucket.tryAcquire()).isPositive();
+    }
+}
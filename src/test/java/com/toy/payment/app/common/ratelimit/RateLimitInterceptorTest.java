@@ -0,0 +1,63 @@
+package com.toy.payment.app.common.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RateLimitInterceptorTest {
+
+    private RateLimiter rateLimiter;
+    private RateLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = mock(RateLimiter.class);
+        interceptor = new RateLimitInterceptor(rateLimiter);
+    }
+
+    @Test
+    void productIdPathVariable_ChargesProductBucket() {
+        // Given: POST /api/admission/{productId}
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/admission/7");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("productId", "7"));
+
+        // When
+        interceptor.preHandle(request, new MockHttpServletResponse(), null);
+
+        // Then
+        verify(rateLimiter).acquire(RateLimitScope.IP, "127.0.0.1");
+        verify(rateLimiter).acquire(RateLimitScope.PRODUCT, "7");
+    }
+
+    @Test
+    void productIdQueryParameter_ChargesProductBucket() {
+        // Given: POST /api/benchmark/stock/{strategy}?productId=
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/benchmark/stock/pessimistic");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("strategy", "pessimistic"));
+        request.setParameter("productId", "3");
+
+        // When
+        interceptor.preHandle(request, new MockHttpServletResponse(), null);
+
+        // Then
+        verify(rateLimiter).acquire(RateLimitScope.PRODUCT, "3");
+    }
+
+    @Test
+    void withoutProductId_ChargesIpOnly() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/payment/verify");
+
+        interceptor.preHandle(request, new MockHttpServletResponse(), null);
+
+        verify(rateLimiter).acquire(RateLimitScope.IP, "127.0.0.1");
+        verify(rateLimiter, never()).acquire(eq(RateLimitScope.PRODUCT), any());
+    }
+}
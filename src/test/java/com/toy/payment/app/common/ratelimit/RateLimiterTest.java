@@ -0,0 +1,77 @@
+package com.toy.payment.app.common.ratelimit;
+
+import com.toy.payment.app.common.ratelimit.RateLimiter.RateLimitExceededException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimiterTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Test
+    void disabled_SkipsRedis() {
+        RateLimiter rateLimiter = rateLimiter(false, true);
+
+        rateLimiter.acquire(RateLimitScope.IP, "127.0.0.1");
+
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void redisRejects_ThrowsWithRetryAfter() {
+        RateLimiter rateLimiter = rateLimiter(true, false);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("ratelimit:member:1")),
+                eq("2"), anyString())).thenReturn(0L, 250L);
+
+        rateLimiter.acquire(RateLimitScope.MEMBER, 1L);
+
+        assertThatThrownBy(() -> rateLimiter.acquire(RateLimitScope.MEMBER, 1L))
+                .isInstanceOfSatisfying(RateLimitExceededException.class, e -> {
+                    assertThat(e.getScope()).isEqualTo(RateLimitScope.MEMBER);
+                    assertThat(e.getRetryAfterMillis()).isEqualTo(250L);
+                });
+    }
+
+    @Test
+    void localBucketEmpty_RejectsWithoutRedis() {
+        RateLimiter rateLimiter = rateLimiter(true, true);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(0L);
+
+        // 회원 버킷 용량 2 → 세 번째는 로컬에서 거절
+        rateLimiter.acquire(RateLimitScope.MEMBER, 1L);
+        rateLimiter.acquire(RateLimitScope.MEMBER, 1L);
+        assertThatThrownBy(() -> rateLimiter.acquire(RateLimitScope.MEMBER, 1L))
+                .isInstanceOf(RateLimitExceededException.class);
+
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any(), any());
+    }
+
+    @Test
+    void redisFailure_Allows() {
+        RateLimiter rateLimiter = rateLimiter(true, false);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThatCode(() -> rateLimiter.acquire(RateLimitScope.PRODUCT, 10L)).doesNotThrowAnyException();
+    }
+
+    private RateLimiter rateLimiter(boolean enabled, boolean localEnabled) {
+        // IP 20/10s, 회원 2/1s, 상품 100/50s
+        return new RateLimiter(redisTemplate, enabled, localEnabled, 100, 20, 10, 2, 1, 100, 50);
+    }
+}
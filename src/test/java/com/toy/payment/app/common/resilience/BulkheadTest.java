@@ -0,0 +1,104 @@
+package com.toy.payment.app.common.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadTest {
+
+    @Test
+    void rejects_WhenAllPermitsAreHeld_AndCountsRejection() throws Exception {
+        // Given: 슬롯 1개를 다른 스레드가 점유
+        Bulkhead bulkhead = new Bulkhead("test", 1, Duration.ofMillis(50));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> holder = executor.submit(() -> bulkhead.execute(() -> {
+                entered.countDown();
+                await(release);
+                return "held";
+            }));
+            assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+            // When & Then: maxWait 후 거절
+            assertThat(bulkhead.getAvailablePermits()).isZero();
+            assertThatThrownBy(() -> bulkhead.execute(() -> "rejected"))
+                    .isInstanceOf(Bulkhead.BulkheadFullException.class);
+            assertThat(bulkhead.getRejectedCount()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(holder.get(1, TimeUnit.SECONDS)).isEqualTo("held");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 슬롯 반환 후 다시 통과
+        assertThat(bulkhead.getAvailablePermits()).isEqualTo(1);
+        assertThat(bulkhead.execute(() -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    void waitsUpToMaxWait_ForReleasedPermit() throws Exception {
+        // Given: 슬롯 점유 후 20ms 뒤 반환
+        Bulkhead bulkhead = new Bulkhead("test", 1, Duration.ofSeconds(1));
+        CountDownLatch entered = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> bulkhead.execute(() -> {
+                entered.countDown();
+                sleep(20);
+                return "held";
+            }));
+            assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+            // When: maxWait 안에 반환되면 대기 후 실행
+            String result = bulkhead.execute(() -> "ok");
+
+            // Then
+            assertThat(result).isEqualTo("ok");
+            assertThat(bulkhead.getRejectedCount()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void releasesPermit_WhenCallThrows() {
+        // Given
+        Bulkhead bulkhead = new Bulkhead("test", 1, Duration.ZERO);
+
+        // When
+        assertThatThrownBy(() -> bulkhead.execute(() -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(bulkhead.getAvailablePermits()).isEqualTo(1);
+        assertThat(bulkhead.getMaxConcurrentCalls()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.toy.payment.app.common.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerTest {
+
+    @Test
+    void opens_WhenFailureRateExceedsThreshold_AndRejectsImmediately() {
+        // Given
+        CircuitBreaker circuitBreaker = new CircuitBreaker("test", 4, 4, 50, 100,
+                Duration.ofSeconds(10), Duration.ofHours(1), 1);
+
+        // When: 4회 중 2회 실패 (50%)
+        circuitBreaker.execute(() -> "ok", e -> true);
+        circuitBreaker.execute(() -> "ok", e -> true);
+        fail(circuitBreaker);
+        fail(circuitBreaker);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> circuitBreaker.execute(() -> "ok", e -> true))
+                .isInstanceOf(CircuitBreaker.CircuitOpenException.class);
+        assertThat(circuitBreaker.getNotPermittedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void ignoresNonFailureExceptions() {
+        // Given
+        CircuitBreaker circuitBreaker = new CircuitBreaker("test", 2, 2, 50, 100,
+                Duration.ofSeconds(10), Duration.ofHours(1), 1);
+
+        // When: 4xx 같은 정상 응답성 예외는 실패로 집계하지 않음
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> circuitBreaker.execute(() -> {
+                throw new IllegalArgumentException("not found");
+            }, e -> false)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void halfOpen_ClosesAfterSuccessfulTrialCall() {
+        // Given: OPEN 유지 시간 0 → 다음 호출은 HALF_OPEN 시험 호출
+        CircuitBreaker circuitBreaker = new CircuitBreaker("test", 2, 2, 50, 100,
+                Duration.ofSeconds(10), Duration.ZERO, 1);
+        fail(circuitBreaker);
+        fail(circuitBreaker);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        // When
+        String result = circuitBreaker.execute(() -> "recovered", e -> true);
+
+        // Then
+        assertThat(result).isEqualTo("recovered");
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private void fail(CircuitBreaker circuitBreaker) {
+        assertThatThrownBy(() -> circuitBreaker.execute(() -> {
+            throw new IllegalStateException("PG 5xx");
+        }, e -> true)).isInstanceOf(IllegalStateException.class);
+    }
+}
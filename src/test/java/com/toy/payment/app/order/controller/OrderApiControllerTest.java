@@ -0,0 +1,82 @@
+package com.toy.payment.app.order.controller;
+
+import com.toy.payment.app.admission.service.AdmissionService;
+import com.toy.payment.app.admission.service.AdmissionService.AdmissionRequiredException;
+import com.toy.payment.app.common.ratelimit.RateLimitScope;
+import com.toy.payment.app.common.ratelimit.RateLimiter;
+import com.toy.payment.app.order.dto.BulkOrderCreateRequest;
+import com.toy.payment.app.order.dto.BulkOrderMode;
+import com.toy.payment.app.order.dto.BulkOrderResponse;
+import com.toy.payment.app.order.dto.BulkOrderResponse.ItemResult;
+import com.toy.payment.app.order.dto.OrderCreateRequest;
+import com.toy.payment.app.order.service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class OrderApiControllerTest {
+
+    private OrderService orderService;
+    private AdmissionService admissionService;
+    private RateLimiter rateLimiter;
+    private OrderApiController controller;
+
+    @BeforeEach
+    void setUp() {
+        orderService = mock(OrderService.class);
+        admissionService = mock(AdmissionService.class);
+        rateLimiter = mock(RateLimiter.class);
+        controller = new OrderApiController(orderService, admissionService, rateLimiter);
+    }
+
+    @Test
+    void createOrders_NullItem_ReachesServiceValidation() {
+        // Given: JSON items에 null 항목
+        BulkOrderCreateRequest request = bulk(BulkOrderMode.PARTIAL, item(1L, 10L), null);
+        when(orderService.createOrders(request.getItems(), BulkOrderMode.PARTIAL)).thenReturn(
+                new BulkOrderResponse(BulkOrderMode.PARTIAL, List.of(ItemResult.failed(1, "주문 수량은 1 이상이어야 합니다."))));
+
+        // When
+        ResponseEntity<BulkOrderResponse> response = controller.createOrders(request);
+
+        // Then: 500이 아니라 서비스의 항목별 오류로 응답
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(rateLimiter).acquire(RateLimitScope.MEMBER, 1L);
+        verify(rateLimiter).acquire(RateLimitScope.PRODUCT, 10L);
+    }
+
+    @Test
+    void createOrders_QueuedProduct_IsRejected() {
+        // Given
+        when(admissionService.isGated(10L)).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> controller.createOrders(bulk(BulkOrderMode.PARTIAL, item(1L, 10L))))
+                .isInstanceOf(AdmissionRequiredException.class);
+        verify(orderService, never()).createOrders(any(), any());
+    }
+
+    private static BulkOrderCreateRequest bulk(BulkOrderMode mode, OrderCreateRequest... items) {
+        BulkOrderCreateRequest request = new BulkOrderCreateRequest();
+        request.setMode(mode);
+        request.setItems(Arrays.asList(items));
+        return request;
+    }
+
+    private static OrderCreateRequest item(Long memberId, Long productId) {
+        OrderCreateRequest item = new OrderCreateRequest();
+        item.setMemberId(memberId);
+        item.setProductId(productId);
+        item.setCount(1L);
+        return item;
+    }
+}
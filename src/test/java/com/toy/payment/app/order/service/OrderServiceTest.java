@@ -0,0 +1,187 @@
+package com.toy.payment.app.order.service;
+
+import com.toy.payment.app.common.pagination.CursorPage;
+import com.toy.payment.app.order.dto.BulkOrderMode;
+import com.toy.payment.app.order.dto.BulkOrderResponse;
+import com.toy.payment.app.order.dto.OrderCreateRequest;
+import com.toy.payment.app.order.dto.OrderHistoryResponse;
+import com.toy.payment.app.stock.service.SoldOutRegistry;
+import com.toy.payment.app.stock.service.StockReservationService;
+import com.toy.payment.domain.member.entity.Member;
+import com.toy.payment.domain.member.repository.MemberRepository;
+import com.toy.payment.domain.order.entity.Order;
+import com.toy.payment.domain.order.entity.OrderStatus;
+import com.toy.payment.domain.order.repository.OrderHistoryRow;
+import com.toy.payment.domain.order.repository.OrderRepository;
+import com.toy.payment.domain.product.entity.Product;
+import com.toy.payment.domain.product.repository.ProductRepository;
+import com.toy.payment.domain.stock.entity.StockHold;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private StockReservationService stockReservationService;
+    @Mock
+    private SoldOutRegistry soldOutRegistry;
+
+    @InjectMocks
+    private OrderService orderService;
+
+    private Member member;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        member = mock(Member.class);
+        lenient().when(member.getId()).thenReturn(1L);
+        lenient().when(member.getName()).thenReturn("buyer");
+
+        product = mock(Product.class);
+        lenient().when(product.getId()).thenReturn(10L);
+        lenient().when(product.getName()).thenReturn("item");
+        lenient().when(product.getPrice()).thenReturn(100L);
+        lenient().when(product.getStock()).thenReturn(5L);
+
+        lenient().when(memberRepository.findAllById(any())).thenReturn(List.of(member));
+        lenient().when(productRepository.findAllById(any())).thenReturn(List.of(product));
+        lenient().when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void createOrders_SavesAllInOneBatch() {
+        // When
+        BulkOrderResponse response = orderService.createOrders(
+                List.of(item(1L, 10L, 2L), item(1L, 10L, 3L)), BulkOrderMode.ALL_OR_NOTHING);
+
+        // Then: 회원/상품은 IN 조회 1회씩, 주문은 saveAll 1회
+        assertThat(response.getCreated()).isEqualTo(2);
+        assertThat(response.getResults()).allMatch(BulkOrderResponse.ItemResult::isSuccess);
+        verify(memberRepository, times(1)).findAllById(any());
+        verify(productRepository, times(1)).findAllById(any());
+        verify(orderRepository, times(1)).saveAll(anyList());
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    void allOrNothing_CumulativeStockExceeded_CreatesNothing() {
+        // When: 같은 상품 누적 수량 6 > 재고 5
+        BulkOrderResponse response = orderService.createOrders(
+                List.of(item(1L, 10L, 3L), item(1L, 10L, 3L)), BulkOrderMode.ALL_OR_NOTHING);
+
+        // Then
+        assertThat(response.getCreated()).isZero();
+        assertThat(response.getFailed()).isEqualTo(2);
+        assertThat(response.getResults().get(1).getError()).contains("재고가 부족합니다");
+        verify(orderRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void partial_CreatesOnlyValidItems_InRequestOrder() {
+        // When: 두 번째는 없는 상품, 세 번째는 수량 0
+        BulkOrderResponse response = orderService.createOrders(
+                List.of(item(1L, 10L, 1L), item(1L, 99L, 1L), item(1L, 10L, 0L), item(1L, 10L, 2L)),
+                BulkOrderMode.PARTIAL);
+
+        // Then
+        assertThat(response.getCreated()).isEqualTo(2);
+        assertThat(response.getResults())
+                .extracting(BulkOrderResponse.ItemResult::isSuccess)
+                .containsExactly(true, false, false, true);
+        assertThat(response.getResults().get(1).getError()).isEqualTo("Product not found");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Order>> saved = ArgumentCaptor.forClass(List.class);
+        verify(orderRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(Order::getCount).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void tooManyItems_IsRejected() {
+        List<OrderCreateRequest> items = Collections.nCopies(OrderService.MAX_BULK_ITEMS + 1, item(1L, 10L, 1L));
+
+        assertThatThrownBy(() -> orderService.createOrders(items, BulkOrderMode.PARTIAL))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    void holdMode_ReservesPerItem_AndAttachesHoldToOrder() {
+        // Given: 주문 시점 재고 선점, 두 번째 항목은 선점 실패
+        StockHold hold = mock(StockHold.class);
+        when(stockReservationService.isEnabled()).thenReturn(true);
+        when(productRepository.findIdsByIdIn(any())).thenReturn(List.of(10L));
+        when(stockReservationService.hold(10L, 1L)).thenReturn(Optional.of(hold));
+        when(stockReservationService.hold(10L, 4L)).thenReturn(Optional.empty());
+
+        // When
+        BulkOrderResponse response = orderService.createOrders(
+                List.of(item(1L, 10L, 1L), item(1L, 10L, 4L)), BulkOrderMode.PARTIAL);
+
+        // Then: 재고 비교 없이 선점 결과로 판단, 상품 엔티티는 선점 이후에 조회
+        assertThat(response.getResults())
+                .extracting(BulkOrderResponse.ItemResult::isSuccess)
+                .containsExactly(true, false);
+        verify(product, never()).getStock();
+        verify(hold, times(1)).attach(any());
+    }
+
+    @Test
+    void getOrderHistory_FetchesOneExtraRow_ForNextCursor() {
+        // Given: 페이지 크기 2, 3건 조회됨 (Snowflake ID는 2^53 초과)
+        long newest = 300_000_000_000_000_003L;
+        when(orderRepository.findHistoryByMember(eq(1L), eq(Long.MAX_VALUE), any()))
+                .thenReturn(List.of(row(newest), row(newest - 1), row(newest - 2)));
+
+        // When
+        CursorPage<OrderHistoryResponse> page = orderService.getOrderHistory(1L, null, 2);
+
+        // Then: size + 1건 조회, 커서는 마지막 항목 ID 문자열
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(orderRepository).findHistoryByMember(eq(1L), eq(Long.MAX_VALUE), pageable.capture());
+        assertThat(pageable.getValue().getPageSize()).isEqualTo(3);
+        assertThat(page.getItems()).hasSize(2);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo(String.valueOf(newest - 1));
+        verify(orderRepository, never()).findAll();
+    }
+
+    private static OrderHistoryRow row(long id) {
+        return new OrderHistoryRow(id, UUID.randomUUID(), "item", 1L, 100L, OrderStatus.PENDING, LocalDateTime.now());
+    }
+
+    private static OrderCreateRequest item(Long memberId, Long productId, Long count) {
+        OrderCreateRequest request = new OrderCreateRequest();
+        request.setMemberId(memberId);
+        request.setProductId(productId);
+        request.setCount(count);
+        return request;
+    }
+}
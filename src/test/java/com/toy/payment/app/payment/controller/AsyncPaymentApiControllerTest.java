@@ -0,0 +1,125 @@
+package com.toy.payment.app.payment.controller;
+
+import com.toy.payment.app.payment.dto.PaymentVerificationStatusResponse;
+import com.toy.payment.app.payment.dto.PaymentVerificationStatusResponse.Status;
+import com.toy.payment.app.payment.dto.PaymentVerifyRequest;
+import com.toy.payment.app.payment.service.AsyncPaymentVerificationService;
+import com.toy.payment.app.payment.service.AsyncPaymentVerificationService.Submission;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class AsyncPaymentApiControllerTest {
+
+    private AsyncPaymentVerificationService asyncVerificationService;
+    private AsyncPaymentApiController controller;
+
+    @BeforeEach
+    void setUp() {
+        asyncVerificationService = mock(AsyncPaymentVerificationService.class);
+        when(asyncVerificationService.getMessage(anyString(), any())).thenReturn(Optional.empty());
+        controller = new AsyncPaymentApiController(asyncVerificationService);
+    }
+
+    @Test
+    void verifyAsync_Accepted_Returns202_WithStatusUrl() {
+        // Given
+        when(asyncVerificationService.submit("key-1", "imp_1", "order_1")).thenReturn(Submission.ACCEPTED);
+
+        // When
+        ResponseEntity<PaymentVerificationStatusResponse> response = controller.verifyPaymentAsync("key-1",
+                request("imp_1", "order_1"));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getHeaders().getLocation()).hasToString("/api/payment/verify/status/key-1");
+        assertThat(response.getBody().getStatus()).isEqualTo(Status.PROCESSING);
+        assertThat(response.getBody().getStatusUrl()).isEqualTo("/api/payment/verify/status/key-1");
+    }
+
+    @Test
+    void verifyAsync_QueueFull_Returns503_WithRetryAfter() {
+        // Given
+        when(asyncVerificationService.submit("key-1", "imp_1", "order_1")).thenReturn(Submission.REJECTED);
+
+        // When
+        ResponseEntity<PaymentVerificationStatusResponse> response = controller.verifyPaymentAsync("key-1",
+                request("imp_1", "order_1"));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getBody().getMessage()).isEqualTo("VERIFICATION_QUEUE_FULL");
+    }
+
+    @Test
+    void verifyAsync_WithoutIdempotencyKey_Returns400() {
+        ResponseEntity<PaymentVerificationStatusResponse> response = controller.verifyPaymentAsync(null,
+                request("imp_1", "order_1"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verify(asyncVerificationService, never()).submit(any(), any(), any());
+    }
+
+    @Test
+    void status_LongPoll_RespondsOnCompletion() {
+        // Given: 이 노드에서 처리 중
+        CompletableFuture<Status> completion = new CompletableFuture<>();
+        when(asyncVerificationService.getStatus("key-1")).thenReturn(Status.PROCESSING);
+        when(asyncVerificationService.getLocalCompletion("key-1")).thenReturn(Optional.of(completion));
+
+        // When
+        DeferredResult<ResponseEntity<PaymentVerificationStatusResponse>> deferred =
+                controller.getVerificationStatus("key-1", 10_000);
+
+        // Then: 완료 전에는 응답하지 않음
+        assertThat(deferred.hasResult()).isFalse();
+
+        when(asyncVerificationService.getStatus("key-1")).thenReturn(Status.SUCCEEDED);
+        completion.complete(Status.SUCCEEDED);
+
+        @SuppressWarnings("unchecked")
+        ResponseEntity<PaymentVerificationStatusResponse> result =
+                (ResponseEntity<PaymentVerificationStatusResponse>) deferred.getResult();
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getBody().getStatus()).isEqualTo(Status.SUCCEEDED);
+    }
+
+    @Test
+    void status_Failed_ReturnsFailureReason() {
+        // Given
+        when(asyncVerificationService.getStatus("key-1")).thenReturn(Status.FAILED);
+        when(asyncVerificationService.getLocalCompletion("key-1")).thenReturn(Optional.empty());
+        when(asyncVerificationService.getMessage("key-1", Status.FAILED)).thenReturn(Optional.of("Amount mismatch"));
+
+        // When
+        DeferredResult<ResponseEntity<PaymentVerificationStatusResponse>> deferred =
+                controller.getVerificationStatus("key-1", 0);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ResponseEntity<PaymentVerificationStatusResponse> result =
+                (ResponseEntity<PaymentVerificationStatusResponse>) deferred.getResult();
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getBody().getStatus()).isEqualTo(Status.FAILED);
+        assertThat(result.getBody().getMessage()).isEqualTo("Amount mismatch");
+    }
+
+    private static PaymentVerifyRequest request(String impUid, String merchantUid) {
+        PaymentVerifyRequest request = new PaymentVerifyRequest();
+        request.setImp_uid(impUid);
+        request.setMerchant_uid(merchantUid);
+        return request;
+    }
+}
@@ -0,0 +1,59 @@
+package com.toy.payment.app.payment.controller;
+
+import com.toy.payment.app.payment.dto.PaymentWebhookRequest;
+import com.toy.payment.app.payment.service.PaymentWebhookInbox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class PaymentWebhookControllerTest {
+
+    private PaymentWebhookInbox webhookInbox;
+    private PaymentWebhookController controller;
+
+    @BeforeEach
+    void setUp() {
+        webhookInbox = mock(PaymentWebhookInbox.class);
+        controller = new PaymentWebhookController(webhookInbox);
+    }
+
+    @Test
+    void webhook_IsStored() {
+        // When
+        ResponseEntity<Void> response = controller.handleWebhook(request("imp_1", "order_1", "paid"));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(webhookInbox).receive("imp_1", "order_1", "paid");
+    }
+
+    @Test
+    void webhookWithoutImpUid_Returns400() {
+        // When: imp_uid가 없으면 유니크 키로 중복을 거를 수 없음
+        ResponseEntity<Void> response = controller.handleWebhook(request(null, "order_1", "paid"));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(webhookInbox);
+    }
+
+    @Test
+    void webhookWithoutStatus_Returns400() {
+        ResponseEntity<Void> response = controller.handleWebhook(request("imp_1", "order_1", null));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(webhookInbox);
+    }
+
+    private static PaymentWebhookRequest request(String impUid, String merchantUid, String status) {
+        PaymentWebhookRequest request = new PaymentWebhookRequest();
+        request.setImp_uid(impUid);
+        request.setMerchant_uid(merchantUid);
+        request.setStatus(status);
+        return request;
+    }
+}
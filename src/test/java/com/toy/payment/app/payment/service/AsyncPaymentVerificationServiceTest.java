@@ -0,0 +1,122 @@
+package com.toy.payment.app.payment.service;
+
+import com.toy.payment.app.common.idempotency.IdempotencyService;
+import com.toy.payment.app.payment.dto.PaymentVerificationStatusResponse.Status;
+import com.toy.payment.app.payment.service.AsyncPaymentVerificationService.Submission;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class AsyncPaymentVerificationServiceTest {
+
+    private PaymentVerificationCoordinator verificationCoordinator;
+    private IdempotencyService idempotencyService;
+    private AsyncPaymentVerificationService service;
+
+    @BeforeEach
+    void setUp() {
+        verificationCoordinator = mock(PaymentVerificationCoordinator.class);
+        idempotencyService = mock(IdempotencyService.class);
+        when(idempotencyService.getCachedResult(anyString())).thenReturn(Optional.empty());
+        when(idempotencyService.tryAcquireLock(anyString(), any(Duration.class))).thenReturn(true);
+        // 워커 1개, 대기 큐 1개
+        service = new AsyncPaymentVerificationService(verificationCoordinator, idempotencyService, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        service.shutdown();
+    }
+
+    @Test
+    void submit_Accepted_CachesResult_AndCompletesLocalFuture() throws Exception {
+        // Given: 완료 Future를 꺼낼 때까지 검증이 끝나지 않도록
+        CountDownLatch proceed = blockVerification("imp_1");
+
+        // When
+        assertThat(service.submit("key-1", "imp_1", "order_1")).isEqualTo(Submission.ACCEPTED);
+        CompletableFuture<Status> completion = service.getLocalCompletion("key-1").orElseThrow();
+        proceed.countDown();
+
+        // Then
+        assertThat(completion.get(5, TimeUnit.SECONDS)).isEqualTo(Status.SUCCEEDED);
+        verify(verificationCoordinator, times(1)).verify("imp_1", "order_1");
+        verify(idempotencyService, times(1)).cacheResult("key-1", AsyncPaymentVerificationService.RESULT_SUCCESS);
+        verify(idempotencyService, times(1)).releaseLock("key-1");
+    }
+
+    @Test
+    void submit_VerificationFails_RecordsFailure() throws Exception {
+        // Given
+        CountDownLatch proceed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            proceed.await(5, TimeUnit.SECONDS);
+            throw new IllegalArgumentException("Amount mismatch");
+        }).when(verificationCoordinator).verify("imp_1", "order_1");
+
+        // When
+        service.submit("key-1", "imp_1", "order_1");
+        CompletableFuture<Status> completion = service.getLocalCompletion("key-1").orElseThrow();
+        proceed.countDown();
+
+        // Then
+        assertThat(completion.get(5, TimeUnit.SECONDS)).isEqualTo(Status.FAILED);
+        verify(idempotencyService, times(1)).cacheFailure("key-1", "Amount mismatch");
+        verify(idempotencyService, never()).cacheResult(anyString(), anyString());
+        verify(idempotencyService, times(1)).releaseLock("key-1");
+    }
+
+    @Test
+    void submit_QueueFull_IsRejected_AndReleasesLock() throws Exception {
+        // Given: 워커 1개가 첫 작업에 묶이고 두 번째 작업이 큐를 채움
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(verificationCoordinator).verify(eq("imp_1"), anyString());
+
+        assertThat(service.submit("key-1", "imp_1", "order_1")).isEqualTo(Submission.ACCEPTED);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(service.submit("key-2", "imp_2", "order_2")).isEqualTo(Submission.ACCEPTED);
+
+        // When
+        Submission third = service.submit("key-3", "imp_3", "order_3");
+        release.countDown();
+
+        // Then: 대기 없이 거절, 같은 키로 재시도할 수 있도록 락 해제
+        assertThat(third).isEqualTo(Submission.REJECTED);
+        assertThat(service.getLocalCompletion("key-3")).isEmpty();
+        verify(idempotencyService, times(1)).releaseLock("key-3");
+    }
+
+    @Test
+    void submit_AlreadyCompleted_DoesNotQueue() {
+        when(idempotencyService.getCachedResult("key-1")).thenReturn(Optional.of("done"));
+
+        assertThat(service.submit("key-1", "imp_1", "order_1")).isEqualTo(Submission.COMPLETED);
+        verifyNoInteractions(verificationCoordinator);
+    }
+
+    private CountDownLatch blockVerification(String impUid) {
+        CountDownLatch proceed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            proceed.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(verificationCoordinator).verify(eq(impUid), anyString());
+        return proceed;
+    }
+}
@@ -0,0 +1,51 @@
+package com.toy.payment.app.payment.service;
+
+import com.toy.payment.domain.payment.repository.PaymentCancelRequestRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentCancelOutboxTest {
+
+    @InjectMocks
+    private PaymentCancelOutbox cancelOutbox;
+
+    @Mock
+    private PaymentCancelRequestRepository cancelRequestRepository;
+
+    @Test
+    void enqueue_InsertsWithoutExistenceCheck() {
+        // Given
+        when(cancelRequestRepository.insertIgnore(anyLong(), eq("imp_123"), eq("order_1"), eq("망취소"),
+                any(LocalDateTime.class))).thenReturn(1);
+
+        // When
+        cancelOutbox.enqueue("imp_123", "order_1", "망취소");
+
+        // Then: 조회 후 저장(check-then-insert) 없이 한 번의 INSERT IGNORE
+        verify(cancelRequestRepository).insertIgnore(anyLong(), eq("imp_123"), eq("order_1"), eq("망취소"),
+                any(LocalDateTime.class));
+        verifyNoMoreInteractions(cancelRequestRepository);
+    }
+
+    @Test
+    void enqueue_AlreadyEnqueued_IsIgnoredWithoutError() {
+        // Given: 동시에 등록한 다른 요청이 먼저 INSERT → 0건
+        when(cancelRequestRepository.insertIgnore(anyLong(), eq("imp_123"), eq("order_1"), eq("보상"),
+                any(LocalDateTime.class))).thenReturn(0);
+
+        // When & Then: 제약 위반 예외 없이 등록된 것으로 처리
+        assertThatCode(() -> cancelOutbox.enqueue("imp_123", "order_1", "보상")).doesNotThrowAnyException();
+    }
+}
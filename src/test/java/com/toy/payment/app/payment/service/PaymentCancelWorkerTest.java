@@ -0,0 +1,120 @@
+package com.toy.payment.app.payment.service;
+
+import com.toy.payment.domain.payment.entity.PaymentCancelRequest;
+import com.toy.payment.domain.payment.entity.PaymentCancelStatus;
+import com.toy.payment.domain.payment.repository.PaymentCancelRequestRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class PaymentCancelWorkerTest {
+
+    private static final int MAX_ATTEMPTS = 2;
+
+    private PaymentCancelRequestRepository cancelRequestRepository;
+    private PortOneService portOneService;
+    private PaymentCancelWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        cancelRequestRepository = mock(PaymentCancelRequestRepository.class);
+        portOneService = mock(PortOneService.class);
+        worker = new PaymentCancelWorker(cancelRequestRepository, portOneService,
+                mock(PlatformTransactionManager.class), 2, 10, MAX_ATTEMPTS, 1000, 5, 5, 1800);
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    void poll_CancelSucceeds_MarksDone() {
+        // Given
+        PaymentCancelRequest request = claimable(1L, "imp_1");
+        when(portOneService.cancelPayment("imp_1", "망취소")).thenReturn(true);
+
+        // When
+        worker.poll();
+
+        // Then
+        assertThat(request.getStatus()).isEqualTo(PaymentCancelStatus.DONE);
+        assertThat(request.getAttempts()).isEqualTo(1);
+        assertThat(request.getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    void poll_CancelFails_SchedulesRetryWithBackoff() {
+        // Given
+        PaymentCancelRequest request = claimable(1L, "imp_1");
+        when(portOneService.cancelPayment("imp_1", "망취소")).thenReturn(false);
+        LocalDateTime before = LocalDateTime.now();
+
+        // When
+        worker.poll();
+
+        // Then: PENDING으로 되돌리고 initialBackoff(5초) * 2^0 이후 재시도
+        assertThat(request.getStatus()).isEqualTo(PaymentCancelStatus.PENDING);
+        assertThat(request.getAttempts()).isEqualTo(1);
+        assertThat(request.getLastError()).isEqualTo("PG 취소 API 실패 응답");
+        assertThat(request.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(5));
+        assertThat(worker.getFailedCount()).isZero();
+    }
+
+    @Test
+    void poll_ExceedsMaxAttempts_MarksFailed_AndCountsForAlert() {
+        // Given: 이미 한 번 실패한 요청
+        PaymentCancelRequest request = claimable(1L, "imp_1");
+        ReflectionTestUtils.setField(request, "attempts", MAX_ATTEMPTS - 1);
+        when(portOneService.cancelPayment("imp_1", "망취소")).thenThrow(new IllegalStateException("PG down"));
+
+        // When
+        worker.poll();
+
+        // Then
+        assertThat(request.getStatus()).isEqualTo(PaymentCancelStatus.FAILED);
+        assertThat(request.getLastError()).isEqualTo("IllegalStateException: PG down");
+        assertThat(worker.getFailedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void poll_NothingDue_DoesNotCallPg() {
+        // Given
+        when(cancelRequestRepository.findDueForUpdateSkipLocked(any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of());
+
+        // When
+        worker.poll();
+
+        // Then
+        verify(portOneService, never()).cancelPayment(anyString(), anyString());
+        verify(cancelRequestRepository, never()).findAllById(any());
+    }
+
+    /**
+     * 선점 쿼리와 결과 반영 조회가 같은 요청을 반환하도록 설정
+     */
+    private PaymentCancelRequest claimable(Long id, String impUid) {
+        PaymentCancelRequest request = PaymentCancelRequest.builder()
+                .impUid(impUid)
+                .merchantUid("order_" + id)
+                .reason("망취소")
+                .build();
+        ReflectionTestUtils.setField(request, "id", id);
+        when(cancelRequestRepository.findDueForUpdateSkipLocked(any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(request));
+        when(cancelRequestRepository.findAllById(List.of(id))).thenReturn(List.of(request));
+        return request;
+    }
+}
@@ -0,0 +1,154 @@
+package com.toy.payment.app.payment.service;
+
+import com.toy.payment.app.payment.dto.PortOnePaymentData;
+import com.toy.payment.app.payment.dto.PortOnePaymentPage;
+import com.toy.payment.app.payment.service.PaymentService.OrderCancelledException;
+import com.toy.payment.domain.order.entity.OrderStatus;
+import com.toy.payment.domain.order.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PaymentReconcilerTest {
+
+    private static final String CHECKPOINT_KEY = "reconcile:portone:paid:checkpoint";
+    private static final PortOnePaymentPage EMPTY_PAGE = new PortOnePaymentPage(0, 0, 0, List.of());
+
+    private PortOneService portOneService;
+    private PaymentService paymentService;
+    private OrderRepository orderRepository;
+    private ValueOperations<String, String> valueOperations;
+    private PaymentReconciler reconciler;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        portOneService = mock(PortOneService.class);
+        paymentService = mock(PaymentService.class);
+        orderRepository = mock(OrderRepository.class);
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("reconcile:portone:lock"), anyString(), any(Duration.class)))
+                .thenReturn(true);
+
+        reconciler = new PaymentReconciler(portOneService, paymentService, orderRepository, redisTemplate,
+                mock(PlatformTransactionManager.class), 100, 10, 0, 60, 3600, 1, 60, 1000, 10);
+    }
+
+    @Test
+    void reconcile_AppliesPendingOrders_AdvancesCheckpoint_AndExpiresStale() {
+        // Given: 결제 완료 목록 1페이지, PENDING 주문 1건
+        givenPaidPage(payment("imp_1", "order_1"));
+        when(orderRepository.findOrderUidStringsByStatus(any(), eq(OrderStatus.PENDING)))
+                .thenReturn(List.of("order_1"));
+        when(orderRepository.findIdsByStatusCreatedBefore(eq(OrderStatus.PENDING), anyLong(),
+                any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(10L, 11L), List.of());
+
+        // When
+        reconciler.reconcile();
+
+        // Then: 반영 → 체크포인트 저장 → 만료 처리
+        verify(paymentService).applyPaymentResult(eq("imp_1"), eq("order_1"), any());
+        verify(valueOperations, atLeastOnce()).set(eq(CHECKPOINT_KEY), anyString());
+        verify(orderRepository).updateStatus(List.of(10L, 11L), OrderStatus.PENDING, OrderStatus.CANCELLED);
+    }
+
+    @Test
+    void reconcile_TransientApplyFailure_KeepsCheckpoint_AndSkipsExpiry() {
+        // Given: DB 일시 오류로 반영 실패
+        givenPaidPage(payment("imp_1", "order_1"), payment("imp_2", "order_2"));
+        when(orderRepository.findOrderUidStringsByStatus(any(), eq(OrderStatus.PENDING)))
+                .thenReturn(List.of("order_1", "order_2"));
+        doThrow(new DataAccessResourceFailureException("connection lost"))
+                .when(paymentService).applyPaymentResult(eq("imp_1"), eq("order_1"), any());
+
+        // When
+        reconciler.reconcile();
+
+        // Then: 나머지 건은 반영하되 체크포인트는 그대로, 결제 완료 목록에 있던 주문은 만료되지 않음
+        verify(paymentService).applyPaymentResult(eq("imp_2"), eq("order_2"), any());
+        verify(valueOperations, never()).set(eq(CHECKPOINT_KEY), anyString());
+        verify(orderRepository, never()).findIdsByStatusCreatedBefore(any(), anyLong(), any(), any());
+        verify(orderRepository, never()).updateStatus(any(), any(), any());
+    }
+
+    @Test
+    void reconcile_PaidButCancelledOrder_IsRefunded() {
+        // Given: 만료/보상으로 먼저 취소된 주문이 결제 완료 목록에 있음
+        givenPaidPage(payment("imp_1", "order_1"));
+        when(orderRepository.findOrderUidStringsByStatus(any(), eq(OrderStatus.CANCELLED)))
+                .thenReturn(List.of("order_1"));
+        // PaymentService가 환불을 등록하고 OrderCancelledException
+        doThrow(new OrderCancelledException("취소된 주문"))
+                .when(paymentService).applyPaymentResult(eq("imp_1"), eq("order_1"), any());
+
+        // When
+        reconciler.reconcile();
+
+        // Then: 환불 경로로 전달되고 체크포인트는 진행
+        verify(paymentService).applyPaymentResult(eq("imp_1"), eq("order_1"), any());
+        verify(paymentService, never()).rejectPayment(anyString(), anyString(), anyString());
+        verify(valueOperations, atLeastOnce()).set(eq(CHECKPOINT_KEY), anyString());
+    }
+
+    @Test
+    void reconcile_PermanentApplyFailure_CancelsAndRefunds_InsteadOfLeavingPending() {
+        // Given: 금액 불일치
+        givenPaidPage(payment("imp_1", "order_1"));
+        when(orderRepository.findOrderUidStringsByStatus(any(), eq(OrderStatus.PENDING)))
+                .thenReturn(List.of("order_1"));
+        doThrow(new IllegalArgumentException("Amount mismatch"))
+                .when(paymentService).applyPaymentResult(eq("imp_1"), eq("order_1"), any());
+
+        // When
+        reconciler.reconcile();
+
+        // Then: PENDING으로 남겨 만료되면 환불이 누락되므로 즉시 취소 + 환불
+        verify(paymentService).rejectPayment(eq("imp_1"), eq("order_1"), anyString());
+        verify(valueOperations, atLeastOnce()).set(eq(CHECKPOINT_KEY), anyString());
+    }
+
+    @Test
+    void reconcile_ResumesFromSavedCheckpointPage() {
+        // Given: 이전 실행이 구간 [from, to)의 3페이지에서 멈춤
+        long to = Instant.now().getEpochSecond() - 120;
+        long from = to - 600;
+        when(valueOperations.get(CHECKPOINT_KEY)).thenReturn(from + ":" + to + ":3");
+        when(portOneService.getPaymentsByStatus(anyString(), anyLong(), anyLong(), anyInt(), anyInt()))
+                .thenReturn(EMPTY_PAGE);
+
+        // When
+        reconciler.reconcile();
+
+        // Then
+        verify(portOneService).getPaymentsByStatus("paid", from, to, 3, 100);
+        verify(valueOperations).set(CHECKPOINT_KEY, to + ":" + to + ":1");
+    }
+
+    private void givenPaidPage(PortOnePaymentData... payments) {
+        when(portOneService.getPaymentsByStatus(anyString(), anyLong(), anyLong(), anyInt(), anyInt()))
+                .thenReturn(new PortOnePaymentPage(payments.length, 0, 0, List.of(payments)), EMPTY_PAGE);
+    }
+
+    private static PortOnePaymentData payment(String impUid, String merchantUid) {
+        return new PortOnePaymentData(impUid, merchantUid, 10000L, "paid");
+    }
+}
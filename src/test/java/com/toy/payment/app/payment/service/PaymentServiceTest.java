@@ -1,19 +1,32 @@
 package com.toy.payment.app.payment.service;
 
 import com.toy.payment.app.payment.service.PortOneService.PortOnePaymentResponse;
+import com.toy.payment.app.stock.service.SoldOutRegistry;
+import com.toy.payment.app.stock.service.StockChangeNotifier;
+import com.toy.payment.app.stock.service.StockReservationService;
+import com.toy.payment.app.stock.service.StockReservationService.HoldConfirmation;
 import com.toy.payment.domain.order.entity.Order;
+import com.toy.payment.domain.order.entity.OrderStatus;
 import com.toy.payment.domain.order.repository.OrderRepository;
 import com.toy.payment.domain.payment.entity.Payment;
-import com.toy.payment.domain.payment.entity.PaymentStatus;
 import com.toy.payment.domain.payment.repository.PaymentRepository;
+import com.toy.payment.domain.product.entity.Product;
+import com.toy.payment.domain.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -27,11 +40,35 @@ class PaymentServiceTest {
     @Mock
     private OrderRepository orderRepository;
     @Mock
+    private ProductRepository productRepository;
+    @Mock
     private PaymentRepository paymentRepository;
+    @Mock
+    private PaymentCancelOutbox cancelOutbox;
+    @Mock
+    private StockReservationService stockReservationService;
+    @Mock
+    private StockChangeNotifier stockChangeNotifier;
+    @Mock
+    private SoldOutRegistry soldOutRegistry;
+    @Mock
+    private TransactionTemplate transactionTemplate;
 
     @InjectMocks
     private PaymentService paymentService;
 
+    private final SimpleTransactionStatus txStatus = new SimpleTransactionStatus();
+
+    @BeforeEach
+    void setUp() {
+        // 트랜잭션 콜백을 그대로 실행
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(
+                invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(txStatus));
+        lenient().doCallRealMethod().when(transactionTemplate).executeWithoutResult(any());
+        // 기본: 선점 없이 생성된 주문
+        lenient().when(stockReservationService.confirm(any())).thenReturn(HoldConfirmation.NO_HOLD);
+    }
+
     @Test
     void verifyPayment_Success_And_Idempotency() {
         // Given
@@ -39,9 +76,16 @@ class PaymentServiceTest {
         String merchantUid = "order_uuid_123";
         Long amount = 10000L;
 
+        Product product = mock(Product.class);
+        when(product.getId()).thenReturn(7L);
+        when(productRepository.decreaseStockIfAvailable(7L, 1L)).thenReturn(1);
+        when(productRepository.findStockById(7L)).thenReturn(Optional.of(9L));
+
         Order order = mock(Order.class);
         when(order.getPrice()).thenReturn(amount);
         when(order.getId()).thenReturn(1L);
+        when(order.getCount()).thenReturn(1L);
+        when(order.getProduct()).thenReturn(product);
 
         PortOnePaymentResponse response = new PortOnePaymentResponse();
         response.setStatus("paid");
@@ -50,29 +94,232 @@ class PaymentServiceTest {
         response.setImpUid(impUid);
 
         when(portOneService.getPaymentInfo(eq(impUid), eq(merchantUid))).thenReturn(response);
-        when(orderRepository.findByOrderUidFetch(merchantUid)).thenReturn(Optional.of(order));
+        when(orderRepository.findByOrderUidForUpdate(merchantUid)).thenReturn(Optional.of(order));
 
-        // Case 1: First call (New Payment)
-        when(paymentRepository.findByOrder(order)).thenReturn(Optional.empty());
+        // Case 1: First call - 상태 전이 승자
+        // Case 2: Second call (Duplicate / Webhook) - 이미 PAID라 0건
+        when(orderRepository.compareAndSetStatus(1L, OrderStatus.PENDING, OrderStatus.PAID)).thenReturn(1, 0);
 
         // When
         paymentService.verifyPayment(impUid, merchantUid);
+        paymentService.verifyPayment(impUid, merchantUid);
 
         // Then
+        // Should NOT save again or decrease stock again
+        verify(orderRepository, times(2)).compareAndSetStatus(1L, OrderStatus.PENDING, OrderStatus.PAID);
         verify(paymentRepository, times(1)).save(any(Payment.class));
-        verify(order, times(1)).completePayment();
+        verify(productRepository, times(1)).decreaseStockIfAvailable(7L, 1L);
+        verify(soldOutRegistry, never()).markSoldOut(any());
+        verify(paymentRepository, never()).findByOrder(any());
+    }
 
-        // Case 2: Second call (Duplicate / Webhook)
-        Payment existingPayment = mock(Payment.class);
-        when(existingPayment.getStatus()).thenReturn(PaymentStatus.PAID);
-        when(paymentRepository.findByOrder(order)).thenReturn(Optional.of(existingPayment));
+    @Test
+    void verifyPayment_AlreadyPaidOrder_SkipsWithoutWrite() {
+        // Given: 이미 결제 완료된 주문
+        Order order = mock(Order.class);
+        when(order.getStatus()).thenReturn(OrderStatus.PAID);
+
+        when(portOneService.getPaymentInfo(eq("imp_paid"), eq("order_paid"))).thenReturn(paidResponse(10000L));
+        when(orderRepository.findByOrderUidForUpdate("order_paid")).thenReturn(Optional.of(order));
 
         // When
-        paymentService.verifyPayment(impUid, merchantUid);
+        paymentService.verifyPayment("imp_paid", "order_paid");
 
         // Then
-        // Should NOT save again or complete payment again
-        verify(paymentRepository, times(1)).save(any(Payment.class)); // Count remains 1 from first call
-        verify(order, times(1)).completePayment(); // Count remains 1
+        verify(orderRepository, never()).compareAndSetStatus(any(), any(), any());
+        verify(paymentRepository, never()).save(any(Payment.class));
+    }
+
+    @Test
+    void verifyPayment_PgLookup_RunsOutsideTransaction() {
+        // Given
+        when(portOneService.getPaymentInfo(anyString(), anyString())).thenAnswer(invocation -> {
+            // PG 조회 시점에는 아직 트랜잭션이 시작되지 않아야 함
+            verifyNoInteractions(transactionTemplate);
+            throw new PortOneService.PortOneUnavailableException("PG 장애", null);
+        });
+
+        // When & Then
+        assertThatThrownBy(() -> paymentService.verifyPayment("imp_1", "order_1"))
+                .isInstanceOf(PortOneService.PortOneUnavailableException.class);
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    @Test
+    void verifyPayment_OutOfStock_EnqueuesCancel_InsteadOfCallingPg() {
+        // Given
+        String impUid = "imp_soldout";
+        String merchantUid = "order_uuid_soldout";
+        Long amount = 10000L;
+
+        Product product = mock(Product.class);
+        when(product.getId()).thenReturn(7L);
+        // 조건부 UPDATE 0건 → 재고 부족
+        when(productRepository.decreaseStockIfAvailable(7L, 1L)).thenReturn(0);
+
+        Order order = mock(Order.class);
+        when(order.getId()).thenReturn(1L);
+        when(order.getPrice()).thenReturn(amount);
+        when(order.getCount()).thenReturn(1L);
+        when(order.getProduct()).thenReturn(product);
+
+        when(portOneService.getPaymentInfo(eq(impUid), eq(merchantUid))).thenReturn(paidResponse(amount));
+        // 결제 반영 + 보상 처리 (주문 Row 락)
+        when(orderRepository.findByOrderUidForUpdate(merchantUid)).thenReturn(Optional.of(order));
+        when(orderRepository.compareAndSetStatus(1L, OrderStatus.PENDING, OrderStatus.PAID)).thenReturn(1);
+
+        // When & Then
+        assertThatThrownBy(() -> paymentService.verifyPayment(impUid, merchantUid))
+                .isInstanceOf(PaymentService.StockExhaustedException.class);
+
+        // 상태 전이는 롤백
+        assertThat(txStatus.isRollbackOnly()).isTrue();
+        verify(cancelOutbox, times(1)).enqueue(eq(impUid), eq(merchantUid), anyString());
+        verify(orderRepository, times(1)).compareAndSetStatus(1L, OrderStatus.PENDING, OrderStatus.CANCELLED);
+        verify(portOneService, never()).cancelPayment(anyString(), anyString());
+        verify(paymentRepository, never()).save(any(Payment.class));
+    }
+
+    @Test
+    void verifyPayment_VersionConflictOnCommit_IsRetried_WithoutRefund() {
+        // Given: 첫 커밋에서 다른 트랜잭션과 낙관적 락 충돌 (재고는 충분)
+        String impUid = "imp_conflict";
+        String merchantUid = "order_uuid_conflict";
+        Order order = mock(Order.class);
+        when(order.getId()).thenReturn(1L);
+        when(order.getPrice()).thenReturn(10000L);
+
+        when(portOneService.getPaymentInfo(eq(impUid), eq(merchantUid))).thenReturn(paidResponse(10000L));
+        doThrow(new ObjectOptimisticLockingFailureException(Product.class, 1L))
+                .doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(txStatus))
+                .when(transactionTemplate).execute(any());
+        when(orderRepository.findByOrderUidForUpdate(merchantUid)).thenReturn(Optional.of(order));
+        when(orderRepository.compareAndSetStatus(1L, OrderStatus.PENDING, OrderStatus.PAID)).thenReturn(1);
+        when(stockReservationService.confirm(order)).thenReturn(HoldConfirmation.CONFIRMED);
+
+        // When
+        paymentService.verifyPayment(impUid, merchantUid);
+
+        // Then: 재시도로 반영, 주문 취소/환불 없음
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(paymentRepository, times(1)).save(any(Payment.class));
+        verify(cancelOutbox, never()).enqueue(anyString(), anyString(), anyString());
+        verify(orderRepository, never()).compareAndSetStatus(any(), eq(OrderStatus.PENDING), eq(OrderStatus.CANCELLED));
+    }
+
+    @Test
+    void verifyPayment_VersionConflictPersists_PropagatesWithoutCompensation() {
+        // Given: 재시도 횟수만큼 계속 충돌
+        when(portOneService.getPaymentInfo(eq("imp_conflict"), eq("order_conflict"))).thenReturn(paidResponse(10000L));
+        doThrow(new ObjectOptimisticLockingFailureException(Product.class, 1L))
+                .when(transactionTemplate).execute(any());
+
+        // When & Then: 재고 부족이 아니므로 환불하지 않고 예외 전파 (검증 재시도/웹훅/대사로 다시 반영)
+        assertThatThrownBy(() -> paymentService.verifyPayment("imp_conflict", "order_conflict"))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        verify(transactionTemplate, times(3)).execute(any());
+        verify(cancelOutbox, never()).enqueue(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void verifyPayment_OutOfStock_ButCompetitorAlreadyPaid_SkipsRefund() {
+        // Given: 이 요청은 재고 부족으로 롤백, 보상 시점에는 경쟁 요청이 결제를 반영함
+        String merchantUid = "order_uuid_race";
+        Order pending = mock(Order.class);
+        when(pending.getId()).thenReturn(1L);
+        when(pending.getPrice()).thenReturn(10000L);
+        Order paid = mock(Order.class);
+        when(paid.getStatus()).thenReturn(OrderStatus.PAID);
+
+        when(portOneService.getPaymentInfo(eq("imp_race"), eq(merchantUid))).thenReturn(paidResponse(10000L));
+        when(orderRepository.findByOrderUidForUpdate(merchantUid)).thenReturn(Optional.of(pending), Optional.of(paid));
+        when(orderRepository.compareAndSetStatus(1L, OrderStatus.PENDING, OrderStatus.PAID)).thenReturn(1);
+        when(stockReservationService.confirm(pending)).thenReturn(HoldConfirmation.EXHAUSTED);
+
+        // When
+        paymentService.verifyPayment("imp_race", merchantUid);
+
+        // Then: PAID 주문은 취소/환불하지 않음
+        verify(orderRepository, never()).compareAndSetStatus(any(), eq(OrderStatus.PENDING), eq(OrderStatus.CANCELLED));
+        verify(cancelOutbox, never()).enqueue(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void verifyPayment_HeldStock_IsConfirmed_WithoutDecreasingAgain() {
+        // Given: 주문 시점에 재고 선점
+        String impUid = "imp_held";
+        String merchantUid = "order_uuid_held";
+        Long amount = 10000L;
+
+        Order order = mock(Order.class);
+        when(order.getId()).thenReturn(1L);
+        when(order.getPrice()).thenReturn(amount);
+
+        when(portOneService.getPaymentInfo(eq(impUid), eq(merchantUid))).thenReturn(paidResponse(amount));
+        when(orderRepository.findByOrderUidForUpdate(merchantUid)).thenReturn(Optional.of(order));
+        when(orderRepository.compareAndSetStatus(1L, OrderStatus.PENDING, OrderStatus.PAID)).thenReturn(1);
+        when(stockReservationService.confirm(order)).thenReturn(HoldConfirmation.CONFIRMED);
+
+        // When
+        paymentService.verifyPayment(impUid, merchantUid);
+
+        // Then: 상품 재고는 건드리지 않음
+        verify(order, never()).getProduct();
+        verify(paymentRepository, times(1)).save(any(Payment.class));
+        verify(cancelOutbox, never()).enqueue(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void verifyPayment_ExpiredHoldExhausted_EnqueuesCancel() {
+        // Given: 선점이 만료된 뒤 재고가 소진됨
+        String impUid = "imp_expired";
+        String merchantUid = "order_uuid_expired";
+        Long amount = 10000L;
+
+        Order order = mock(Order.class);
+        when(order.getId()).thenReturn(1L);
+        when(order.getPrice()).thenReturn(amount);
+
+        when(portOneService.getPaymentInfo(eq(impUid), eq(merchantUid))).thenReturn(paidResponse(amount));
+        when(orderRepository.findByOrderUidForUpdate(merchantUid)).thenReturn(Optional.of(order));
+        when(orderRepository.compareAndSetStatus(1L, OrderStatus.PENDING, OrderStatus.PAID)).thenReturn(1);
+        when(stockReservationService.confirm(order)).thenReturn(HoldConfirmation.EXHAUSTED);
+
+        // When & Then
+        assertThatThrownBy(() -> paymentService.verifyPayment(impUid, merchantUid))
+                .isInstanceOf(PaymentService.StockExhaustedException.class);
+        verify(cancelOutbox, times(1)).enqueue(eq(impUid), eq(merchantUid), anyString());
+        verify(paymentRepository, never()).save(any(Payment.class));
+    }
+
+    @Test
+    void verifyPayment_CancelledOrder_IsNotRevived_AndPaymentIsRefunded() {
+        // Given: 보상/만료/사용자 취소로 이미 취소된 주문에 늦은 검증 도착
+        String impUid = "imp_late";
+        String merchantUid = "order_uuid_cancelled";
+        Order order = mock(Order.class);
+        when(order.getStatus()).thenReturn(OrderStatus.CANCELLED);
+
+        when(portOneService.getPaymentInfo(eq(impUid), eq(merchantUid))).thenReturn(paidResponse(10000L));
+        when(orderRepository.findByOrderUidForUpdate(merchantUid)).thenReturn(Optional.of(order));
+
+        // When & Then
+        assertThatThrownBy(() -> paymentService.verifyPayment(impUid, merchantUid))
+                .isInstanceOf(PaymentService.OrderCancelledException.class);
+
+        // 상태 전이/재고/결제 기록 없이 환불만 등록 (같은 트랜잭션에서 커밋)
+        verify(orderRepository, never()).compareAndSetStatus(any(), any(), any());
+        verify(stockReservationService, never()).confirm(any());
+        verify(order, never()).getProduct();
+        verify(paymentRepository, never()).save(any(Payment.class));
+        verify(cancelOutbox, times(1)).enqueue(eq(impUid), eq(merchantUid), anyString());
+        assertThat(txStatus.isRollbackOnly()).isFalse();
+    }
+
+    private static PortOnePaymentResponse paidResponse(Long amount) {
+        PortOnePaymentResponse response = new PortOnePaymentResponse();
+        response.setStatus("paid");
+        response.setAmount(amount);
+        return response;
     }
 }
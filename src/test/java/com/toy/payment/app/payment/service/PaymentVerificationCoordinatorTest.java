@@ -0,0 +1,74 @@
+package com.toy.payment.app.payment.service;
+
+import com.toy.payment.app.common.idempotency.SingleFlight;
+import com.toy.payment.app.payment.service.PaymentVerificationCoordinator.WebhookOutcome;
+import com.toy.payment.domain.order.entity.OrderStatus;
+import com.toy.payment.domain.order.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class PaymentVerificationCoordinatorTest {
+
+    private PaymentService paymentService;
+    private OrderRepository orderRepository;
+    private RedisTemplate<String, String> redisTemplate;
+    private PaymentVerificationCoordinator coordinator;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        paymentService = mock(PaymentService.class);
+        orderRepository = mock(OrderRepository.class);
+        redisTemplate = mock(RedisTemplate.class);
+        coordinator = new PaymentVerificationCoordinator(paymentService, orderRepository, new SingleFlight(),
+                redisTemplate);
+    }
+
+    @Test
+    void webhook_AlreadyPaidOrder_SkipsPgLookup() {
+        // Given
+        when(orderRepository.findStatusByOrderUid("order_1")).thenReturn(Optional.of(OrderStatus.PAID));
+
+        // When
+        WebhookOutcome outcome = coordinator.verifyFromWebhook("imp_1", "order_1");
+
+        // Then
+        assertThat(outcome).isEqualTo(WebhookOutcome.ALREADY_DONE);
+        verify(paymentService, never()).verifyPayment(anyString(), anyString());
+    }
+
+    @Test
+    void webhook_ClientVerificationInProgress_IsDeferred() {
+        // Given: 다른 노드에서 클라이언트 검증 진행 중
+        when(orderRepository.findStatusByOrderUid("order_1")).thenReturn(Optional.of(OrderStatus.PENDING));
+        when(redisTemplate.hasKey("payment_verifying:order_1")).thenReturn(true);
+
+        // When
+        WebhookOutcome outcome = coordinator.verifyFromWebhook("imp_1", "order_1");
+
+        // Then
+        assertThat(outcome).isEqualTo(WebhookOutcome.DEFERRED);
+        verify(paymentService, never()).verifyPayment(anyString(), anyString());
+    }
+
+    @Test
+    void webhook_PendingOrder_IsVerified() {
+        // Given
+        when(orderRepository.findStatusByOrderUid("order_1")).thenReturn(Optional.of(OrderStatus.PENDING));
+        when(redisTemplate.hasKey("payment_verifying:order_1")).thenReturn(false);
+
+        // When
+        WebhookOutcome outcome = coordinator.verifyFromWebhook("imp_1", "order_1");
+
+        // Then
+        assertThat(outcome).isEqualTo(WebhookOutcome.APPLIED);
+        verify(paymentService, times(1)).verifyPayment("imp_1", "order_1");
+    }
+}
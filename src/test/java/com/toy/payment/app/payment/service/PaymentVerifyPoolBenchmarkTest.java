@@ -0,0 +1,159 @@
+package com.toy.payment.app.payment.service;
+
+import com.toy.payment.app.payment.standin.PortOneStandInServer;
+import com.toy.payment.domain.member.entity.Member;
+import com.toy.payment.domain.member.repository.MemberRepository;
+import com.toy.payment.domain.order.entity.Order;
+import com.toy.payment.domain.order.repository.OrderRepository;
+import com.toy.payment.domain.product.entity.Product;
+import com.toy.payment.domain.product.repository.ProductRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결제 검증 DB 커넥션 풀 포화 벤치마크 (PG 지연 중 트랜잭션 유지 vs 분리)
+ * 
+ * PG 대역 서버에 고정 지연을 주고 동시 검증 요청을 보내며, HikariCP 활성/대기 커넥션 수를 샘플링한다.
+ * - held: 외부 트랜잭션으로 감싸 PG 호출 동안 커넥션을 잡는 기존 방식 재현
+ * - split: 현재 구현 (PG 조회는 트랜잭션 밖, 반영만 짧은 트랜잭션)
+ * 
+ * 실행 (MySQL/Redis 필요): BENCHMARK=true ./gradlew test --tests '*PaymentVerifyPoolBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "portone.stand-in.enabled=true",
+        "portone.stand-in.port=18089",
+        "portone.stand-in.latency.distribution=FIXED",
+        "portone.stand-in.latency.median-ms=" + PaymentVerifyPoolBenchmarkTest.PG_LATENCY_MS,
+        "portone.api.base-url=http://127.0.0.1:18089",
+        "spring.datasource.hikari.maximum-pool-size=" + PaymentVerifyPoolBenchmarkTest.POOL_SIZE,
+        "payment.reconcile.enabled=false",
+        "payment.webhook.worker.enabled=false",
+        "payment.cancel.worker.enabled=false"
+})
+class PaymentVerifyPoolBenchmarkTest {
+
+    static final long PG_LATENCY_MS = 500;
+    static final int POOL_SIZE = 10;
+    private static final int CONCURRENCY = 50;
+    private static final int REQUESTS = 300;
+
+    @Autowired
+    private PaymentService paymentService;
+    @Autowired
+    private PortOneStandInServer standIn;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void heldTransaction_vs_splitTransaction() throws Exception {
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+
+        Result held = run("held", pool, (impUid, merchantUid) -> transactionTemplate.executeWithoutResult(
+                status -> paymentService.verifyPayment(impUid, merchantUid)));
+        Result split = run("split", pool, paymentService::verifyPayment);
+
+        held.print();
+        split.print();
+        assertThat(split.succeeded()).isEqualTo(REQUESTS);
+    }
+
+    private Result run(String name, HikariPoolMXBean pool, BiConsumer<String, String> verify) throws Exception {
+        // Given: 재고 충분한 상품 + PG에 결제 완료로 등록된 주문
+        Member member = memberRepository.save(new Member("bench", "bench@example.com", "Seoul"));
+        Product product = productRepository.save(Product.builder()
+                .name("bench-" + name)
+                .price(100L)
+                .stock((long) REQUESTS)
+                .build());
+        List<String[]> payments = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            Order order = orderRepository.save(new Order(member, product, 1L));
+            payments.add(new String[] { standIn.registerPaidPayment(order.getOrderUid(), order.getPrice()),
+                    order.getOrderUid() });
+        }
+
+        // 커넥션 풀 샘플링
+        AtomicInteger maxActive = new AtomicInteger();
+        AtomicInteger maxPending = new AtomicInteger();
+        AtomicBoolean sampling = new AtomicBoolean(true);
+        Thread sampler = new Thread(() -> {
+            while (sampling.get()) {
+                maxActive.accumulateAndGet(pool.getActiveConnections(), Math::max);
+                maxPending.accumulateAndGet(pool.getThreadsAwaitingConnection(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        sampler.start();
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        AtomicInteger succeeded = new AtomicInteger();
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (String[] payment : payments) {
+                futures.add(executor.submit(() -> {
+                    try {
+                        verify.accept(payment[0], payment[1]);
+                        succeeded.incrementAndGet();
+                    } catch (Exception e) {
+                        // 커넥션 획득 타임아웃 등 실패 건수로 집계
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            sampling.set(false);
+            sampler.join();
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        return new Result(name, elapsedMs, succeeded.get(), maxActive.get(), maxPending.get());
+    }
+
+    private record Result(String name, long elapsedMs, int succeeded, int maxActive, int maxPending) {
+
+        void print() {
+            System.out.printf("[%s] requests=%d, succeeded=%d, elapsed=%dms, throughput=%.1f/s, "
+                    + "maxActiveConnections=%d/%d, maxThreadsAwaitingConnection=%d (PG latency %dms, concurrency %d)%n",
+                    name, REQUESTS, succeeded, elapsedMs, succeeded * 1000.0 / Math.max(elapsedMs, 1),
+                    maxActive, POOL_SIZE, maxPending, PG_LATENCY_MS, CONCURRENCY);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.toy.payment.app.payment.service;
+
+import com.toy.payment.domain.payment.repository.PaymentWebhookEventRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentWebhookInboxTest {
+
+    @InjectMocks
+    private PaymentWebhookInbox webhookInbox;
+
+    @Mock
+    private PaymentWebhookEventRepository webhookEventRepository;
+
+    @Test
+    void receive_NewEvent_IsStored() {
+        // Given
+        when(webhookEventRepository.insertIgnore(anyLong(), eq("imp_1"), eq("order_1"), eq("paid"),
+                any(LocalDateTime.class))).thenReturn(1);
+
+        // When & Then
+        assertThat(webhookInbox.receive("imp_1", "order_1", "paid")).isTrue();
+        verifyNoMoreInteractions(webhookEventRepository);
+    }
+
+    @Test
+    void receive_SameEvent_IsMerged() {
+        // Given: 같은 (주문, 결제, 상태) 웹훅이 이미 저장됨
+        when(webhookEventRepository.insertIgnore(anyLong(), eq("imp_1"), eq("order_1"), eq("paid"),
+                any(LocalDateTime.class))).thenReturn(0);
+
+        // When & Then
+        assertThat(webhookInbox.receive("imp_1", "order_1", "paid")).isFalse();
+    }
+
+    @Test
+    void receive_NewStatusForSameOrder_IsStoredSeparately() {
+        // Given: 같은 주문의 결제 완료 웹훅 뒤 취소 웹훅
+        when(webhookEventRepository.insertIgnore(anyLong(), eq("imp_1"), eq("order_1"), any(),
+                any(LocalDateTime.class))).thenReturn(1);
+
+        // When
+        webhookInbox.receive("imp_1", "order_1", "paid");
+        webhookInbox.receive("imp_1", "order_1", "cancelled");
+
+        // Then: 상태별로 저장 시도 (중복 판단은 유니크 키가 담당)
+        verify(webhookEventRepository).insertIgnore(anyLong(), eq("imp_1"), eq("order_1"), eq("paid"),
+                any(LocalDateTime.class));
+        verify(webhookEventRepository).insertIgnore(anyLong(), eq("imp_1"), eq("order_1"), eq("cancelled"),
+                any(LocalDateTime.class));
+    }
+}
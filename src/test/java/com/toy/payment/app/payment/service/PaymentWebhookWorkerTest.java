@@ -0,0 +1,161 @@
+package com.toy.payment.app.payment.service;
+
+import com.toy.payment.app.payment.service.PaymentVerificationCoordinator.WebhookOutcome;
+import com.toy.payment.app.payment.service.PortOneService.PortOneUnavailableException;
+import com.toy.payment.domain.payment.entity.PaymentWebhookEvent;
+import com.toy.payment.domain.payment.entity.PaymentWebhookStatus;
+import com.toy.payment.domain.payment.repository.PaymentWebhookEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PaymentWebhookWorkerTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private PaymentWebhookEventRepository webhookEventRepository;
+    private PaymentVerificationCoordinator verificationCoordinator;
+    private PlatformTransactionManager transactionManager;
+    private PaymentWebhookWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        webhookEventRepository = mock(PaymentWebhookEventRepository.class);
+        verificationCoordinator = mock(PaymentVerificationCoordinator.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        worker = new PaymentWebhookWorker(webhookEventRepository, verificationCoordinator, transactionManager,
+                2, MAX_ATTEMPTS, 120, 3000, 2, 600);
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    void poll_ClaimsDueEvents_AndCompletesApplied() {
+        // Given
+        PaymentWebhookEvent event = claimable(1L);
+        when(verificationCoordinator.verifyFromWebhook("imp_1", "order_1")).thenReturn(WebhookOutcome.APPLIED);
+
+        // When
+        pollAndAwait();
+
+        // Then: 선점 수는 워커 풀 여유만큼
+        verify(webhookEventRepository).findDueForUpdateSkipLocked(any(LocalDateTime.class), eq(2));
+        assertThat(event.getStatus()).isEqualTo(PaymentWebhookStatus.DONE);
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(event.getProcessedAt()).isNotNull();
+    }
+
+    @Test
+    void poll_Deferred_ReturnsToQueue_WithoutCountingAttempt() {
+        // Given: 클라이언트 검증이 진행 중
+        PaymentWebhookEvent event = claimable(1L);
+        when(verificationCoordinator.verifyFromWebhook("imp_1", "order_1")).thenReturn(WebhookOutcome.DEFERRED);
+        LocalDateTime before = LocalDateTime.now();
+
+        // When
+        pollAndAwait();
+
+        // Then
+        assertThat(event.getStatus()).isEqualTo(PaymentWebhookStatus.RECEIVED);
+        assertThat(event.getAttempts()).isZero();
+        assertThat(event.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(3));
+    }
+
+    @Test
+    void poll_TransientFailure_SchedulesRetryWithBackoff() {
+        // Given: PG 장애
+        PaymentWebhookEvent event = claimable(1L);
+        when(verificationCoordinator.verifyFromWebhook("imp_1", "order_1"))
+                .thenThrow(new PortOneUnavailableException("PG 장애", null));
+        LocalDateTime before = LocalDateTime.now();
+
+        // When
+        pollAndAwait();
+
+        // Then: initialBackoff(2초) * 2^0 이후 재시도
+        assertThat(event.getStatus()).isEqualTo(PaymentWebhookStatus.RECEIVED);
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(event.getLastError()).startsWith("PortOneUnavailableException");
+        assertThat(event.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(2));
+    }
+
+    @Test
+    void poll_PermanentFailure_MarksFailedImmediately() {
+        // Given: 금액 불일치 (재시도해도 같은 결과)
+        PaymentWebhookEvent event = claimable(1L);
+        when(verificationCoordinator.verifyFromWebhook("imp_1", "order_1"))
+                .thenThrow(new IllegalArgumentException("Amount mismatch"));
+
+        // When
+        pollAndAwait();
+
+        // Then
+        assertThat(event.getStatus()).isEqualTo(PaymentWebhookStatus.FAILED);
+        assertThat(event.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void poll_ExceedsMaxAttempts_MarksFailed() {
+        // Given: 마지막 시도
+        PaymentWebhookEvent event = claimable(1L);
+        ReflectionTestUtils.setField(event, "attempts", MAX_ATTEMPTS - 1);
+        when(verificationCoordinator.verifyFromWebhook("imp_1", "order_1"))
+                .thenThrow(new PortOneUnavailableException("PG 장애", null));
+
+        // When
+        pollAndAwait();
+
+        // Then
+        assertThat(event.getStatus()).isEqualTo(PaymentWebhookStatus.FAILED);
+        assertThat(event.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+    }
+
+    @Test
+    void poll_NothingDue_DoesNotVerify() {
+        // Given
+        when(webhookEventRepository.findDueForUpdateSkipLocked(any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of());
+
+        // When
+        worker.poll();
+
+        // Then
+        verifyNoInteractions(verificationCoordinator);
+    }
+
+    /**
+     * 선점 트랜잭션 + 결과 반영 트랜잭션이 모두 커밋될 때까지 대기
+     */
+    private void pollAndAwait() {
+        worker.poll();
+        verify(transactionManager, timeout(2000).times(2)).commit(any());
+    }
+
+    private PaymentWebhookEvent claimable(Long id) {
+        PaymentWebhookEvent event = PaymentWebhookEvent.builder()
+                .impUid("imp_" + id)
+                .merchantUid("order_" + id)
+                .paymentStatus("paid")
+                .build();
+        ReflectionTestUtils.setField(event, "id", id);
+        when(webhookEventRepository.findDueForUpdateSkipLocked(any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(event));
+        when(webhookEventRepository.findById(id)).thenReturn(Optional.of(event));
+        return event;
+    }
+}
@@ -0,0 +1,32 @@
+package com.toy.payment.app.payment.service;
+
+import com.toy.payment.app.common.resilience.CircuitBreaker;
+import com.toy.payment.app.payment.service.PortOneService.PortOneUnavailableException;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PortOneCallGuardTest {
+
+    @Test
+    void lookupFailures_OpenOnlyLookupCircuit_CancelStillPermitted() {
+        // Given: 4회 중 50% 실패 시 OPEN
+        PortOneCallGuard callGuard = new PortOneCallGuard(10, 10, 100, 4, 4, 50, 100, 5000, 3600, 1);
+
+        // When: 조회 타임아웃 누적
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> callGuard.lookup(() -> {
+                throw new ResourceAccessException("Read timed out");
+            })).isInstanceOf(ResourceAccessException.class);
+        }
+
+        // Then: 조회는 즉시 거절되지만 망취소는 계속 PG로 나감
+        assertThat(callGuard.getLookupCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> callGuard.lookup(() -> "payment"))
+                .isInstanceOf(PortOneUnavailableException.class);
+        assertThat(callGuard.getCancelCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(callGuard.cancel(() -> true)).isTrue();
+    }
+}
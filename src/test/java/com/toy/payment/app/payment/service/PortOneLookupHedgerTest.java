@@ -0,0 +1,69 @@
+package com.toy.payment.app.payment.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PortOneLookupHedgerTest {
+
+    private PortOneLookupHedger hedger;
+
+    @AfterEach
+    void tearDown() {
+        hedger.shutdown();
+    }
+
+    @Test
+    void slowPrimary_HedgeWins() {
+        // Given: 헤지 지연 50ms, 예산 충분
+        hedger = new PortOneLookupHedger(true, 50, 95, 50, 500, 1.0, 10, 4);
+
+        // When
+        String result = hedger.execute(() -> sleepAndReturn(2000, "primary"), () -> "hedge", e -> true);
+
+        // Then
+        assertThat(result).isEqualTo("hedge");
+    }
+
+    @Test
+    void noBudget_WaitsForPrimary_WithoutHedging() {
+        // Given: 적립 비율 0 → 헤지 불가
+        hedger = new PortOneLookupHedger(true, 50, 95, 50, 500, 0.0, 10, 4);
+        AtomicInteger hedgeCalls = new AtomicInteger();
+
+        // When
+        String result = hedger.execute(() -> sleepAndReturn(200, "primary"), () -> {
+            hedgeCalls.incrementAndGet();
+            return "hedge";
+        }, e -> true);
+
+        // Then
+        assertThat(result).isEqualTo("primary");
+        assertThat(hedgeCalls.get()).isZero();
+    }
+
+    @Test
+    void primaryFailsFast_NonFallbackException_IsPropagated() {
+        // Given
+        hedger = new PortOneLookupHedger(true, 50, 95, 50, 500, 1.0, 10, 4);
+
+        // When & Then
+        assertThatThrownBy(() -> hedger.execute(() -> {
+            throw new IllegalStateException("timeout");
+        }, () -> "hedge", e -> !(e instanceof IllegalStateException)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static String sleepAndReturn(long millis, String value) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,211 @@
+package com.toy.payment.app.payment.service;
+
+import com.toy.payment.app.payment.dto.PortOnePaymentData;
+import com.toy.payment.app.payment.dto.PortOnePaymentPage;
+import com.toy.payment.app.payment.service.PortOneService.PortOnePaymentResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class PortOneServiceTest {
+
+    private MockRestServiceServer server;
+    private PortOneTokenManager tokenManager;
+    private PortOneService portOneService;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        tokenManager = mock(PortOneTokenManager.class);
+        when(tokenManager.getAccessToken()).thenReturn("token-1");
+        PortOneCallGuard callGuard = new PortOneCallGuard(10, 10, 100, 50, 20, 50, 80, 5000, 10, 5);
+        PortOneLookupHedger hedger = new PortOneLookupHedger(false, 0, 95, 50, 500, 0.05, 10, 4);
+        portOneService = new PortOneService(restTemplate, tokenManager, callGuard, mock(PaymentCancelOutbox.class),
+                hedger, "https://api.iamport.kr");
+    }
+
+    @Test
+    void getPaymentInfo_ParsesTypedResponse_SkippingUnknownFields() {
+        // Given: amount가 int 범위를 넘고, 사용하지 않는 필드가 다수 포함된 응답
+        server.expect(requestTo("https://api.iamport.kr/payments/imp_1"))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header("Authorization", "Bearer token-1"))
+                .andRespond(withSuccess("""
+                        {"code":0,"message":null,"response":{
+                          "amount":3000000000,"apply_num":"","buyer_addr":"Seoul","cancel_history":[],
+                          "card_quota":0,"custom_data":{"nested":{"deep":[1,2,3]}},
+                          "imp_uid":"imp_1","merchant_uid":"order_1","status":"paid","paid_at":1700000000
+                        }}
+                        """, MediaType.APPLICATION_JSON));
+
+        // When
+        PortOnePaymentResponse response = portOneService.getPaymentInfo("imp_1", "order_1");
+
+        // Then
+        assertThat(response.getImpUid()).isEqualTo("imp_1");
+        assertThat(response.getMerchantUid()).isEqualTo("order_1");
+        assertThat(response.getAmount()).isEqualTo(3_000_000_000L);
+        assertThat(response.getStatus()).isEqualTo("paid");
+        server.verify();
+    }
+
+    @Test
+    void getPaymentInfo_FallsBackToMerchantUid_WhenImpUidLookupFails() {
+        // Given
+        server.expect(requestTo("https://api.iamport.kr/payments/imp_1"))
+                .andRespond(withSuccess("{\"code\":-1,\"message\":\"일시적인 오류입니다.\",\"response\":null}",
+                        MediaType.APPLICATION_JSON));
+        server.expect(requestTo("https://api.iamport.kr/payments/find/order_1"))
+                .andRespond(withSuccess("""
+                        {"code":0,"response":{"imp_uid":"imp_1","merchant_uid":"order_1","amount":150,"status":"paid"}}
+                        """, MediaType.APPLICATION_JSON));
+
+        // When
+        PortOnePaymentResponse response = portOneService.getPaymentInfo("imp_1", "order_1");
+
+        // Then
+        assertThat(response.getImpUid()).isEqualTo("imp_1");
+        assertThat(response.getAmount()).isEqualTo(150L);
+        server.verify();
+    }
+
+    @Test
+    void getPaymentInfo_MerchantUidFallback_ReturningOtherPayment_IsRejected() {
+        // Given: 같은 주문번호의 다른 결제 시도(imp_2)가 조회됨
+        server.expect(requestTo("https://api.iamport.kr/payments/imp_1"))
+                .andRespond(withSuccess("{\"code\":-1,\"message\":\"존재하지 않는 결제정보입니다.\",\"response\":null}",
+                        MediaType.APPLICATION_JSON));
+        server.expect(requestTo("https://api.iamport.kr/payments/find/order_1"))
+                .andRespond(withSuccess("""
+                        {"code":0,"response":{"imp_uid":"imp_2","merchant_uid":"order_1","amount":150,"status":"paid"}}
+                        """, MediaType.APPLICATION_JSON));
+
+        // When & Then
+        assertThatThrownBy(() -> portOneService.getPaymentInfo("imp_1", "order_1"))
+                .hasRootCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("Payment found by merchant_uid(order_1) is imp_2, not imp_1");
+        server.verify();
+    }
+
+    @Test
+    void getPaymentInfoHedged_MerchantUidHedgeReturningOtherPayment_DoesNotWin() {
+        // Given: 1차 조회(imp_1)는 느리고, 먼저 도착한 헤지 조회는 다른 결제(imp_2)
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer hedgedServer = MockRestServiceServer.bindTo(restTemplate).ignoreExpectOrder(true).build();
+        PortOneLookupHedger hedger = new PortOneLookupHedger(true, 20, 95, 50, 500, 1.0, 10, 4);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        hedger.bindTo(registry);
+        PortOneService hedgedService = new PortOneService(restTemplate, tokenManager,
+                new PortOneCallGuard(10, 10, 100, 50, 20, 50, 80, 5000, 10, 5), mock(PaymentCancelOutbox.class),
+                hedger, "https://api.iamport.kr");
+        hedgedServer.expect(requestTo("https://api.iamport.kr/payments/imp_1"))
+                .andRespond(request -> {
+                    sleep(300);
+                    return withSuccess("""
+                            {"code":0,"response":{"imp_uid":"imp_1","merchant_uid":"order_1","amount":150,"status":"paid"}}
+                            """, MediaType.APPLICATION_JSON).createResponse(request);
+                });
+        hedgedServer.expect(requestTo("https://api.iamport.kr/payments/find/order_1"))
+                .andRespond(withSuccess("""
+                        {"code":0,"response":{"imp_uid":"imp_2","merchant_uid":"order_1","amount":150,"status":"paid"}}
+                        """, MediaType.APPLICATION_JSON));
+
+        try {
+            // When
+            PortOnePaymentResponse response = hedgedService.getPaymentInfo("imp_1", "order_1");
+
+            // Then: 헤지는 발사됐지만 채택되지 않고 1차 조회 결과 사용
+            assertThat(response.getImpUid()).isEqualTo("imp_1");
+            assertThat(registry.get("portone.hedge.issued").functionCounter().count()).isEqualTo(1);
+            assertThat(registry.get("portone.hedge.won").functionCounter().count()).isZero();
+            hedgedServer.verify();
+        } finally {
+            hedger.shutdown();
+        }
+    }
+
+    @Test
+    void getPaymentInfo_MissingAmount_IsRejected_InsteadOfZero() {
+        // Given: amount 누락/null 응답
+        server.expect(requestTo("https://api.iamport.kr/payments/imp_1"))
+                .andRespond(withSuccess("""
+                        {"code":0,"response":{"imp_uid":"imp_1","merchant_uid":"order_1","status":"paid"}}
+                        """, MediaType.APPLICATION_JSON));
+        server.expect(requestTo("https://api.iamport.kr/payments/find/order_1"))
+                .andRespond(withSuccess("""
+                        {"code":0,"response":{"imp_uid":"imp_1","merchant_uid":"order_1","amount":null,"status":"paid"}}
+                        """, MediaType.APPLICATION_JSON));
+
+        // When & Then
+        assertThatThrownBy(() -> portOneService.getPaymentInfo("imp_1", "order_1"))
+                .isInstanceOf(RuntimeException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+        server.verify();
+    }
+
+    @Test
+    void getPaymentInfo_RetriesOnce_WhenTokenRejected() {
+        // Given
+        when(tokenManager.getAccessToken()).thenReturn("expired-token", "token-2");
+        server.expect(requestTo("https://api.iamport.kr/payments/imp_1"))
+                .andExpect(header("Authorization", "Bearer expired-token"))
+                .andRespond(withStatus(HttpStatus.UNAUTHORIZED));
+        server.expect(requestTo("https://api.iamport.kr/payments/imp_1"))
+                .andExpect(header("Authorization", "Bearer token-2"))
+                .andRespond(withSuccess("""
+                        {"code":0,"response":{"imp_uid":"imp_1","merchant_uid":"order_1","amount":150,"status":"paid"}}
+                        """, MediaType.APPLICATION_JSON));
+
+        // When
+        PortOnePaymentResponse response = portOneService.getPaymentInfo("imp_1", "order_1");
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo("paid");
+        verify(tokenManager, times(1)).invalidate("expired-token");
+        server.verify();
+    }
+
+    @Test
+    void getPaymentsByStatus_ParsesPage() {
+        // Given
+        server.expect(requestTo("https://api.iamport.kr/payments/status/paid?from=100&to=200&page=1&limit=100&sorting=started"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess("""
+                        {"code":0,"response":{"total":101,"previous":0,"next":2,"list":[
+                          {"imp_uid":"imp_1","merchant_uid":"order_1","amount":150,"status":"paid","started_at":150}
+                        ]}}
+                        """, MediaType.APPLICATION_JSON));
+
+        // When
+        PortOnePaymentPage page = portOneService.getPaymentsByStatus("paid", 100, 200, 1, 100);
+
+        // Then
+        assertThat(page.total()).isEqualTo(101);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.list()).extracting(PortOnePaymentData::merchantUid).containsExactly("order_1");
+        server.verify();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.toy.payment.app.payment.service;
+
+import com.toy.payment.app.payment.dto.PortOneApiResponse;
+import com.toy.payment.app.payment.dto.PortOneTokenData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PortOneTokenManagerTest {
+
+    private static final String TOKEN_URL = "https://api.iamport.kr/users/getToken";
+
+    private RestTemplate restTemplate;
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private PortOneTokenManager tokenManager;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        restTemplate = mock(RestTemplate.class);
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        tokenManager = new PortOneTokenManager(restTemplate, redisTemplate, "https://api.iamport.kr");
+        ReflectionTestUtils.setField(tokenManager, "apiKey", "key");
+        ReflectionTestUtils.setField(tokenManager, "apiSecret", "secret");
+        ReflectionTestUtils.setField(tokenManager, "refreshAheadSeconds", 60L);
+    }
+
+    @Test
+    void cachedToken_IsReused_WithoutPgCall() {
+        // Given
+        givenTokens(token("t1", 3600));
+
+        // When
+        String first = tokenManager.getAccessToken();
+        String second = tokenManager.getAccessToken();
+
+        // Then
+        assertThat(first).isEqualTo("t1");
+        assertThat(second).isEqualTo("t1");
+        verifyTokenRequests(1);
+    }
+
+    @Test
+    void concurrentMisses_ShareSingleRefresh() throws Exception {
+        // Given: 토큰 발급이 느린 동안 여러 요청이 동시에 들어옴
+        CountDownLatch release = new CountDownLatch(1);
+        when(restTemplate.exchange(eq(TOKEN_URL), eq(HttpMethod.POST), any(), any(ParameterizedTypeReference.class)))
+                .thenAnswer(invocation -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return token("t1", 3600);
+                });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(tokenManager::getAccessToken));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            // Then
+            for (Future<String> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("t1");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verifyTokenRequests(1);
+    }
+
+    @Test
+    void nearExpiry_RefreshesInBackground_AndKeepsServingCurrentToken() throws Exception {
+        // Given: 30초 뒤 만료 (refresh-ahead 60초 구간)
+        givenTokens(token("t1", 30), token("t2", 3600));
+        assertThat(tokenManager.getAccessToken()).isEqualTo("t1");
+        // 최소 갱신 간격 경과 처리
+        ReflectionTestUtils.setField(tokenManager, "lastRefreshAt", Instant.EPOCH);
+
+        // When: 현재 토큰을 바로 반환하고 갱신은 백그라운드에서
+        assertThat(tokenManager.getAccessToken()).isEqualTo("t1");
+
+        // Then
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!"t2".equals(tokenManager.getAccessToken()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(tokenManager.getAccessToken()).isEqualTo("t2");
+        verifyTokenRequests(2);
+    }
+
+    @Test
+    void invalidate_ForcesNewToken() {
+        // Given
+        givenTokens(token("t1", 3600), token("t2", 3600));
+        assertThat(tokenManager.getAccessToken()).isEqualTo("t1");
+
+        // When: PG가 401로 거절
+        tokenManager.invalidate("t1");
+
+        // Then
+        assertThat(tokenManager.getAccessToken()).isEqualTo("t2");
+        verifyTokenRequests(2);
+    }
+
+    @Test
+    void sharedMode_ReusesTokenIssuedByOtherNode() {
+        // Given
+        ReflectionTestUtils.setField(tokenManager, "shared", true);
+        long expiresAt = Instant.now().plusSeconds(3600).getEpochSecond();
+        when(valueOperations.get("portone:access_token")).thenReturn(expiresAt + ":shared-token");
+
+        // When & Then
+        assertThat(tokenManager.getAccessToken()).isEqualTo("shared-token");
+        verifyTokenRequests(0);
+    }
+
+    @Test
+    void sharedMode_StoresIssuedToken_WithExpiryTtl() {
+        // Given
+        ReflectionTestUtils.setField(tokenManager, "shared", true);
+        givenTokens(token("t1", 3600));
+
+        // When
+        tokenManager.getAccessToken();
+
+        // Then
+        verify(valueOperations, times(1)).set(eq("portone:access_token"), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void refreshRejectedAfterShutdown_DoesNotBlockLaterCallers() {
+        // Given: 만료 임박 토큰 보유 중 종료
+        givenTokens(token("t1", 30), token("t2", 3600));
+        tokenManager.getAccessToken();
+        ReflectionTestUtils.setField(tokenManager, "lastRefreshAt", Instant.EPOCH);
+        tokenManager.shutdown();
+
+        // When: 백그라운드 갱신이 거절되어도 현재 토큰 반환
+        assertThat(tokenManager.getAccessToken()).isEqualTo("t1");
+        tokenManager.invalidate("t1");
+
+        // Then: 이후 동기 갱신이 대기 없이 진행됨
+        String token = assertTimeoutPreemptively(Duration.ofSeconds(5), tokenManager::getAccessToken);
+        assertThat(token).isEqualTo("t2");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenTokens(ResponseEntity<?> first, ResponseEntity<?>... rest) {
+        when(restTemplate.exchange(eq(TOKEN_URL), eq(HttpMethod.POST), any(), any(ParameterizedTypeReference.class)))
+                .thenReturn((ResponseEntity) first, (ResponseEntity[]) rest);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void verifyTokenRequests(int times) {
+        verify(restTemplate, times(times))
+                .exchange(eq(TOKEN_URL), eq(HttpMethod.POST), any(), any(ParameterizedTypeReference.class));
+    }
+
+    private static ResponseEntity<PortOneApiResponse<PortOneTokenData>> token(String accessToken, long ttlSeconds) {
+        long now = Instant.now().getEpochSecond();
+        return ResponseEntity.ok(new PortOneApiResponse<>(0, null,
+                new PortOneTokenData(accessToken, now, now + ttlSeconds)));
+    }
+}
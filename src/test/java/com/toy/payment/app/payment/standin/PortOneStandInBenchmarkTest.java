@@ -0,0 +1,147 @@
+package com.toy.payment.app.payment.standin;
+
+import com.toy.payment.app.payment.service.PaymentCancelOutbox;
+import com.toy.payment.app.payment.service.PortOneCallGuard;
+import com.toy.payment.app.payment.service.PortOneLookupHedger;
+import com.toy.payment.app.payment.service.PortOneService;
+import com.toy.payment.app.payment.service.PortOneService.PaymentTimeoutException;
+import com.toy.payment.app.payment.service.PortOneTokenManager;
+import com.toy.payment.config.PortOneConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * PG 대역 서버 벤치마크 (결제 조회 처리량 + 타임아웃 → 망취소 경로)
+ *
+ * 긴 꼬리 지연(LOG_NORMAL)과 일정 비율의 무응답을 주입한 대역 서버에 결제 조회를 동시에 보내고,
+ * - 처리량(건/초)과 성공/타임아웃 건수
+ * - 타임아웃 건마다 망취소가 Outbox에 등록되는지
+ * - 등록된 망취소를 PG 취소 API로 처리하면 대역 서버에서 결제가 취소되는지
+ * 를 확인한다. DB/Redis 없이 한 머신에서 실행된다.
+ *
+ * 실행: BENCHMARK=true ./gradlew test --tests '*PortOneStandInBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class PortOneStandInBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PortOneStandInBenchmarkTest.class);
+
+    private static final int CONCURRENCY = 32;
+    private static final int REQUESTS = 2_000;
+    private static final long READ_TIMEOUT_MS = 1_000;
+    private static final double TIMEOUT_RATE = 0.02;
+
+    private PortOneStandInServer standIn;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private PaymentCancelOutbox cancelOutbox;
+    private PortOneService portOneService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        standIn = new PortOneStandInServer(0, new LatencyProfile(LatencyProfile.Distribution.LOG_NORMAL, 50, 0.5, 500),
+                0, TIMEOUT_RATE, READ_TIMEOUT_MS * 2);
+        standIn.start();
+
+        PortOneConfig config = new PortOneConfig();
+        connectionManager = config.portOneConnectionManager(CONCURRENCY, CONCURRENCY, 5_000, READ_TIMEOUT_MS);
+        httpClient = config.portOneHttpClient(connectionManager, READ_TIMEOUT_MS, 1_000, 30);
+
+        PortOneTokenManager tokenManager = mock(PortOneTokenManager.class);
+        when(tokenManager.getAccessToken()).thenReturn("stand-in-token");
+        cancelOutbox = mock(PaymentCancelOutbox.class);
+        // 서킷이 열리지 않도록 실패율/지연 임계치를 넉넉하게
+        PortOneCallGuard callGuard = new PortOneCallGuard(CONCURRENCY, CONCURRENCY, 1_000, 100, 1_000, 100, 100,
+                READ_TIMEOUT_MS * 10, 1, 5);
+        PortOneLookupHedger hedger = new PortOneLookupHedger(false, 0, 95, 50, 500, 0.05, 10, 4);
+        portOneService = new PortOneService(config.portOneRestTemplate(httpClient), tokenManager, callGuard,
+                cancelOutbox, hedger, standIn.getBaseUrl());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        httpClient.close();
+        connectionManager.close();
+        standIn.stop();
+    }
+
+    @Test
+    void verifyThroughput_And_TimeoutNetCancel() throws Exception {
+        // Given
+        List<String[]> payments = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            String merchantUid = "order_" + i;
+            payments.add(new String[] {standIn.registerPaidPayment(merchantUid, 150), merchantUid});
+        }
+        Queue<String> netCancelled = new ConcurrentLinkedQueue<>();
+        doAnswer(invocation -> netCancelled.add(invocation.getArgument(0)))
+                .when(cancelOutbox).enqueue(anyString(), anyString(), anyString());
+
+        // When: 결제 조회 동시 실행
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger timedOut = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (String[] payment : payments) {
+                futures.add(executor.submit(() -> {
+                    try {
+                        portOneService.getPaymentInfo(payment[0], payment[1]);
+                        succeeded.incrementAndGet();
+                    } catch (PaymentTimeoutException e) {
+                        timedOut.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Then: 모든 요청은 성공 또는 타임아웃, 타임아웃 건마다 망취소 등록
+        log.info("[StandIn] requests={}, concurrency={}, elapsed={}ms, throughput={}/s, succeeded={}, timedOut={}",
+                REQUESTS, CONCURRENCY, elapsedMillis, REQUESTS * 1000L / Math.max(1, elapsedMillis),
+                succeeded.get(), timedOut.get());
+        assertThat(succeeded.get() + timedOut.get()).isEqualTo(REQUESTS);
+        assertThat(timedOut.get()).isPositive();
+        assertThat(netCancelled).hasSize(timedOut.get());
+
+        // 망취소 처리 (취소 API도 무응답이 주입되므로 워커처럼 재시도)
+        int cancelled = 0;
+        for (String impUid : netCancelled) {
+            for (int attempt = 0; attempt < 5; attempt++) {
+                if (portOneService.cancelPayment(impUid, "Read-timeout 발생으로 인한 망취소")) {
+                    break;
+                }
+            }
+            if (standIn.getStatus(impUid).filter("cancelled"::equals).isPresent()) {
+                cancelled++;
+            }
+        }
+        log.info("[StandIn] netCancelRequested={}, cancelledAtPg={}", netCancelled.size(), cancelled);
+        assertThat(cancelled).isEqualTo(netCancelled.size());
+    }
+}
@@ -0,0 +1,142 @@
+package com.toy.payment.app.payment.standin;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PortOneStandInServerTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private PortOneStandInServer standIn;
+
+    @AfterEach
+    void tearDown() {
+        if (standIn != null) {
+            standIn.stop();
+        }
+    }
+
+    @Test
+    void lookupByImpUidAndMerchantUid_ThenCancel() throws Exception {
+        // Given
+        start(LatencyProfile.none(), 0, 0, 0);
+        String impUid = standIn.registerPaidPayment("order_1", 150);
+
+        // When & Then
+        assertThat(get("/payments/" + impUid).body()).contains("\"merchant_uid\":\"order_1\"", "\"amount\":150",
+                "\"status\":\"paid\"");
+        assertThat(get("/payments/find/order_1").body()).contains("\"imp_uid\":\"" + impUid + "\"");
+        assertThat(get("/payments/imps_unknown").statusCode()).isEqualTo(404);
+
+        HttpResponse<String> cancelled = post("/payments/cancel", "{\"imp_uid\":\"" + impUid + "\"}");
+        assertThat(cancelled.body()).contains("\"code\":0", "\"status\":\"cancelled\"");
+        assertThat(standIn.getStatus(impUid)).hasValue("cancelled");
+    }
+
+    @Test
+    void token_IsIssued() throws Exception {
+        start(LatencyProfile.none(), 0, 0, 0);
+
+        HttpResponse<String> response = post("/users/getToken", "{\"imp_key\":\"k\",\"imp_secret\":\"s\"}");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).contains("\"access_token\"", "\"expired_at\"");
+    }
+
+    @Test
+    void fixedLatency_DelaysResponse() throws Exception {
+        // Given
+        start(LatencyProfile.fixed(100), 0, 0, 0);
+        String impUid = standIn.registerPaidPayment("order_1", 150);
+
+        // When
+        long start = System.nanoTime();
+        get("/payments/" + impUid);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(100);
+    }
+
+    @Test
+    void errorRate_Returns500() throws Exception {
+        start(LatencyProfile.none(), 1.0, 0, 0);
+        String impUid = standIn.registerPaidPayment("order_1", 150);
+
+        assertThat(get("/payments/" + impUid).statusCode()).isEqualTo(500);
+    }
+
+    @Test
+    void timeoutRate_HoldsResponse_PastClientReadTimeout() throws Exception {
+        // Given: 모든 조회가 1초 동안 응답하지 않음
+        start(LatencyProfile.none(), 0, 1.0, 1_000);
+        String impUid = standIn.registerPaidPayment("order_1", 150);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(standIn.getBaseUrl() + "/payments/" + impUid))
+                .timeout(Duration.ofMillis(200))
+                .GET()
+                .build();
+
+        // When & Then
+        assertThatThrownBy(() -> client.send(request, HttpResponse.BodyHandlers.ofString()))
+                .isInstanceOf(HttpTimeoutException.class);
+    }
+
+    @Test
+    void statusList_PagesByStartedAt() throws Exception {
+        // Given
+        start(LatencyProfile.none(), 0, 0, 0);
+        standIn.registerPaidPayment("order_1", 100);
+        standIn.registerPaidPayment("order_2", 200);
+        standIn.registerPaidPayment("order_3", 300);
+
+        // When
+        String first = get("/payments/status/paid?from=0&page=1&limit=2").body();
+        String second = get("/payments/status/paid?from=0&page=2&limit=2").body();
+        String cancelled = get("/payments/status/cancelled?from=0&page=1&limit=2").body();
+
+        // Then
+        assertThat(first).contains("\"total\":3", "\"next\":2", "order_1", "order_2").doesNotContain("order_3");
+        assertThat(second).contains("\"next\":0", "order_3");
+        assertThat(cancelled).contains("\"total\":0", "\"list\":[]");
+    }
+
+    @Test
+    void latencyProfile_RespectsDistributionBounds() {
+        LatencyProfile uniform = new LatencyProfile(LatencyProfile.Distribution.UNIFORM, 50, 0, 1_000);
+        LatencyProfile logNormal = new LatencyProfile(LatencyProfile.Distribution.LOG_NORMAL, 50, 1.0, 300);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(uniform.sampleMs()).isBetween(0L, 100L);
+            assertThat(logNormal.sampleMs()).isBetween(0L, 300L);
+        }
+        assertThat(LatencyProfile.fixed(30).sampleMs()).isEqualTo(30L);
+    }
+
+    private void start(LatencyProfile latency, double errorRate, double timeoutRate, long timeoutDelayMs)
+            throws IOException {
+        standIn = new PortOneStandInServer(0, latency, errorRate, timeoutRate, timeoutDelayMs);
+        standIn.start();
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create(standIn.getBaseUrl() + path)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create(standIn.getBaseUrl() + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,34 @@
+package com.toy.payment.app.product.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductViewTest {
+
+    @Test
+    void etag_IsStable_UntilVersionOrContentChanges() {
+        ProductView view = new ProductView(1L, "item", 100L, 5L, 7L);
+
+        assertThat(view.etag()).isEqualTo(new ProductView(1L, "item", 100L, 5L, 7L).etag());
+        assertThat(view.etag()).startsWith("\"p1-7-").endsWith("\"");
+        assertThat(view.etag()).isNotEqualTo(new ProductView(1L, "item", 100L, 4L, 8L).etag());
+        // 버전 스냅샷이 늦더라도 화면 값이 다르면 태그가 달라야 함
+        assertThat(view.etag()).isNotEqualTo(new ProductView(1L, "item", 100L, 4L, 7L).etag());
+    }
+
+    @Test
+    void catalogEtag_ChangesWhenAnyProductChanges() {
+        List<ProductView> catalog = List.of(
+                new ProductView(1L, "a", 100L, 5L, 1L),
+                new ProductView(2L, "b", 200L, 3L, 1L));
+        List<ProductView> sold = List.of(
+                new ProductView(1L, "a", 100L, 5L, 1L),
+                new ProductView(2L, "b", 200L, 2L, 2L));
+
+        assertThat(ProductView.catalogEtag(catalog)).isEqualTo(ProductView.catalogEtag(List.copyOf(catalog)));
+        assertThat(ProductView.catalogEtag(catalog)).isNotEqualTo(ProductView.catalogEtag(sold));
+    }
+}
@@ -0,0 +1,53 @@
+package com.toy.payment.app.product.service;
+
+import com.toy.payment.app.common.idempotency.SingleFlight;
+import com.toy.payment.domain.product.repository.ProductCatalogRow;
+import com.toy.payment.domain.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCatalogCacheTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductCatalogCache catalogCache;
+
+    @BeforeEach
+    void setUp() {
+        catalogCache = new ProductCatalogCache(productRepository, new SingleFlight(), 100, 60);
+    }
+
+    @Test
+    void get_ReadsDbOnce_ThenServesFromCache() {
+        when(productRepository.findCatalogById(1L)).thenReturn(Optional.of(new ProductCatalogRow(1L, "item", 100L)));
+
+        catalogCache.get(1L);
+        Optional<ProductCatalogRow> second = catalogCache.get(1L);
+
+        assertThat(second).contains(new ProductCatalogRow(1L, "item", 100L));
+        verify(productRepository, times(1)).findCatalogById(1L);
+    }
+
+    @Test
+    void getAll_WarmsItemCache() {
+        when(productRepository.findAllCatalog()).thenReturn(List.of(new ProductCatalogRow(1L, "item", 100L)));
+
+        catalogCache.getAll();
+        catalogCache.getAll();
+        catalogCache.get(1L);
+
+        verify(productRepository, times(1)).findAllCatalog();
+        verify(productRepository, never()).findCatalogById(any());
+    }
+}
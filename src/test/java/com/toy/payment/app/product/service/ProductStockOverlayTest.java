@@ -0,0 +1,91 @@
+package com.toy.payment.app.product.service;
+
+import com.toy.payment.app.common.idempotency.SingleFlight;
+import com.toy.payment.app.product.service.ProductStockOverlay.Source;
+import com.toy.payment.domain.product.repository.ProductRepository;
+import com.toy.payment.domain.product.repository.ProductStockRow;
+import com.toy.payment.domain.stock.entity.StockSlotStatus;
+import com.toy.payment.domain.stock.repository.AvailableSlotCount;
+import com.toy.payment.domain.stock.repository.StockSlotRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductStockOverlayTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private StockSlotRepository stockSlotRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Test
+    void skipLockedReservation_ReadsAvailableSlots() {
+        // Given: 주문 시점 선점(SKIP_LOCKED) → product.stock은 줄지 않음
+        ProductStockOverlay overlay = overlay(true, "SKIP_LOCKED");
+        when(stockSlotRepository.countByProductIdInAndStatus(List.of(1L, 2L), StockSlotStatus.AVAILABLE))
+                .thenReturn(List.of(new AvailableSlotCount(1L, 7L)));
+
+        // When
+        Map<Long, ProductStockRow> stocks = overlay.getStocks(List.of(1L, 2L));
+
+        // Then: 가용 슬롯이 없는 상품은 0
+        assertThat(overlay.getSource()).isEqualTo(Source.SLOTS);
+        assertThat(stocks.get(1L).stock()).isEqualTo(7L);
+        assertThat(stocks.get(2L).stock()).isZero();
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void slotCounts_AreCached_UntilRefresh() {
+        // Given
+        ProductStockOverlay overlay = overlay(true, "SKIP_LOCKED");
+        when(stockSlotRepository.countByProductIdInAndStatus(List.of(1L), StockSlotStatus.AVAILABLE))
+                .thenReturn(List.of(new AvailableSlotCount(1L, 7L)))
+                .thenReturn(List.of(new AvailableSlotCount(1L, 6L)));
+
+        // When
+        overlay.getStock(1L);
+        overlay.getStock(1L);
+        Map<Long, ProductStockRow> refreshed = overlay.refresh(List.of(1L));
+
+        // Then: TTL 안에서는 1회 조회, 재고 변경 알림 후 다시 조회
+        assertThat(refreshed.get(1L).stock()).isEqualTo(6L);
+        verify(stockSlotRepository, times(2)).countByProductIdInAndStatus(any(), any());
+    }
+
+    @Test
+    void otherReservationStrategy_ReadsProductStock() {
+        // Given: 조건부 UPDATE 선점은 product.stock을 직접 차감
+        ProductStockOverlay overlay = overlay(true, "CONDITIONAL_UPDATE");
+        when(productRepository.findStocksByIdIn(List.of(1L))).thenReturn(List.of(new ProductStockRow(1L, 5L, 3L)));
+
+        // When & Then
+        assertThat(overlay.getSource()).isEqualTo(Source.DB);
+        assertThat(overlay.getStock(1L)).contains(new ProductStockRow(1L, 5L, 3L));
+        verifyNoInteractions(stockSlotRepository);
+    }
+
+    @Test
+    void reservationDisabled_ReadsProductStock() {
+        assertThat(overlay(false, "SKIP_LOCKED").getSource()).isEqualTo(Source.DB);
+    }
+
+    private ProductStockOverlay overlay(boolean reservationEnabled, String reservationStrategy) {
+        return new ProductStockOverlay(productRepository, stockSlotRepository, redisTemplate, new SingleFlight(),
+                Source.DB, reservationEnabled, reservationStrategy, 60_000, 100);
+    }
+}
@@ -0,0 +1,77 @@
+package com.toy.payment.app.product.service;
+
+import com.toy.payment.app.product.service.StockStreamHub.TooManySubscribersException;
+import com.toy.payment.app.stock.service.StockChangeNotifier;
+import com.toy.payment.domain.product.repository.ProductStockRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockStreamHubTest {
+
+    @Mock
+    private ProductStockOverlay productStockOverlay;
+
+    private StockStreamHub hub;
+
+    @BeforeEach
+    void setUp() {
+        hub = new StockStreamHub(productStockOverlay, 60_000, 2);
+        lenient().when(productStockOverlay.getStock(any()))
+                .thenReturn(Optional.of(new ProductStockRow(1L, 10L, 1L)));
+    }
+
+    @Test
+    void burstOfChanges_IsCoalescedIntoOneRead() {
+        // Given
+        hub.subscribe(1L);
+        hub.subscribe(1L);
+        when(productStockOverlay.refresh(List.of(1L))).thenReturn(Map.of(1L, new ProductStockRow(1L, 7L, 4L)));
+
+        // When: 재고 변경 알림 3번 → 푸시 주기 1번
+        hub.onMessage(changed(1L), null);
+        hub.onMessage(changed(1L), null);
+        hub.onMessage(changed(1L), null);
+        hub.flush();
+        hub.flush();
+
+        // Then: 구독자 수와 무관하게 최신 재고 조회 1회
+        verify(productStockOverlay, times(1)).refresh(List.of(1L));
+    }
+
+    @Test
+    void changeWithoutSubscribers_IsIgnored() {
+        hub.onMessage(changed(2L), null);
+        hub.flush();
+
+        verify(productStockOverlay, never()).refresh(any());
+    }
+
+    @Test
+    void connectionLimit_IsEnforced() {
+        hub.subscribe(1L);
+        hub.subscribe(2L);
+
+        assertThatThrownBy(() -> hub.subscribe(3L)).isInstanceOf(TooManySubscribersException.class);
+        assertThat(hub.getConnectionCount()).isEqualTo(2);
+    }
+
+    private static DefaultMessage changed(Long productId) {
+        return new DefaultMessage(StockChangeNotifier.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                String.valueOf(productId).getBytes(StandardCharsets.UTF_8));
+    }
+}
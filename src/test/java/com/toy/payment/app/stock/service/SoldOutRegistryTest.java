@@ -0,0 +1,66 @@
+package com.toy.payment.app.stock.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SoldOutRegistryTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private final AtomicLong now = new AtomicLong(1_000);
+    private SoldOutRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SoldOutRegistry(redisTemplate, 5_000, now::get);
+    }
+
+    @Test
+    void markSoldOut_IsBroadcast_AndClearedOnRestock() {
+        registry.markSoldOut(1L);
+
+        assertThat(registry.isSoldOut(1L)).isTrue();
+        verify(redisTemplate).convertAndSend(SoldOutRegistry.CHANNEL, "S:1");
+
+        registry.clear(1L);
+
+        assertThat(registry.isSoldOut(1L)).isFalse();
+        verify(redisTemplate).convertAndSend(SoldOutRegistry.CHANNEL, "R:1");
+    }
+
+    @Test
+    void flagFromOtherNode_IsApplied() {
+        registry.onMessage(message("S:2"), null);
+        assertThat(registry.isSoldOut(2L)).isTrue();
+
+        registry.onMessage(message("R:2"), null);
+        assertThat(registry.isSoldOut(2L)).isFalse();
+    }
+
+    @Test
+    void flag_Expires_SoStoreIsCheckedAgain() {
+        registry.markSoldOut(3L);
+
+        now.addAndGet(5_000);
+
+        assertThat(registry.isSoldOut(3L)).isFalse();
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(SoldOutRegistry.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,136 @@
+package com.toy.payment.app.stock.service;
+
+import com.toy.payment.app.stock.service.StockReservationService.HoldConfirmation;
+import com.toy.payment.app.stock.strategy.StockLockStrategy;
+import com.toy.payment.domain.order.entity.Order;
+import com.toy.payment.domain.stock.entity.StockHold;
+import com.toy.payment.domain.stock.entity.StockHoldStatus;
+import com.toy.payment.domain.stock.repository.StockHoldRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockReservationServiceTest {
+
+    @Mock
+    private StockHoldRepository stockHoldRepository;
+    @Mock
+    private StockLockStrategy strategy;
+    @Mock
+    private SoldOutRegistry soldOutRegistry;
+    @Mock
+    private Order order;
+
+    private StockReservationService stockReservationService;
+
+    @BeforeEach
+    void setUp() {
+        when(strategy.getStrategyName()).thenReturn("SKIP_LOCKED");
+        stockReservationService = new StockReservationService(stockHoldRepository, List.of(strategy), soldOutRegistry, true,
+                "SKIP_LOCKED", 600);
+        lenient().when(order.getId()).thenReturn(1L);
+    }
+
+    @Test
+    void hold_SoldOut_LeavesNoHold() {
+        // Given
+        when(stockHoldRepository.save(any(StockHold.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(strategy.reserve(any(), anyLong(), anyLong())).thenReturn(false);
+
+        // When
+        Optional<StockHold> hold = stockReservationService.hold(10L, 1L);
+
+        // Then
+        assertThat(hold).isEmpty();
+        verify(stockHoldRepository, times(1)).delete(any(StockHold.class));
+    }
+
+    @Test
+    void hold_SoldOutProduct_IsRejectedWithoutIo() {
+        when(soldOutRegistry.isSoldOut(10L)).thenReturn(true);
+
+        assertThat(stockReservationService.hold(10L, 1L)).isEmpty();
+        verifyNoInteractions(stockHoldRepository);
+        verify(strategy, never()).reserve(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    void confirm_HeldStock_IsConfirmed() {
+        // Given
+        StockHold hold = hold();
+        when(stockHoldRepository.findByOrderIdForUpdate(1L)).thenReturn(Optional.of(hold));
+
+        // When & Then
+        assertThat(stockReservationService.confirm(order)).isEqualTo(HoldConfirmation.CONFIRMED);
+        assertThat(hold.getStatus()).isEqualTo(StockHoldStatus.CONFIRMED);
+        verify(strategy, times(1)).confirm(any(), eq(10L), eq(2L));
+        verify(strategy, never()).reserve(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    void confirm_ExpiredHold_IsReacquired_WhenStockRemains() {
+        // Given: 만료되어 반환된 선점
+        StockHold hold = hold();
+        hold.release();
+        when(stockHoldRepository.findByOrderIdForUpdate(1L)).thenReturn(Optional.of(hold));
+        when(strategy.reserve(any(), eq(10L), eq(2L))).thenReturn(true);
+
+        // When & Then
+        assertThat(stockReservationService.confirm(order)).isEqualTo(HoldConfirmation.CONFIRMED);
+        assertThat(hold.getStatus()).isEqualTo(StockHoldStatus.CONFIRMED);
+    }
+
+    @Test
+    void confirm_ExpiredHold_SoldOut_IsExhausted() {
+        // Given
+        StockHold hold = hold();
+        hold.release();
+        when(stockHoldRepository.findByOrderIdForUpdate(1L)).thenReturn(Optional.of(hold));
+        when(strategy.reserve(any(), eq(10L), eq(2L))).thenReturn(false);
+
+        // When & Then
+        assertThat(stockReservationService.confirm(order)).isEqualTo(HoldConfirmation.EXHAUSTED);
+        assertThat(hold.getStatus()).isEqualTo(StockHoldStatus.RELEASED);
+        verify(strategy, never()).confirm(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    void confirm_OrderWithoutHold_FallsBack() {
+        when(stockHoldRepository.findByOrderIdForUpdate(1L)).thenReturn(Optional.empty());
+
+        assertThat(stockReservationService.confirm(order)).isEqualTo(HoldConfirmation.NO_HOLD);
+    }
+
+    @Test
+    void releaseNextExpired_ReturnsStock() {
+        // Given
+        StockHold hold = hold();
+        when(stockHoldRepository.findFirstExpiredForUpdateSkipLocked(any())).thenReturn(Optional.of(hold));
+
+        // When & Then
+        assertThat(stockReservationService.releaseNextExpired(LocalDateTime.now())).isTrue();
+        assertThat(hold.getStatus()).isEqualTo(StockHoldStatus.RELEASED);
+        verify(strategy, times(1)).release(any(), eq(10L), eq(2L));
+    }
+
+    private static StockHold hold() {
+        return StockHold.builder()
+                .productId(10L)
+                .quantity(2L)
+                .strategy("SKIP_LOCKED")
+                .expiresAt(LocalDateTime.now().minusMinutes(1))
+                .build();
+    }
+}
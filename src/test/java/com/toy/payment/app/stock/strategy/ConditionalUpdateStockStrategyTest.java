@@ -0,0 +1,85 @@
+package com.toy.payment.app.stock.strategy;
+
+import com.toy.payment.app.stock.service.SoldOutRegistry;
+import com.toy.payment.app.stock.service.StockChangeNotifier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionalUpdateStockStrategyTest {
+
+    @InjectMocks
+    private ConditionalUpdateStockStrategy strategy;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private StockChangeNotifier stockChangeNotifier;
+
+    @Mock
+    private SoldOutRegistry soldOutRegistry;
+
+    @Test
+    void decreaseStock_Success_PublishesChange() {
+        // Given
+        when(jdbcTemplate.update(anyString(), eq(1L), eq(10L), eq(1L))).thenReturn(1);
+
+        // When
+        boolean result = strategy.decreaseStock(10L, 1L);
+
+        // Then
+        assertThat(result).isTrue();
+        verify(stockChangeNotifier).changed(10L);
+        verify(soldOutRegistry, never()).markSoldOut(any());
+    }
+
+    @Test
+    void decreaseStock_NotEnoughStock_MarksSoldOut() {
+        // Given: WHERE stock >= 1 불충족
+        when(jdbcTemplate.update(anyString(), eq(1L), eq(10L), eq(1L))).thenReturn(0);
+
+        // When
+        boolean result = strategy.decreaseStock(10L, 1L);
+
+        // Then
+        assertThat(result).isFalse();
+        verify(soldOutRegistry).markSoldOut(10L);
+        verifyNoInteractions(stockChangeNotifier);
+    }
+
+    @Test
+    void decreaseStock_SoldOutFlag_SkipsUpdate() {
+        // Given
+        when(soldOutRegistry.isSoldOut(10L)).thenReturn(true);
+
+        // When & Then
+        assertThat(strategy.decreaseStock(10L, 1L)).isFalse();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void decreaseStock_DatabaseError_Propagates() {
+        // Given: 데드락 등 DB 오류는 재고 부족(false)과 구분되어야 함
+        when(jdbcTemplate.update(anyString(), eq(1L), eq(10L), eq(1L)))
+                .thenThrow(new CannotAcquireLockException("Deadlock found"));
+
+        // When & Then
+        assertThatThrownBy(() -> strategy.decreaseStock(10L, 1L))
+                .isInstanceOf(CannotAcquireLockException.class);
+        verifyNoInteractions(stockChangeNotifier);
+        verify(soldOutRegistry, never()).markSoldOut(any());
+    }
+}
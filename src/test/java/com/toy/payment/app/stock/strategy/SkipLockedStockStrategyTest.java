@@ -0,0 +1,95 @@
+package com.toy.payment.app.stock.strategy;
+
+import com.toy.payment.app.stock.service.SoldOutRegistry;
+import com.toy.payment.app.stock.service.StockChangeNotifier;
+import com.toy.payment.domain.stock.entity.StockSlot;
+import com.toy.payment.domain.stock.entity.StockSlotStatus;
+import com.toy.payment.domain.stock.repository.StockSlotRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SkipLockedStockStrategyTest {
+
+    @InjectMocks
+    private SkipLockedStockStrategy strategy;
+
+    @Mock
+    private StockSlotRepository stockSlotRepository;
+
+    @Mock
+    private SoldOutRegistry soldOutRegistry;
+
+    @Mock
+    private StockChangeNotifier stockChangeNotifier;
+
+    @Test
+    void reserve_Success_PublishesChange() {
+        // Given
+        when(stockSlotRepository.findFirstAvailableSlotWithSkipLock(10L)).thenReturn(Optional.of(availableSlot()));
+
+        // When
+        boolean reserved = strategy.reserve(100L, 10L, 1L);
+
+        // Then: 가용 슬롯 수가 줄었으므로 화면 재고 갱신
+        assertThat(reserved).isTrue();
+        verify(stockChangeNotifier).changed(10L);
+    }
+
+    @Test
+    void reserve_NoSlot_DoesNotPublish() {
+        // Given
+        when(stockSlotRepository.findFirstAvailableSlotWithSkipLock(10L)).thenReturn(Optional.empty());
+        when(stockSlotRepository.countByProductIdAndStatus(10L, StockSlotStatus.AVAILABLE)).thenReturn(0L);
+
+        // When
+        boolean reserved = strategy.reserve(100L, 10L, 1L);
+
+        // Then
+        assertThat(reserved).isFalse();
+        verify(soldOutRegistry).markSoldOut(10L);
+        verifyNoInteractions(stockChangeNotifier);
+    }
+
+    @Test
+    void release_ReturnedSlots_PublishChange() {
+        // Given
+        when(stockSlotRepository.releaseByHoldId(100L, StockSlotStatus.RESERVED, StockSlotStatus.AVAILABLE))
+                .thenReturn(2);
+
+        // When
+        strategy.release(100L, 10L, 2L);
+
+        // Then
+        verify(stockChangeNotifier).changed(10L);
+        verify(soldOutRegistry).clear(10L);
+    }
+
+    @Test
+    void release_NothingReturned_DoesNotPublish() {
+        // Given: 이미 반환/확정된 선점
+        when(stockSlotRepository.releaseByHoldId(100L, StockSlotStatus.RESERVED, StockSlotStatus.AVAILABLE))
+                .thenReturn(0);
+
+        // When
+        strategy.release(100L, 10L, 2L);
+
+        // Then
+        verifyNoInteractions(stockChangeNotifier);
+    }
+
+    private static StockSlot availableSlot() {
+        return StockSlot.builder()
+                .productId(10L)
+                .status(StockSlotStatus.AVAILABLE)
+                .build();
+    }
+}
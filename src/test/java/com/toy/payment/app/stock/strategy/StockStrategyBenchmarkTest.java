@@ -0,0 +1,120 @@
+package com.toy.payment.app.stock.strategy;
+
+import com.toy.payment.domain.product.entity.Product;
+import com.toy.payment.domain.product.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재고 차감 전략 벤치마크 (비관적 락 vs 조건부 UPDATE)
+ *
+ * 같은 상품 1개에 동시 차감 요청을 보내고 전략별로 다음을 비교한다.
+ * - 처리 시간, 호출당 평균 지연
+ * - 호출당 DB 문장 수 (MySQL Questions 증가분, BEGIN/COMMIT/SET autocommit 포함 → 왕복 수 근사)
+ * - Row 락 대기 시간 합계 (Innodb_row_lock_time 증가분)
+ *
+ * 실행 (MySQL 필요, 다른 부하가 없는 DB에서): BENCHMARK=true ./gradlew test --tests '*StockStrategyBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "payment.reconcile.enabled=false",
+        "payment.webhook.worker.enabled=false",
+        "payment.cancel.worker.enabled=false",
+        "stock.reservation.expiry.enabled=false"
+})
+class StockStrategyBenchmarkTest {
+
+    private static final int CONCURRENCY = 50;
+    private static final int REQUESTS = 2_000;
+
+    @Autowired
+    private PessimisticLockStockStrategy pessimisticLockStrategy;
+    @Autowired
+    private ConditionalUpdateStockStrategy conditionalUpdateStrategy;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void pessimisticLock_vs_conditionalUpdate() throws Exception {
+        Result pessimistic = run(pessimisticLockStrategy);
+        Result conditional = run(conditionalUpdateStrategy);
+
+        pessimistic.print();
+        conditional.print();
+        assertThat(pessimistic.succeeded()).isEqualTo(REQUESTS);
+        assertThat(conditional.succeeded()).isEqualTo(REQUESTS);
+    }
+
+    private Result run(StockLockStrategy strategy) throws Exception {
+        // Given: 요청 수만큼 재고가 있는 상품
+        Product product = productRepository.save(Product.builder()
+                .name("bench-" + strategy.getStrategyName())
+                .price(100L)
+                .stock((long) REQUESTS)
+                .build());
+        Long productId = product.getId();
+
+        long questionsBefore = globalStatus("Questions");
+        long lockTimeBefore = globalStatus("Innodb_row_lock_time");
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        AtomicInteger succeeded = new AtomicInteger();
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    if (strategy.decreaseStock(productId, 1L)) {
+                        succeeded.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        long questions = globalStatus("Questions") - questionsBefore;
+        long lockTimeMillis = globalStatus("Innodb_row_lock_time") - lockTimeBefore;
+
+        // Then: 재고 정합성
+        Long remaining = productRepository.findById(productId).map(Product::getStock).orElseThrow();
+        assertThat(remaining).isEqualTo(REQUESTS - succeeded.get());
+
+        return new Result(strategy.getStrategyName(), succeeded.get(), elapsedMillis,
+                (double) questions / REQUESTS, lockTimeMillis);
+    }
+
+    private long globalStatus(String name) {
+        return jdbcTemplate.query("SHOW GLOBAL STATUS LIKE ?", rs -> rs.next() ? rs.getLong("Value") : 0L, name);
+    }
+
+    private record Result(String name, int succeeded, long elapsedMillis, double statementsPerCall,
+            long rowLockWaitMillis) {
+        void print() {
+            System.out.printf("[%s] succeeded=%d, elapsed=%dms, avg=%.2fms, statements/call=%.1f, rowLockWait=%dms%n",
+                    name, succeeded, elapsedMillis, (double) elapsedMillis * CONCURRENCY / REQUESTS,
+                    statementsPerCall, rowLockWaitMillis);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.toy.payment.config;
+
+import com.toy.payment.app.payment.standin.LatencyProfile;
+import com.toy.payment.app.payment.standin.PortOneStandInServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.EndpointDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PortOne HTTP 클라이언트 벤치마크 (HttpURLConnection vs 커넥션 풀)
+ * 
+ * 로컬 PG 대역 서버(PortOneStandInServer, 고정 지연)에 동시 요청을 보내 호출당 지연 시간을 비교하고,
+ * 커넥션 풀이 커넥션을 재사용하는지(커넥션당 요청 수), 풀 메트릭(portone.http.pool.*)이 한도 안에 있는지 검증한다.
+ * 실행: BENCHMARK=true ./gradlew test --tests '*PortOneHttpClientBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class PortOneHttpClientBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PortOneHttpClientBenchmarkTest.class);
+
+    private static final int CONCURRENCY = 64;
+    private static final int REQUESTS = 5_000;
+    private static final long PG_LATENCY_MS = 20;
+
+    private PortOneStandInServer standIn;
+    private String url;
+
+    @BeforeEach
+    void startStandIn() throws Exception {
+        standIn = new PortOneStandInServer(0, LatencyProfile.fixed(PG_LATENCY_MS), 0, 0, 0);
+        standIn.start();
+        String impUid = standIn.registerPaidPayment("order_1", 150);
+        url = standIn.getBaseUrl() + "/payments/" + impUid;
+    }
+
+    @AfterEach
+    void stopStandIn() {
+        standIn.stop();
+    }
+
+    @Test
+    void pooledClient_vs_simpleClient() throws Exception {
+        // Given
+        SimpleClientHttpRequestFactory simpleFactory = new SimpleClientHttpRequestFactory();
+        simpleFactory.setConnectTimeout(5000);
+        simpleFactory.setReadTimeout(30000);
+        RestTemplate simple = new RestTemplate(simpleFactory);
+
+        PortOneConfig config = new PortOneConfig();
+        PoolingHttpClientConnectionManager connectionManager = config.portOneConnectionManager(
+                CONCURRENCY, CONCURRENCY, 5000, 30000);
+        CloseableHttpClient httpClient = config.portOneHttpClient(connectionManager, 30000, 1000, 30);
+
+        // 요청별 HttpContext로 사용한 커넥션의 누적 요청 수 수집 (1보다 크면 keep-alive 재사용)
+        Queue<HttpClientContext> contexts = new ConcurrentLinkedQueue<>();
+        HttpComponentsClientHttpRequestFactory pooledFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        pooledFactory.setHttpContextFactory((method, uri) -> {
+            HttpClientContext context = HttpClientContext.create();
+            contexts.add(context);
+            return context;
+        });
+        RestTemplate pooled = new RestTemplate(pooledFactory);
+
+        MeterRegistry registry = new SimpleMeterRegistry();
+        config.portOneConnectionPoolMetrics(connectionManager).bindTo(registry);
+
+        try {
+            // 워밍업
+            run(simple, 500);
+            run(pooled, 500);
+            contexts.clear();
+
+            // When: 풀 메트릭을 주기적으로 샘플링하며 실행
+            List<Long> simpleLatencies = run(simple, REQUESTS);
+            AtomicLong maxLeased = new AtomicLong();
+            AtomicLong maxPending = new AtomicLong();
+            ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+            sampler.scheduleAtFixedRate(() -> {
+                maxLeased.accumulateAndGet((long) gauge(registry, "portone.http.pool.leased"), Math::max);
+                maxPending.accumulateAndGet((long) gauge(registry, "portone.http.pool.pending"), Math::max);
+            }, 0, 5, TimeUnit.MILLISECONDS);
+            List<Long> pooledLatencies;
+            try {
+                pooledLatencies = run(pooled, REQUESTS);
+            } finally {
+                sampler.shutdownNow();
+            }
+
+            // Then
+            log.info(summary("HttpURLConnection", simpleLatencies));
+            log.info(summary("HttpClient5 Pool", pooledLatencies));
+
+            long maxRequestsPerConnection = contexts.stream()
+                    .map(HttpClientContext::getEndpointDetails)
+                    .filter(details -> details != null)
+                    .mapToLong(EndpointDetails::getRequestCount)
+                    .max()
+                    .orElse(0);
+            double available = gauge(registry, "portone.http.pool.available");
+            log.info("[HttpClient5 Pool] maxRequestsPerConnection={}, maxLeased={}, maxPending={}, idleAfterRun={}",
+                    maxRequestsPerConnection, maxLeased.get(), maxPending.get(), available);
+
+            assertThat(pooledLatencies).hasSize(REQUESTS);
+            // 커넥션 재사용: 요청 수(5,000)보다 훨씬 적은 커넥션이 여러 요청을 처리
+            assertThat(maxRequestsPerConnection).isGreaterThan(1);
+            // 동시 요청 수 = 풀 크기이므로 사용 중 커넥션은 한도 이내, 끝나면 모두 반환되어 keep-alive 상태로 남음
+            assertThat(maxLeased.get()).isBetween(1L, (long) CONCURRENCY);
+            assertThat(gauge(registry, "portone.http.pool.max")).isEqualTo(CONCURRENCY);
+            assertThat(gauge(registry, "portone.http.pool.leased")).isZero();
+            assertThat(gauge(registry, "portone.http.pool.pending")).isZero();
+            assertThat(available).isBetween(1.0, (double) CONCURRENCY);
+        } finally {
+            httpClient.close();
+            connectionManager.close();
+        }
+    }
+
+    private List<Long> run(RestTemplate restTemplate, int requests) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                futures.add(executor.submit(() -> {
+                    long start = System.nanoTime();
+                    restTemplate.getForObject(url, String.class);
+                    return System.nanoTime() - start;
+                }));
+            }
+            List<Long> latencies = new ArrayList<>();
+            for (Future<Long> future : futures) {
+                latencies.add(future.get());
+            }
+            return latencies;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static double gauge(MeterRegistry registry, String name) {
+        return registry.get(name).gauge().value();
+    }
+
+    private static String summary(String name, List<Long> latencies) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        double avgMs = sorted.stream().mapToLong(Long::longValue).average().orElse(0) / 1_000_000.0;
+        double p50Ms = sorted.get(sorted.size() / 2) / 1_000_000.0;
+        double p99Ms = sorted.get((int) (sorted.size() * 0.99)) / 1_000_000.0;
+        return String.format("[%s] concurrency=%d, requests=%d, avg=%.2fms, p50=%.2fms, p99=%.2fms (PG latency %dms)",
+                name, CONCURRENCY, sorted.size(), avgMs, p50Ms, p99Ms, PG_LATENCY_MS);
+    }
+}
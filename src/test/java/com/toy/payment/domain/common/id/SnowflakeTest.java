@@ -0,0 +1,63 @@
+package com.toy.payment.domain.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeTest {
+
+    @Test
+    void ids_AreUnique_AndIncreasing() {
+        // Given
+        Snowflake snowflake = new Snowflake(7);
+        Set<Long> ids = new HashSet<>();
+        long previous = 0;
+
+        // When & Then: ms당 시퀀스(4096)를 넘는 개수를 연속 생성
+        for (int i = 0; i < 100_000; i++) {
+            long id = snowflake.nextId();
+            assertThat(id).isGreaterThan(previous);
+            ids.add(id);
+            previous = id;
+        }
+        assertThat(ids).hasSize(100_000);
+    }
+
+    @Test
+    void differentNodes_ProduceDifferentIds_InSameMillisecond() {
+        // Given: 시계를 고정
+        Snowflake node1 = fixedClock(1, 1_800_000_000_000L);
+        Snowflake node2 = fixedClock(2, 1_800_000_000_000L);
+
+        // When & Then
+        assertThat(node1.nextId()).isNotEqualTo(node2.nextId());
+    }
+
+    @Test
+    void timestamp_CanBeExtracted() {
+        Snowflake snowflake = fixedClock(1, 1_800_000_000_000L);
+
+        assertThat(Snowflake.extractTimestamp(snowflake.nextId()))
+                .isEqualTo(Instant.ofEpochMilli(1_800_000_000_000L));
+    }
+
+    @Test
+    void invalidNodeId_IsRejected() {
+        assertThatThrownBy(() -> new Snowflake(Snowflake.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Snowflake fixedClock(long nodeId, long millis) {
+        return new Snowflake(nodeId) {
+            @Override
+            long currentTimeMillis() {
+                return millis;
+            }
+        };
+    }
+}
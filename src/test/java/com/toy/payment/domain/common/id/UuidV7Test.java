@@ -0,0 +1,88 @@
+package com.toy.payment.domain.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7Test {
+
+    @Test
+    void uuids_AreUnique_AndByteOrderFollowsCreationOrder() {
+        // Given
+        UuidV7 generator = new UuidV7();
+        Set<UUID> uuids = new HashSet<>();
+        byte[] previous = new byte[16];
+
+        // When & Then: ms당 카운터(4096)를 넘는 개수를 연속 생성
+        for (int i = 0; i < 100_000; i++) {
+            UUID uuid = generator.next();
+            byte[] bytes = toBytes(uuid);
+            assertThat(Arrays.compareUnsigned(bytes, previous)).isPositive();
+            uuids.add(uuid);
+            previous = bytes;
+        }
+        assertThat(uuids).hasSize(100_000);
+    }
+
+    @Test
+    void versionAndVariant_AreSet() {
+        UUID uuid = UuidV7.generate();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void timestamp_CanBeExtracted() {
+        UuidV7 generator = new UuidV7() {
+            @Override
+            long currentTimeMillis() {
+                return 1_800_000_000_000L;
+            }
+        };
+
+        assertThat(UuidV7.extractTimestamp(generator.next()))
+                .isEqualTo(Instant.ofEpochMilli(1_800_000_000_000L));
+    }
+
+    @Test
+    void clockMovingBackwards_KeepsOrder() {
+        long[] now = { 1_800_000_000_000L };
+        UuidV7 generator = new UuidV7() {
+            @Override
+            long currentTimeMillis() {
+                return now[0];
+            }
+        };
+
+        UUID first = generator.next();
+        now[0] -= 5_000;
+        UUID second = generator.next();
+
+        assertThat(Arrays.compareUnsigned(toBytes(second), toBytes(first))).isPositive();
+    }
+
+    @Test
+    void parse_AcceptsOnlyCanonicalForm() {
+        UUID uuid = UuidV7.generate();
+
+        assertThat(UuidV7.parse(uuid.toString())).contains(uuid);
+        assertThat(UuidV7.parse("1-1-1-1-1")).isEmpty();
+        assertThat(UuidV7.parse("order_1")).isEmpty();
+        assertThat(UuidV7.parse(null)).isEmpty();
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
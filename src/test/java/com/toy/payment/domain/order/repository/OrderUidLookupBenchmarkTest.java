@@ -0,0 +1,134 @@
+package com.toy.payment.domain.order.repository;
+
+import com.toy.payment.domain.common.id.UuidV7;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문번호 조회 벤치마크 (CHAR(36) 랜덤 UUIDv4 vs BINARY(16) UUIDv7)
+ *
+ * 같은 건수를 두 임시 테이블에 적재한 뒤 적재 시간, 유니크 인덱스 크기, 단건 조회 지연(p50/p99)을 비교한다.
+ * 실제 orders 테이블은 건드리지 않는다.
+ *
+ * 실행 (MySQL 필요, 기본 1,000만 건):
+ * BENCHMARK=true BENCH_ORDERS=10000000 ./gradlew test --tests '*OrderUidLookupBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=true",
+        "payment.reconcile.enabled=false",
+        "payment.webhook.worker.enabled=false",
+        "payment.cancel.worker.enabled=false"
+})
+class OrderUidLookupBenchmarkTest {
+
+    private static final String CHAR_TABLE = "bench_order_uid_char";
+    private static final String BINARY_TABLE = "bench_order_uid_binary";
+    private static final int BATCH_SIZE = 5_000;
+    private static final int LOOKUPS = 10_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void dropTables() {
+        jdbcTemplate.execute("drop table if exists " + CHAR_TABLE);
+        jdbcTemplate.execute("drop table if exists " + BINARY_TABLE);
+    }
+
+    @Test
+    void randomCharUuid_vs_timeOrderedBinaryUuid() {
+        long rows = Long.parseLong(System.getenv().getOrDefault("BENCH_ORDERS", "10000000"));
+
+        Result chars = run(CHAR_TABLE, "char(36)", rows,
+                () -> UUID.randomUUID().toString(), uid -> uid);
+        Result binary = run(BINARY_TABLE, "binary(16)", rows,
+                UuidV7::generate, uid -> toBytes((UUID) uid));
+
+        chars.print();
+        binary.print();
+        assertThat(binary.rows()).isEqualTo(rows);
+    }
+
+    private Result run(String table, String columnType, long rows, Supplier<Object> uidSupplier,
+            Function<Object, Object> toParam) {
+        jdbcTemplate.execute("drop table if exists " + table);
+        jdbcTemplate.execute("create table " + table + " (id bigint primary key, order_uid " + columnType
+                + " not null, status varchar(20) not null, unique key uk_order_uid (order_uid))");
+
+        // 적재 (조회 대상은 저수지 샘플링으로 전체 구간에서 고르게 선택)
+        List<Object> samples = new ArrayList<>(LOOKUPS);
+        long insertStart = System.nanoTime();
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (long id = 1; id <= rows; id++) {
+            Object uid = uidSupplier.get();
+            if (samples.size() < LOOKUPS) {
+                samples.add(uid);
+            } else {
+                long slot = ThreadLocalRandom.current().nextLong(id);
+                if (slot < LOOKUPS) {
+                    samples.set((int) slot, uid);
+                }
+            }
+            batch.add(new Object[] { id, toParam.apply(uid), "PENDING" });
+            if (batch.size() == BATCH_SIZE || id == rows) {
+                jdbcTemplate.batchUpdate("insert into " + table + " (id, order_uid, status) values (?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+        long insertMillis = (System.nanoTime() - insertStart) / 1_000_000;
+        jdbcTemplate.execute("analyze table " + table);
+
+        Long indexBytes = jdbcTemplate.queryForObject(
+                "select stat_value * @@innodb_page_size from mysql.innodb_index_stats "
+                        + "where database_name = database() and table_name = ? and index_name = 'uk_order_uid' "
+                        + "and stat_name = 'size'",
+                Long.class, table);
+
+        // 단건 조회 지연
+        long[] latencies = new long[samples.size()];
+        for (int i = 0; i < samples.size(); i++) {
+            long start = System.nanoTime();
+            String status = jdbcTemplate.queryForObject("select status from " + table + " where order_uid = ?",
+                    String.class, toParam.apply(samples.get(i)));
+            latencies[i] = System.nanoTime() - start;
+            assertThat(status).isEqualTo("PENDING");
+        }
+        Arrays.sort(latencies);
+
+        return new Result(table, rows, insertMillis, indexBytes == null ? -1 : indexBytes,
+                latencies[latencies.length / 2] / 1_000, latencies[(int) (latencies.length * 0.99)] / 1_000);
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    private record Result(String table, long rows, long insertMillis, long indexBytes, long p50Micros,
+            long p99Micros) {
+        void print() {
+            System.out.printf("[%s] rows=%d, insert=%dms, uniqueIndex=%.1fMB, lookup p50=%dus, p99=%dus%n",
+                    table, rows, insertMillis, indexBytes / 1024.0 / 1024.0, p50Micros, p99Micros);
+        }
+    }
+}